@@ -0,0 +1,94 @@
+package com.ecommerce.application.lock;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 락 어스펙트의 호출당 키 해석 비용 (Redis 왕복 제외)
+ * - parsePerCall: 기존 방식 (호출마다 parseExpression 후 해석 실행)
+ * - cachedCompiled: LockExpressionEvaluator (메서드별 캐시 + IMMEDIATE 컴파일)
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LockKeyResolutionBenchmark {
+
+    private static final String KEY_EXPRESSION = "'coupon:issue' + #couponEventId";
+    private static final String KEY_PROVIDER = "getLockKeys(#userId)";
+    private static final String CONDITION = "lockRequired";
+
+    public static class Target {
+        private final List<String> keys = List.of("product:stock:1", "product:stock:2", "point:use:1");
+
+        public boolean isLockRequired() {
+            return true;
+        }
+
+        public List<String> getLockKeys(Long userId) {
+            return keys;
+        }
+
+        public void issue(Long couponEventId) {
+        }
+
+        public void order(Long userId) {
+        }
+    }
+
+    private final ExpressionParser legacyParser = new SpelExpressionParser();
+    private final LockExpressionEvaluator evaluator = new LockExpressionEvaluator();
+    private final Target target = new Target();
+    private final Object[] args = {42L};
+
+    private Method issueMethod;
+    private Method orderMethod;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        issueMethod = Target.class.getMethod("issue", Long.class);
+        orderMethod = Target.class.getMethod("order", Long.class);
+    }
+
+    @Benchmark
+    public Object singleKey_parsePerCall() {
+        StandardEvaluationContext context = new StandardEvaluationContext(target);
+        context.setVariable("couponEventId", args[0]);
+        if (!Boolean.TRUE.equals(legacyParser.parseExpression(CONDITION).getValue(context, Boolean.class))) {
+            return null;
+        }
+        return legacyParser.parseExpression(KEY_EXPRESSION).getValue(context);
+    }
+
+    @Benchmark
+    public Object singleKey_cachedCompiled() {
+        EvaluationContext context = evaluator.createContext(issueMethod, target, args);
+        if (!Boolean.TRUE.equals(evaluator.evaluate(issueMethod, target, CONDITION, context, Boolean.class))) {
+            return null;
+        }
+        return evaluator.evaluate(issueMethod, target, KEY_EXPRESSION, context);
+    }
+
+    @Benchmark
+    public Object keyProvider_parsePerCall() {
+        StandardEvaluationContext context = new StandardEvaluationContext(target);
+        context.setVariable("userId", args[0]);
+        return legacyParser.parseExpression(KEY_PROVIDER).getValue(context);
+    }
+
+    @Benchmark
+    public Object keyProvider_cachedCompiled() {
+        EvaluationContext context = evaluator.createContext(orderMethod, target, args);
+        return evaluator.evaluate(orderMethod, target, KEY_PROVIDER, context);
+    }
+}
@@ -0,0 +1,78 @@
+package com.ecommerce.domain.common.sketch;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 근사 Top-K 증가 처리량 (Zipf(1.1) 분포 상품 5만 개, 카운터 2,000개)
+ * - add_singleThread: 스레드 하나가 독점
+ * - add_shared: 8 스레드가 인스턴스 하나를 공유 (synchronized 경합 포함)
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpaceSavingTopKBenchmark {
+
+    private static final int PRODUCTS = 50_000;
+    private static final int STREAM_SIZE = 1 << 20;
+    private static final int CAPACITY = 2_000;
+
+    private long[] stream;
+    private SpaceSavingTopK<Long> single;
+    private SpaceSavingTopK<Long> shared;
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int next = new Random().nextInt(STREAM_SIZE);
+
+        int next() {
+            next = (next + 1) & (STREAM_SIZE - 1);
+            return next;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        double[] cdf = zipfCdf(PRODUCTS, 1.1);
+        Random random = new Random(7);
+        stream = new long[STREAM_SIZE];
+        for (int i = 0; i < STREAM_SIZE; i++) {
+            int index = Arrays.binarySearch(cdf, random.nextDouble());
+            stream[i] = (index >= 0 ? index : -index - 1) + 1L;
+        }
+        single = new SpaceSavingTopK<>(CAPACITY);
+        shared = new SpaceSavingTopK<>(CAPACITY);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void add_singleThread(Cursor cursor) {
+        single.add(stream[cursor.next()], 1);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void add_shared(Cursor cursor) {
+        shared.add(stream[cursor.next()], 1);
+    }
+
+    private static double[] zipfCdf(int n, double s) {
+        double[] cdf = new double[n];
+        double sum = 0;
+        for (int i = 0; i < n; i++) {
+            sum += 1.0 / Math.pow(i + 1, s);
+            cdf[i] = sum;
+        }
+        for (int i = 0; i < n; i++) {
+            cdf[i] /= sum;
+        }
+        return cdf;
+    }
+}
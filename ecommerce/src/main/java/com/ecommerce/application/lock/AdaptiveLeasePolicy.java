@@ -0,0 +1,69 @@
+package com.ecommerce.application.lock;
+
+import com.ecommerce.application.lock.constant.LockType;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LeaseMode.WATCHDOG 임대 시간 결정
+ * - prefix × LockType별 최근 보유 시간 p99 × multiplier를 [minMs, maxMs]로 제한
+ * - 표본이 minSamples보다 적으면 어노테이션의 leaseTime 사용
+ * - 여러 키를 함께 잡으면 그중 가장 긴 값 (p99 계산 비용 때문에 refreshMs마다 미리 계산해 둠)
+ */
+@Component
+@RequiredArgsConstructor
+public class AdaptiveLeasePolicy {
+
+    private final LockMetrics lockMetrics;
+
+    @Value("${ecommerce.lock.lease.multiplier:3}")
+    private double multiplier;
+
+    @Value("${ecommerce.lock.lease.min-ms:1000}")
+    private long minMs;
+
+    @Value("${ecommerce.lock.lease.max-ms:30000}")
+    private long maxMs;
+
+    @Value("${ecommerce.lock.lease.min-samples:100}")
+    private long minSamples;
+
+    private final Map<LockMetrics.MeterKey, Long> leases = new ConcurrentHashMap<>();
+
+    public long leaseFor(List<String> keys, LockType type, long fallbackMs) {
+        long lease = 0;
+        for (String key : keys) {
+            Long observed = leases.get(lockMetrics.meterKey(key, type));
+            if (observed == null) {
+                return fallbackMs;
+            }
+            lease = Math.max(lease, observed);
+        }
+        return lease > 0 ? lease : fallbackMs;
+    }
+
+    @Scheduled(fixedDelayString = "${ecommerce.lock.lease.refresh-ms:10000}")
+    public void refresh() {
+        lockMetrics.getMeters().forEach((key, meters) -> {
+            HistogramSnapshot snapshot = meters.holdTime().takeSnapshot();
+            if (snapshot.count() < minSamples) {
+                return;
+            }
+            for (ValueAtPercentile value : snapshot.percentileValues()) {
+                if (value.percentile() == 0.99) {
+                    long p99 = (long) Math.ceil(value.value(TimeUnit.MILLISECONDS));
+                    leases.put(key, Math.min(maxMs, Math.max(minMs, (long) (p99 * multiplier))));
+                }
+            }
+        });
+    }
+}
@@ -1,5 +1,6 @@
 package com.ecommerce.application.lock;
 
+import com.ecommerce.application.lock.constant.LeaseMode;
 import com.ecommerce.application.lock.constant.LockType;
 
 import java.lang.annotation.ElementType;
@@ -11,7 +12,24 @@ import java.lang.annotation.Target;
 @Retention(RetentionPolicy.RUNTIME)
 public @interface DistributedLock {
     String key();
+
+    /**
+     * 획득 방식 (SIMPLE: 1회 시도, SPIN: 백오프 재시도, PUB_SUB: Redisson 기본, FAIR: 대기 순서 보장)
+     * SIMPLE/SPIN은 자동 연장이 없으므로 leaseTime이 0보다 커야 함
+     */
     LockType type() default LockType.PUB_SUB;
     long waitTime() default 3000L;
     long leaseTime() default 5000L;
+
+    /**
+     * 임대 시간 방식 (WATCHDOG이면 leaseTime은 관측된 보유 시간이 쌓이기 전까지의 기본값)
+     */
+    LeaseMode leaseMode() default LeaseMode.FIXED;
+
+    /**
+     * 락 적용 조건 SpEL (대상 빈이 root 객체, 프로퍼티는 public getter로 읽음)
+     * false로 평가되면 락 없이 실행
+     * 예: "lockRequired" (isLockRequired())
+     */
+    String condition() default "";
 }
@@ -0,0 +1,324 @@
+package com.ecommerce.application.lock;
+
+import com.ecommerce.application.lock.constant.LeaseMode;
+import com.ecommerce.application.lock.constant.LockConstants;
+import com.ecommerce.application.lock.constant.LockType;
+import com.ecommerce.application.lock.exception.LockAcquisitionException;
+import com.ecommerce.application.lock.strategy.LockHandle;
+import com.ecommerce.application.lock.strategy.LockStrategyRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 락 획득 → 실행 → 해제 (DistributedLockAspect, MultiDistributedLockAspect 공용)
+ * - 2단계 락: 키별 노드 로컬 ReentrantLock을 먼저 잡고, 로컬 승자만 Redis 락(LockType별 방식)을 경쟁
+ *   → 같은 노드의 대기자는 Redis pub/sub이 아닌 JVM 안에서 대기 (노드당 키별 Redis 대기자 1개)
+ * - 해제 시 같은 키의 로컬 대기자가 있으면 Redis 락을 풀지 않고 넘겨줌 (handoffBudget회까지, 이후엔 다른 노드에 양보)
+ * - 여러 키는 정렬된 순서대로 키마다 로컬 → Redis 순으로 획득 (모든 노드가 같은 순서라 데드락 없음)
+ * - 메서드에서 던진 예외는 그대로 전파 (획득 실패/인터럽트만 LockAcquisitionException)
+ * - 대기/보유 시간, 타임아웃, 인터럽트, 넘겨주기는 LockMetrics로 집계 (획득 성공 로그는 DEBUG)
+ * - LeaseMode.WATCHDOG: 관측 p99 기반 임대 시간으로 잡고 실행 중에만 LockWatchdog이 연장
+ * - 보유 중이라고 알고 있던 락이 임대 만료로 먼저 풀려 있으면 lock.lease.expired로 집계
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DistributedLockExecutor {
+
+    private final LockStrategyRegistry lockStrategyRegistry;
+    private final LockMetrics lockMetrics;
+    private final AdaptiveLeasePolicy adaptiveLeasePolicy;
+    private final LockWatchdog lockWatchdog;
+
+    /**
+     * Redis 락을 해제하지 않고 로컬 대기자에게 연속으로 넘겨주는 최대 횟수 (0이면 매번 해제)
+     */
+    @Value("${ecommerce.lock.local.handoff-budget:16}")
+    private int handoffBudget;
+
+    private final Map<String, KeySlot> slots = new ConcurrentHashMap<>();
+
+    @FunctionalInterface
+    public interface LockedCall {
+        Object call() throws Throwable;
+    }
+
+    /**
+     * 키별 노드 로컬 상태 (redis/type/handoffs/leaseDeadline은 local 보유 스레드만 접근)
+     */
+    private static final class KeySlot {
+        private final String key;
+        private final ReentrantLock local = new ReentrantLock();
+        private final AtomicInteger users = new AtomicInteger();  // 보유 + 대기 스레드 수
+
+        private LockHandle redis;
+        private LockType type;
+        private int handoffs;
+        private long leaseDeadline;
+
+        private KeySlot(String key) {
+            this.key = key;
+        }
+    }
+
+    /**
+     * @param lockKeys 정렬된 락 키 (LOCK_PREFIX 포함)
+     * @param leaseTime FIXED면 그대로, WATCHDOG이면 관측된 보유 시간이 부족할 때의 기본값
+     */
+    public Object execute(
+            List<String> lockKeys,
+            LockType type,
+            long waitTime,
+            long leaseTime,
+            LeaseMode leaseMode,
+            LockedCall call
+    ) throws Throwable {
+        long lease = leaseMode == LeaseMode.WATCHDOG
+                ? adaptiveLeasePolicy.leaseFor(lockKeys, type, leaseTime)
+                : leaseTime;
+
+        List<KeySlot> held = acquire(lockKeys, type, waitTime, lease);
+        long acquiredAt = System.nanoTime();
+        LockWatchdog.Renewal renewal = leaseMode == LeaseMode.WATCHDOG
+                ? lockWatchdog.start(ownedHandles(held), type, lease)
+                : null;
+        try {
+            return call.call();
+        } finally {
+            Set<String> expiredKeys = renewal != null ? renewal.stop() : Set.of();
+            releaseAll(held, expiredKeys);
+            lockMetrics.recordHold(lockKeys, type, System.nanoTime() - acquiredAt);
+        }
+    }
+
+    /**
+     * 이번 호출이 잡은 Redis 락 (재진입한 안쪽 호출은 바깥 호출이 연장)
+     */
+    private Map<String, LockHandle> ownedHandles(List<KeySlot> held) {
+        Map<String, LockHandle> handles = new LinkedHashMap<>();
+        for (KeySlot slot : held) {
+            if (slot.local.getHoldCount() == 1 && slot.redis != null) {
+                handles.put(slot.key, slot.redis);
+            }
+        }
+        return handles;
+    }
+
+    private List<KeySlot> acquire(List<String> lockKeys, LockType type, long waitTime, long leaseTime) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(waitTime);
+        List<KeySlot> held = new ArrayList<>(lockKeys.size());
+
+        try {
+            for (String key : lockKeys) {
+                KeySlot slot = register(key);
+                long startedAt = System.nanoTime();
+                boolean acquired;
+                try {
+                    acquired = acquire(slot, type, deadline, leaseTime);
+                } catch (InterruptedException e) {
+                    unregister(slot);
+                    lockMetrics.recordInterrupted(key, type);
+                    throw e;
+                } catch (RuntimeException e) {
+                    unregister(slot);
+                    throw e;
+                }
+                lockMetrics.recordWait(key, type, System.nanoTime() - startedAt);
+
+                if (!acquired) {
+                    unregister(slot);
+                    lockMetrics.recordTimeout(key, type);
+                    log.warn(
+                            "[FAIL] Acquire lock. type={}, keys={}, threadId={}",
+                            type,
+                            lockKeys,
+                            Thread.currentThread().getId()
+                    );
+                    throw new LockAcquisitionException("락 획득 시 타임아웃 실패 : " + lockKeys);
+                }
+                held.add(slot);
+            }
+        } catch (InterruptedException e) {
+            releaseAll(held, Set.of());
+            Thread.currentThread().interrupt();
+            log.error(
+                    "[FAIL] Lock acquisition interrupted. type={}, keys={}, threadId={}",
+                    type,
+                    lockKeys,
+                    Thread.currentThread().getId(),
+                    e
+            );
+            throw new LockAcquisitionException("락 획득 시 인터럽트 발생 : " + lockKeys, e);
+        } catch (RuntimeException e) {
+            releaseAll(held, Set.of());
+            throw e;
+        }
+
+        log.debug(
+                "[SUCCESS] Acquired lock. type={}, keys={}, threadId={}",
+                type,
+                lockKeys,
+                Thread.currentThread().getId()
+        );
+        return held;
+    }
+
+    /**
+     * 로컬 락 → Redis 락 (이전 로컬 보유자가 넘겨준 Redis 락이 있으면 그대로 사용)
+     */
+    private boolean acquire(KeySlot slot, LockType type, long deadline, long leaseTime) throws InterruptedException {
+        // SIMPLE은 1회 시도이므로 로컬에서도 기다리지 않음
+        long localWait = type == LockType.SIMPLE ? 0 : deadline - System.nanoTime();
+        if (!slot.local.tryLock(localWait, TimeUnit.NANOSECONDS)) {
+            return false;
+        }
+
+        try {
+            // 같은 스레드의 재진입: 바깥 호출이 이미 Redis 락 보유
+            if (slot.local.getHoldCount() > 1) {
+                return true;
+            }
+
+            if (slot.redis != null) {
+                if (slot.type == type && renewIfNeeded(slot, leaseTime)) {
+                    lockMetrics.recordHandoff(slot.key, type);
+                    return true;
+                }
+                if (slot.type == type) {
+                    // 넘겨받은 락이 이미 만료됨
+                    lockMetrics.recordLeaseExpired(slot.key, type);
+                }
+                dropRedisLock(slot);
+            }
+
+            long remainingMs = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            LockHandle handle = lockStrategyRegistry.get(type)
+                    .tryLock(LockConstants.redisKey(type, slot.key), Math.max(0, remainingMs), leaseTime);
+            if (handle == null) {
+                slot.local.unlock();
+                return false;
+            }
+
+            slot.redis = handle;
+            slot.type = type;
+            slot.handoffs = 0;
+            slot.leaseDeadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(leaseTime);
+            return true;
+        } catch (InterruptedException | RuntimeException e) {
+            slot.local.unlock();
+            throw e;
+        }
+    }
+
+    /**
+     * 넘겨받은 Redis 락의 남은 임대 시간이 절반 미만이면 연장 (leaseTime이 없으면 Redisson watchdog이 연장)
+     */
+    private boolean renewIfNeeded(KeySlot slot, long leaseTime) {
+        if (leaseTime <= 0) {
+            return true;
+        }
+        long remaining = slot.leaseDeadline - System.nanoTime();
+        if (remaining >= TimeUnit.MILLISECONDS.toNanos(leaseTime) / 2) {
+            return true;
+        }
+        if (!slot.redis.extend(leaseTime)) {
+            return false;
+        }
+        slot.leaseDeadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(leaseTime);
+        return true;
+    }
+
+    /**
+     * @param expiredKeys watchdog이 실행 중 만료를 이미 확인(집계)한 키
+     */
+    private void release(KeySlot slot, Set<String> expiredKeys) {
+        try {
+            if (slot.local.getHoldCount() == 1 && slot.redis != null) {
+                boolean expired = expiredKeys.contains(slot.key);
+                boolean handoff = !expired && slot.users.get() > 1 && slot.handoffs < handoffBudget;
+                if (handoff) {
+                    slot.handoffs++;
+                } else {
+                    LockType type = slot.type;
+                    if (!dropRedisLock(slot) && !expired) {
+                        lockMetrics.recordLeaseExpired(slot.key, type);
+                        log.warn("실행 중 락 임대 만료 - key: {}", slot.key);
+                    }
+                }
+            }
+        } finally {
+            slot.local.unlock();
+            unregister(slot);
+        }
+    }
+
+    private void releaseAll(List<KeySlot> held, Set<String> expiredKeys) {
+        for (int i = held.size() - 1; i >= 0; i--) {
+            release(held.get(i), expiredKeys);
+        }
+    }
+
+    /**
+     * @return 해제했으면 true, 이미 만료되어 있었으면 false (Redis 오류로 알 수 없으면 true)
+     */
+    private boolean dropRedisLock(KeySlot slot) {
+        LockHandle handle = slot.redis;
+        slot.redis = null;
+        slot.type = null;
+        slot.handoffs = 0;
+        try {
+            return handle.release();
+        } catch (RuntimeException e) {
+            log.warn("Redis 락 해제 실패, 임대 만료로 해제됨 - key: {}, cause: {}", slot.key, e.getMessage());
+            return true;
+        }
+    }
+
+    private KeySlot register(String key) {
+        return slots.compute(key, (k, slot) -> {
+            KeySlot current = slot != null ? slot : new KeySlot(k);
+            current.users.incrementAndGet();
+            return current;
+        });
+    }
+
+    /**
+     * 마지막 사용자가 빠지면 슬롯 제거
+     * - 넘겨주려던 대기자가 타임아웃으로 빠진 경우 남아 있는 Redis 락도 여기서 해제
+     */
+    private void unregister(KeySlot slot) {
+        boolean[] removed = new boolean[1];
+        slots.computeIfPresent(slot.key, (k, current) -> {
+            if (current != slot) {
+                return current;
+            }
+            if (current.users.decrementAndGet() == 0) {
+                removed[0] = true;
+                return null;
+            }
+            return current;
+        });
+
+        if (removed[0] && slot.local.tryLock()) {
+            try {
+                if (slot.redis != null) {
+                    dropRedisLock(slot);
+                }
+            } finally {
+                slot.local.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.ecommerce.application.lock;
+
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 락 어노테이션 SpEL 평가 (DistributedLock.key/condition, MultiDistributedLock.keyProvider 공용)
+ * - 표현식은 (메서드, 대상 클래스, 표현식) 단위로 한 번만 파싱해 재사용
+ * - IMMEDIATE 컴파일 모드: 첫 평가 이후 바이트코드로 컴파일되어 이후 호출은 리플렉션 해석 없이 실행
+ * - 파라미터 이름도 메서드별로 한 번만 조회
+ */
+@Component
+public class LockExpressionEvaluator {
+
+    private final SpelExpressionParser parser = new SpelExpressionParser(
+            new SpelParserConfiguration(SpelCompilerMode.IMMEDIATE, LockExpressionEvaluator.class.getClassLoader()));
+    private final ParameterNameDiscoverer parameterNameDiscoverer = new DefaultParameterNameDiscoverer();
+
+    private final Map<ExpressionKey, Expression> expressions = new ConcurrentHashMap<>();
+    private final Map<Method, String[]> parameterNames = new ConcurrentHashMap<>();
+
+    private record ExpressionKey(Method method, Class<?> targetClass, String expression) {}
+
+    /**
+     * 평가 컨텍스트 생성 (대상 빈을 root 객체로, 메서드 파라미터를 변수로 등록)
+     */
+    public EvaluationContext createContext(Method method, Object target, Object[] args) {
+        StandardEvaluationContext context = new StandardEvaluationContext(target);
+
+        String[] names = parameterNames.computeIfAbsent(method, this::discoverParameterNames);
+        for (int i = 0; i < names.length && i < args.length; i++) {
+            context.setVariable(names[i], args[i]);
+        }
+        return context;
+    }
+
+    public <T> T evaluate(Method method, Object target, String expression, EvaluationContext context, Class<T> type) {
+        return expressionFor(method, target.getClass(), expression).getValue(context, type);
+    }
+
+    public Object evaluate(Method method, Object target, String expression, EvaluationContext context) {
+        return expressionFor(method, target.getClass(), expression).getValue(context);
+    }
+
+    private Expression expressionFor(Method method, Class<?> targetClass, String expression) {
+        return expressions.computeIfAbsent(
+                new ExpressionKey(method, targetClass, expression),
+                key -> parser.parseExpression(key.expression()));
+    }
+
+    private String[] discoverParameterNames(Method method) {
+        String[] names = parameterNameDiscoverer.getParameterNames(method);
+        return names != null ? names : new String[0];
+    }
+}
@@ -0,0 +1,51 @@
+package com.ecommerce.application.lock;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 락 키 생성 시 읽은 데이터를 메서드 본문에 넘기는 스레드 로컬 저장소
+ * - 락 어스펙트가 키 평가 직전에 열고 메서드 실행이 끝나면 닫음 (중첩 호출 시 바깥 범위 복원)
+ * - keyProvider에서 put, 본문에서 get (범위 밖에서 put은 무시, get은 null)
+ * - 예: 주문 락 키를 만들며 읽은 장바구니 상품/분할 재고 상품을 본문에서 재사용해 분할 재고 재조회 제거
+ */
+public final class LockKeyContext {
+
+    private static final ThreadLocal<Map<String, Object>> HOLDER = new ThreadLocal<>();
+
+    private LockKeyContext() {
+    }
+
+    public static void put(String name, Object value) {
+        Map<String, Object> data = HOLDER.get();
+        if (data != null) {
+            data.put(name, value);
+        }
+    }
+
+    public static <T> T get(String name, Class<T> type) {
+        Map<String, Object> data = HOLDER.get();
+        if (data == null) {
+            return null;
+        }
+        Object value = data.get(name);
+        return type.isInstance(value) ? type.cast(value) : null;
+    }
+
+    /**
+     * @return 이전 범위 (close에 그대로 전달)
+     */
+    static Map<String, Object> open() {
+        Map<String, Object> previous = HOLDER.get();
+        HOLDER.set(new HashMap<>());
+        return previous;
+    }
+
+    static void close(Map<String, Object> previous) {
+        if (previous == null) {
+            HOLDER.remove();
+        } else {
+            HOLDER.set(previous);
+        }
+    }
+}
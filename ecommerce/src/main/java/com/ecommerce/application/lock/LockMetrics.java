@@ -0,0 +1,256 @@
+package com.ecommerce.application.lock;
+
+import com.ecommerce.application.lock.constant.LockConstants;
+import com.ecommerce.application.lock.constant.LockType;
+import com.ecommerce.domain.common.sketch.SpaceSavingTopK;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 분산 락 계측 (락 키 prefix × LockType 단위)
+ * - lock.wait: 키별 획득 대기 시간 (로컬 대기 + Redis 획득), lock.hold: 획득 후 해제까지 보유 시간
+ * - lock.timeout / lock.interrupted: 획득 실패 수, lock.handoff: 로컬 대기자에게 Redis 락을 넘겨준 수
+ * - lock.lease.expired: 보유 중이라고 알고 있던 Redis 락이 임대 시간 만료로 먼저 풀린 수 (실행 중 보호 상실)
+ * - prefix는 키 끝의 ID를 뗀 값 (product:stock:12 → product:stock, coupon:issue7 → coupon:issue)
+ * - 경합 키 Top-K: 키별 대기 시간을 Space-Saving 스케치에 누적, top-keys-window-ms마다 이전/현재 창을 교대
+ *   (락 획득마다 스케치의 모니터를 잡지 않도록 키별 LongAdder에 모았다가 창 교대/조회/버퍼가 찰 때 스케치에 병합)
+ */
+@Component
+@RequiredArgsConstructor
+public class LockMetrics {
+
+    private static final int MAX_PREFIXES = 64;
+    private static final String OTHER_PREFIX = "other";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${ecommerce.lock.metrics.top-keys-capacity:500}")
+    private int topKeysCapacity;
+
+    private final Map<MeterKey, Meters> meters = new ConcurrentHashMap<>();
+    private final Map<String, String> prefixes = new ConcurrentHashMap<>();
+
+    private volatile Window currentWindow;
+    private volatile Window previousWindow;
+
+    public record MeterKey(String prefix, LockType type) {}
+
+    public record Meters(
+            Timer waitTime,
+            Timer holdTime,
+            Counter timeout,
+            Counter interrupted,
+            Counter handoff,
+            Counter leaseExpired
+    ) {}
+
+    /**
+     * @param waitMillis 창(이전 + 현재) 동안 누적된 추정 대기 시간
+     * @param errorMillis 추정값의 최대 과대 추정 폭
+     */
+    public record ContendedKey(String key, long waitMillis, long errorMillis) {}
+
+    /**
+     * 경합 키 창 (스케치 + 아직 병합하지 않은 키별 대기 시간)
+     */
+    private static final class Window {
+        private final SpaceSavingTopK<String> sketch;
+        private final Map<String, LongAdder> pending = new ConcurrentHashMap<>();
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Window(int capacity) {
+            this.sketch = new SpaceSavingTopK<>(capacity);
+        }
+
+        /**
+         * 모아 둔 대기 시간을 스케치에 병합
+         * - 키를 먼저 꺼내므로 동시에 병합해도 같은 값을 두 번 더하지 않음
+         *   (꺼내는 순간 같은 LongAdder에 더하던 기록은 유실될 수 있음 - 근사 집계라 허용)
+         */
+        private void drain() {
+            for (String key : pending.keySet()) {
+                LongAdder adder = pending.remove(key);
+                if (adder != null) {
+                    sketch.add(key, adder.sum());
+                }
+            }
+        }
+    }
+
+    @PostConstruct
+    public void init() {
+        rotateWindow();
+    }
+
+    public void recordWait(String key, LockType type, long nanos) {
+        meters(key, type).waitTime().record(nanos, TimeUnit.NANOSECONDS);
+
+        Window window = currentWindow;
+        window.pending.computeIfAbsent(stripPrefix(key), k -> new LongAdder())
+                .add(Math.max(1, TimeUnit.NANOSECONDS.toMicros(nanos)));
+        // 창 안의 서로 다른 키가 스케치 용량만큼 쌓이면 한 스레드만 병합 (버퍼가 키 수만큼 커지지 않도록)
+        if (window.pending.size() >= topKeysCapacity && window.draining.compareAndSet(false, true)) {
+            try {
+                window.drain();
+            } finally {
+                window.draining.set(false);
+            }
+        }
+    }
+
+    public void recordHold(List<String> keys, LockType type, long nanos) {
+        for (String prefix : distinctPrefixes(keys)) {
+            metersFor(prefix, type).holdTime().record(nanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public void recordTimeout(String key, LockType type) {
+        meters(key, type).timeout().increment();
+    }
+
+    public void recordInterrupted(String key, LockType type) {
+        meters(key, type).interrupted().increment();
+    }
+
+    public void recordHandoff(String key, LockType type) {
+        meters(key, type).handoff().increment();
+    }
+
+    public void recordLeaseExpired(String key, LockType type) {
+        meters(key, type).leaseExpired().increment();
+    }
+
+    public MeterKey meterKey(String key, LockType type) {
+        return new MeterKey(boundedPrefix(key), type);
+    }
+
+    public Map<MeterKey, Meters> getMeters() {
+        return Collections.unmodifiableMap(meters);
+    }
+
+    /**
+     * 최근 창에서 대기 시간이 가장 긴 키 (이전 창과 현재 창 합산)
+     */
+    public List<ContendedKey> topContendedKeys(int limit) {
+        Map<String, long[]> merged = new HashMap<>();
+        for (Window window : Arrays.asList(previousWindow, currentWindow)) {
+            if (window == null) {
+                continue;
+            }
+            // 교대 직전에 이전 창을 잡은 스레드의 기록도 반영
+            window.drain();
+            SpaceSavingTopK<String> sketch = window.sketch;
+            for (SpaceSavingTopK.Entry<String> entry : sketch.top(sketch.getCapacity())) {
+                long[] value = merged.computeIfAbsent(entry.item(), k -> new long[2]);
+                value[0] += entry.count();
+                value[1] += entry.error();
+            }
+        }
+
+        return merged.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, long[]> e) -> e.getValue()[0]).reversed())
+                .limit(limit)
+                .map(e -> new ContendedKey(e.getKey(), e.getValue()[0] / 1000, e.getValue()[1] / 1000))
+                .toList();
+    }
+
+    /**
+     * 경합 키 창 교대 (오래된 핫 키가 계속 상위에 남지 않도록)
+     */
+    @Scheduled(fixedDelayString = "${ecommerce.lock.metrics.top-keys-window-ms:300000}")
+    public void rotateWindow() {
+        Window finished = currentWindow;
+        currentWindow = new Window(topKeysCapacity);
+        if (finished != null) {
+            finished.drain();
+        }
+        previousWindow = finished;
+    }
+
+    private static String prefixOf(String key) {
+        String stripped = stripPrefix(key);
+        int end = stripped.length();
+        while (end > 0 && (Character.isDigit(stripped.charAt(end - 1)) || stripped.charAt(end - 1) == ':')) {
+            end--;
+        }
+        return end == 0 ? OTHER_PREFIX : stripped.substring(0, end);
+    }
+
+    private static String stripPrefix(String key) {
+        return key.startsWith(LockConstants.LOCK_PREFIX) ? key.substring(LockConstants.LOCK_PREFIX.length()) : key;
+    }
+
+    private Set<String> distinctPrefixes(List<String> keys) {
+        Set<String> result = new LinkedHashSet<>();
+        keys.forEach(key -> result.add(boundedPrefix(key)));
+        return result;
+    }
+
+    /**
+     * ID가 숫자가 아닌 키가 섞여도 태그 수가 무한히 늘지 않도록 prefix 수 제한
+     */
+    private String boundedPrefix(String key) {
+        String prefix = prefixOf(key);
+        String known = prefixes.get(prefix);
+        if (known != null) {
+            return known;
+        }
+        if (prefixes.size() >= MAX_PREFIXES) {
+            return OTHER_PREFIX;
+        }
+        return prefixes.computeIfAbsent(prefix, p -> p);
+    }
+
+    private Meters meters(String key, LockType type) {
+        return metersFor(boundedPrefix(key), type);
+    }
+
+    private Meters metersFor(String prefix, LockType type) {
+        return meters.computeIfAbsent(new MeterKey(prefix, type), this::register);
+    }
+
+    private Meters register(MeterKey key) {
+        String prefix = key.prefix();
+        String type = key.type().name();
+        return new Meters(
+                timer("lock.wait", "락 획득 대기 시간", prefix, type),
+                timer("lock.hold", "락 보유 시간", prefix, type),
+                counter("lock.timeout", "락 획득 타임아웃 수", prefix, type),
+                counter("lock.interrupted", "락 획득 중 인터럽트 수", prefix, type),
+                counter("lock.handoff", "Redis 락을 해제하지 않고 로컬 대기자에게 넘겨준 수", prefix, type),
+                counter("lock.lease.expired", "보유 중 임대 시간 만료로 Redis 락이 풀린 수", prefix, type)
+        );
+    }
+
+    private Timer timer(String name, String description, String prefix, String type) {
+        return Timer.builder(name)
+                .description(description)
+                .tag("prefix", prefix)
+                .tag("type", type)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .maximumExpectedValue(Duration.ofSeconds(30))
+                .register(meterRegistry);
+    }
+
+    private Counter counter(String name, String description, String prefix, String type) {
+        return Counter.builder(name)
+                .description(description)
+                .tag("prefix", prefix)
+                .tag("type", type)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,110 @@
+package com.ecommerce.application.lock;
+
+import com.ecommerce.application.lock.constant.LockType;
+import com.ecommerce.application.lock.strategy.LockHandle;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LeaseMode.WATCHDOG 임대 연장
+ * - 메서드가 실행 중인 동안에만 leaseTime / 3마다 보유 중인 Redis 락을 leaseTime으로 연장
+ * - 실행이 끝나면(stop) 연장을 멈추므로 보유 노드가 죽거나 멈추면 마지막 연장 후 leaseTime 뒤에 풀림
+ * - 대부분의 실행은 첫 연장 전에 끝나 Redis 호출이 추가되지 않음 (취소된 작업은 큐에서 바로 제거)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LockWatchdog {
+
+    private final LockMetrics lockMetrics;
+
+    private final ScheduledThreadPoolExecutor scheduler = createScheduler();
+
+    private static ScheduledThreadPoolExecutor createScheduler() {
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(2, runnable -> {
+            Thread thread = new Thread(runnable, "lock-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.setRemoveOnCancelPolicy(true);
+        return executor;
+    }
+
+    /**
+     * 실행 한 번의 연장 작업 (stop 이후에는 연장하지 않음)
+     */
+    public final class Renewal {
+        private final Map<String, LockHandle> handles;
+        private final LockType type;
+        private final long leaseTime;
+        private final Set<String> expiredKeys = new HashSet<>();
+        private ScheduledFuture<?> future;
+        private boolean stopped;
+
+        private Renewal(Map<String, LockHandle> handles, LockType type, long leaseTime) {
+            this.handles = new LinkedHashMap<>(handles);
+            this.type = type;
+            this.leaseTime = leaseTime;
+        }
+
+        private synchronized void renew() {
+            if (stopped) {
+                return;
+            }
+            handles.entrySet().removeIf(entry -> {
+                try {
+                    if (entry.getValue().extend(leaseTime)) {
+                        return false;
+                    }
+                } catch (RuntimeException e) {
+                    // 일시적인 Redis 오류는 다음 주기에 재시도
+                    log.warn("락 임대 연장 실패 - key: {}, cause: {}", entry.getKey(), e.getMessage());
+                    return false;
+                }
+                expiredKeys.add(entry.getKey());
+                lockMetrics.recordLeaseExpired(entry.getKey(), type);
+                log.warn("실행 중 락 임대 만료 - key: {}, leaseTime: {}ms", entry.getKey(), leaseTime);
+                return true;
+            });
+        }
+
+        /**
+         * 연장 중단 (반환 후에는 진행 중인 연장도 없음)
+         * @return 연장 시점에 이미 만료가 확인된 키 (중복 집계 방지용)
+         */
+        public synchronized Set<String> stop() {
+            stopped = true;
+            if (future != null) {
+                future.cancel(false);
+            }
+            return expiredKeys;
+        }
+    }
+
+    public Renewal start(Map<String, LockHandle> handles, LockType type, long leaseTime) {
+        Renewal renewal = new Renewal(handles, type, leaseTime);
+        if (handles.isEmpty() || leaseTime <= 0) {
+            return renewal;
+        }
+        long period = Math.max(1, leaseTime / 3);
+        synchronized (renewal) {
+            renewal.future = scheduler.scheduleAtFixedRate(renewal::renew, period, period, TimeUnit.MILLISECONDS);
+        }
+        return renewal;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+}
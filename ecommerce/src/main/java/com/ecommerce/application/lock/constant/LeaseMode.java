@@ -0,0 +1,14 @@
+package com.ecommerce.application.lock.constant;
+
+/**
+ * 락 임대 시간 방식
+ */
+public enum LeaseMode {
+    /** 어노테이션의 leaseTime 고정 (실행이 더 길어지면 실행 중에 락이 풀림) */
+    FIXED,
+    /**
+     * 관측된 보유 시간 p99 기반 임대 시간 + 메서드가 실행 중일 때만 watchdog이 연장
+     * - 실행이 길어져도 락이 유지되고, 보유 노드가 죽으면 짧은 임대 시간 뒤에 풀림
+     */
+    WATCHDOG
+}
@@ -1,5 +1,17 @@
 package com.ecommerce.application.lock.constant;
 
+import java.util.Locale;
+
 public class LockConstants {
     public static final String LOCK_PREFIX = "ecommerce:lock:";
+
+    /**
+     * 락 방식별 Redis 키
+     * - SET NX(문자열)와 Redisson(해시) 락이 같은 키를 쓰면 자료형이 달라 충돌하므로 방식마다 네임스페이스 분리
+     * - 예: ecommerce:lock:order:1 → ecommerce:lock:pub_sub:order:1
+     */
+    public static String redisKey(LockType type, String lockKey) {
+        String name = lockKey.startsWith(LOCK_PREFIX) ? lockKey.substring(LOCK_PREFIX.length()) : lockKey;
+        return LOCK_PREFIX + type.name().toLowerCase(Locale.ROOT) + ":" + name;
+    }
 }
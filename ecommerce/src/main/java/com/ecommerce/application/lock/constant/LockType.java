@@ -1,5 +1,15 @@
 package com.ecommerce.application.lock.constant;
 
+/**
+ * 분산 락 획득 방식
+ */
 public enum LockType {
-    SIMPLE, SPIN, PUB_SUB
+    /** SET NX PX 1회 시도 (대기 없음, 실패 시 즉시 예외) */
+    SIMPLE,
+    /** SET NX PX 재시도 (지수 백오프 + 지터, waitTime까지) */
+    SPIN,
+    /** Redisson 락 (해제 알림을 pub/sub으로 받아 대기) */
+    PUB_SUB,
+    /** Redisson 공정 락 (대기 순서대로 획득) */
+    FAIR
 }
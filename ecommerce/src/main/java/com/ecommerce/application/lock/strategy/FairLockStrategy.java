@@ -0,0 +1,29 @@
+package com.ecommerce.application.lock.strategy;
+
+import com.ecommerce.application.lock.constant.LockType;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.stereotype.Component;
+
+/**
+ * LockType.FAIR - Redisson 공정 락
+ * - 대기 큐 순서대로 획득하므로 경합이 심해도 특정 요청이 계속 밀리지 않음 (꼬리 지연 감소)
+ * - 대기 큐 관리 비용으로 처리량은 PUB_SUB보다 낮음
+ */
+@Component
+public class FairLockStrategy extends RedissonLockStrategy {
+
+    public FairLockStrategy(RedissonClient redissonClient) {
+        super(redissonClient);
+    }
+
+    @Override
+    public LockType type() {
+        return LockType.FAIR;
+    }
+
+    @Override
+    protected RLock lockFor(String key) {
+        return redissonClient.getFairLock(key);
+    }
+}
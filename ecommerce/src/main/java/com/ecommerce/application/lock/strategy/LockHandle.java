@@ -0,0 +1,18 @@
+package com.ecommerce.application.lock.strategy;
+
+/**
+ * 획득한 Redis 락 (스레드에 묶이지 않으므로 획득한 스레드가 아니어도 해제/연장 가능)
+ */
+public interface LockHandle {
+
+    /**
+     * @return 해제했으면 true, 임대 시간이 지나 이미 해제되어 있었으면 false
+     */
+    boolean release();
+
+    /**
+     * 임대 시간을 지금부터 leaseTime으로 재설정
+     * @return 아직 보유 중이라 연장했으면 true, 이미 만료되었으면 false
+     */
+    boolean extend(long leaseTime);
+}
@@ -0,0 +1,16 @@
+package com.ecommerce.application.lock.strategy;
+
+import com.ecommerce.application.lock.constant.LockType;
+
+/**
+ * LockType별 Redis 락 획득 방식 (키 하나 단위, 여러 키는 DistributedLockExecutor가 정렬 순서대로 획득)
+ */
+public interface LockStrategy {
+
+    LockType type();
+
+    /**
+     * @return 획득한 락, waitTime 안에 획득하지 못하면 null
+     */
+    LockHandle tryLock(String key, long waitTime, long leaseTime) throws InterruptedException;
+}
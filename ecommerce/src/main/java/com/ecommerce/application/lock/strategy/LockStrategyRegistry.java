@@ -0,0 +1,29 @@
+package com.ecommerce.application.lock.strategy;
+
+import com.ecommerce.application.lock.constant.LockType;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * LockType → LockStrategy 조회
+ */
+@Component
+public class LockStrategyRegistry {
+
+    private final Map<LockType, LockStrategy> strategies = new EnumMap<>(LockType.class);
+
+    public LockStrategyRegistry(List<LockStrategy> strategies) {
+        strategies.forEach(strategy -> this.strategies.put(strategy.type(), strategy));
+    }
+
+    public LockStrategy get(LockType type) {
+        LockStrategy strategy = strategies.get(type);
+        if (strategy == null) {
+            throw new IllegalStateException("등록되지 않은 락 방식입니다: " + type);
+        }
+        return strategy;
+    }
+}
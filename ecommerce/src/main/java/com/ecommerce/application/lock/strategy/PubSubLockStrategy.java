@@ -0,0 +1,29 @@
+package com.ecommerce.application.lock.strategy;
+
+import com.ecommerce.application.lock.constant.LockType;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.stereotype.Component;
+
+/**
+ * LockType.PUB_SUB - Redisson 기본 락
+ * - 대기자는 해제 알림(pub/sub)을 받을 때까지 잠들었다가 재시도하므로 폴링 트래픽이 없음
+ * - 해제 순서는 보장하지 않음
+ */
+@Component
+public class PubSubLockStrategy extends RedissonLockStrategy {
+
+    public PubSubLockStrategy(RedissonClient redissonClient) {
+        super(redissonClient);
+    }
+
+    @Override
+    public LockType type() {
+        return LockType.PUB_SUB;
+    }
+
+    @Override
+    protected RLock lockFor(String key) {
+        return redissonClient.getLock(key);
+    }
+}
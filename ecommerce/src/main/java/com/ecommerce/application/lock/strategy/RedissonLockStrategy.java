@@ -0,0 +1,105 @@
+package com.ecommerce.application.lock.strategy;
+
+import org.redisson.api.RFuture;
+import org.redisson.api.RLock;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Redisson 락 공통
+ * - 스레드 ID 대신 획득마다 발급한 소유자 ID로 잠가, 노드 안에서 다른 스레드에게 락을 넘겨줄 수 있게 함
+ */
+abstract class RedissonLockStrategy implements LockStrategy {
+
+    // 실제 스레드 ID(양수)와 겹치지 않도록 음수 사용
+    private static final AtomicLong OWNER_SEQUENCE = new AtomicLong();
+
+    /**
+     * 보유 확인과 연장을 한 번에 (확인 후 만료되어 다른 소유자가 잡은 락을 연장하지 않도록)
+     * KEYS[1]: 락 키, ARGV[1]: 락 해시 필드(클라이언트 ID:소유자 ID), ARGV[2]: 임대 시간(ms)
+     * 반환값: 1 = 연장, 0 = 보유하고 있지 않음
+     */
+    private static final String EXTEND_SCRIPT = """
+            if redis.call('HEXISTS', KEYS[1], ARGV[1]) == 1 then
+                return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            end
+            return 0
+            """;
+
+    protected final RedissonClient redissonClient;
+
+    protected RedissonLockStrategy(RedissonClient redissonClient) {
+        this.redissonClient = redissonClient;
+    }
+
+    protected abstract RLock lockFor(String key);
+
+    @Override
+    public LockHandle tryLock(String key, long waitTime, long leaseTime) throws InterruptedException {
+        RLock lock = lockFor(key);
+        long ownerId = -OWNER_SEQUENCE.incrementAndGet();
+
+        RFuture<Boolean> future = lock.tryLockAsync(waitTime, leaseTime, TimeUnit.MILLISECONDS, ownerId);
+        boolean acquired;
+        try {
+            acquired = Boolean.TRUE.equals(future.get());
+        } catch (InterruptedException e) {
+            // 인터럽트 이후에 획득이 끝나면 바로 해제
+            future.whenComplete((locked, error) -> {
+                if (Boolean.TRUE.equals(locked)) {
+                    lock.unlockAsync(ownerId);
+                }
+            });
+            throw e;
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        }
+
+        return acquired ? new RedissonLockHandle(redissonClient, lock, ownerId) : null;
+    }
+
+    private static RuntimeException unwrap(ExecutionException e) {
+        return e.getCause() instanceof RuntimeException cause
+                ? cause
+                : new IllegalStateException(e.getCause());
+    }
+
+    private record RedissonLockHandle(RedissonClient redissonClient, RLock lock, long ownerId) implements LockHandle {
+
+        @Override
+        public boolean release() {
+            try {
+                lock.unlockAsync(ownerId).toCompletableFuture().join();
+                return true;
+            } catch (CompletionException e) {
+                // 임대 시간이 지나 이미 해제된 경우
+                if (e.getCause() instanceof IllegalMonitorStateException) {
+                    return false;
+                }
+                throw e;
+            }
+        }
+
+        @Override
+        public boolean extend(long leaseTime) {
+            // Redisson 락 해시의 필드 이름은 "클라이언트 ID:소유자 ID"
+            Long extended = redissonClient.getScript(StringCodec.INSTANCE).eval(
+                    lock.getName(),
+                    RScript.Mode.READ_WRITE,
+                    EXTEND_SCRIPT,
+                    RScript.ReturnType.INTEGER,
+                    List.of(lock.getName()),
+                    redissonClient.getId() + ":" + ownerId,
+                    String.valueOf(leaseTime)
+            );
+            return extended != null && extended == 1L;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.ecommerce.application.lock.strategy;
+
+import com.ecommerce.infrastructure.redis.SimpleLockRedisRepository;
+
+import java.util.UUID;
+
+/**
+ * SET NX PX 락 공통 (획득마다 토큰 발급, 토큰이 일치할 때만 해제/연장)
+ * - Redisson 락과 같은 키를 쓰면 자료형이 달라 충돌하므로 실행기가 방식별 키(LockConstants.redisKey)로 호출
+ */
+abstract class SetNxLockStrategy implements LockStrategy {
+
+    protected final SimpleLockRedisRepository simpleLockRedisRepository;
+
+    protected SetNxLockStrategy(SimpleLockRedisRepository simpleLockRedisRepository) {
+        this.simpleLockRedisRepository = simpleLockRedisRepository;
+    }
+
+    protected String newToken() {
+        return UUID.randomUUID().toString();
+    }
+
+    protected LockHandle handle(String key, String token) {
+        return new LockHandle() {
+            @Override
+            public boolean release() {
+                return simpleLockRedisRepository.release(key, token);
+            }
+
+            @Override
+            public boolean extend(long leaseTime) {
+                return simpleLockRedisRepository.extend(key, token, leaseTime);
+            }
+        };
+    }
+
+    protected void validateLeaseTime(long leaseTime) {
+        if (leaseTime <= 0) {
+            throw new IllegalArgumentException(type() + " 락은 leaseTime이 0보다 커야 합니다.");
+        }
+    }
+}
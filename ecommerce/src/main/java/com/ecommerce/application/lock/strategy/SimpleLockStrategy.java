@@ -0,0 +1,31 @@
+package com.ecommerce.application.lock.strategy;
+
+import com.ecommerce.application.lock.constant.LockType;
+import com.ecommerce.infrastructure.redis.SimpleLockRedisRepository;
+import org.springframework.stereotype.Component;
+
+/**
+ * LockType.SIMPLE - SET NX PX 1회 시도
+ * - waitTime은 무시하고 이미 보유자가 있으면 즉시 실패 (중복 요청 차단 등 기다릴 필요가 없는 경우)
+ * - 왕복 1회로 끝나 경합이 없을 때 가장 가벼움
+ */
+@Component
+public class SimpleLockStrategy extends SetNxLockStrategy {
+
+    public SimpleLockStrategy(SimpleLockRedisRepository simpleLockRedisRepository) {
+        super(simpleLockRedisRepository);
+    }
+
+    @Override
+    public LockType type() {
+        return LockType.SIMPLE;
+    }
+
+    @Override
+    public LockHandle tryLock(String key, long waitTime, long leaseTime) {
+        validateLeaseTime(leaseTime);
+
+        String token = newToken();
+        return simpleLockRedisRepository.tryAcquire(key, token, leaseTime) ? handle(key, token) : null;
+    }
+}
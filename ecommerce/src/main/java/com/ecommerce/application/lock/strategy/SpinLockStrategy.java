@@ -0,0 +1,58 @@
+package com.ecommerce.application.lock.strategy;
+
+import com.ecommerce.application.lock.constant.LockType;
+import com.ecommerce.infrastructure.redis.SimpleLockRedisRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LockType.SPIN - SET NX PX 재시도
+ * - 실패하면 [0, min(max, initial × 2^n)) 범위에서 무작위로 쉬고 재시도 (full jitter)
+ * - 대기자끼리 재시도 시점이 흩어져 Redis 폴링이 몰리지 않고, waitTime이 지나면 실패
+ * - 보유 시간이 짧고 대기자가 적을 때 pub/sub 구독 비용 없이 빠르게 획득
+ */
+@Component
+public class SpinLockStrategy extends SetNxLockStrategy {
+
+    @Value("${ecommerce.lock.spin.initial-backoff-ms:5}")
+    private long initialBackoffMs;
+
+    @Value("${ecommerce.lock.spin.max-backoff-ms:100}")
+    private long maxBackoffMs;
+
+    public SpinLockStrategy(SimpleLockRedisRepository simpleLockRedisRepository) {
+        super(simpleLockRedisRepository);
+    }
+
+    @Override
+    public LockType type() {
+        return LockType.SPIN;
+    }
+
+    @Override
+    public LockHandle tryLock(String key, long waitTime, long leaseTime) throws InterruptedException {
+        validateLeaseTime(leaseTime);
+
+        String token = newToken();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(waitTime);
+        long backoffCeiling = Math.max(1, initialBackoffMs);
+
+        while (true) {
+            if (simpleLockRedisRepository.tryAcquire(key, token, leaseTime)) {
+                return handle(key, token);
+            }
+
+            long remainingMs = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (remainingMs <= 0) {
+                return null;
+            }
+
+            long sleepMs = ThreadLocalRandom.current().nextLong(backoffCeiling + 1);
+            Thread.sleep(Math.min(sleepMs, remainingMs));
+            backoffCeiling = Math.min(maxBackoffMs, backoffCeiling * 2);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.ecommerce.application.usecase.cart;
 
+import com.ecommerce.application.usecase.product.service.StripedStockService;
 import com.ecommerce.domain.cart.CartItem;
 import com.ecommerce.domain.product.Product;
 import com.ecommerce.presentation.dto.cart.AddCartItemResponse;
@@ -22,6 +23,7 @@ import java.util.Optional;
 public class AddCartItemUseCase {
     private final CartRepository cartRepository;
     private final ProductRepository productRepository;
+    private final StripedStockService stripedStockService;
 
     @Transactional
     public AddCartItemResponse execute(Long userId, Long productId, int quantity) {
@@ -29,7 +31,7 @@ public class AddCartItemUseCase {
         Product product = productRepository.findByIdOrThrow(productId);
 
         // 2. 재고 확인
-        if (!product.hasStock(quantity)) {
+        if (!stripedStockService.hasStock(product, quantity)) {
             throw new InsufficientStockException(ProductErrorCode.INSUFFICIENT_STOCK);
         }
 
@@ -1,5 +1,6 @@
 package com.ecommerce.application.usecase.cart;
 
+import com.ecommerce.application.usecase.product.service.StripedStockService;
 import com.ecommerce.domain.cart.CartItem;
 import com.ecommerce.domain.product.Product;
 import com.ecommerce.presentation.dto.cart.UpdateCartItemResponse;
@@ -22,6 +23,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class UpdateCartItemQuantityUseCase {
     private final CartRepository cartRepository;
     private final ProductRepository productRepository;
+    private final StripedStockService stripedStockService;
 
     @Transactional
     public UpdateCartItemResponse execute(Long cartItemId, int quantity) {
@@ -32,7 +34,7 @@ public class UpdateCartItemQuantityUseCase {
         Product product = productRepository.findByIdOrThrow(cartItem.getProductId());
 
         // 3. 재고 확인
-        if (!product.hasStock(quantity)) {
+        if (!stripedStockService.hasStock(product, quantity)) {
             throw new InsufficientStockException(ProductErrorCode.INSUFFICIENT_STOCK);
         }
 
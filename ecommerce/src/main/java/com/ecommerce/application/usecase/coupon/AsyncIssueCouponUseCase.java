@@ -5,6 +5,7 @@ import com.ecommerce.domain.coupon.exception.CouponAlreadyIssuedException;
 import com.ecommerce.domain.coupon.exception.CouponErrorCode;
 import com.ecommerce.domain.coupon.exception.CouponExpiredException;
 import com.ecommerce.domain.coupon.exception.CouponSoldOutException;
+import com.ecommerce.infrastructure.redis.CouponIssueResult;
 import com.ecommerce.infrastructure.redis.CouponRedisRepository;
 import com.ecommerce.infrastructure.repository.CouponEventRepository;
 import com.ecommerce.presentation.dto.coupon.IssueCouponResponse;
@@ -27,14 +28,12 @@ public class AsyncIssueCouponUseCase {
             throw new CouponExpiredException(CouponErrorCode.COUPON_EXPIRED);
         }
 
-        boolean issued = couponRedisRepository.tryIssueCoupon(couponEventId, userId);
+        CouponIssueResult result = couponRedisRepository.tryIssueCoupon(couponEventId, userId);
 
-        if (!issued) {
-            if (couponRedisRepository.isAlreadyIssued(couponEventId, userId)) {
-                throw new CouponAlreadyIssuedException(CouponErrorCode.COUPON_ALREADY_ISSUED);
-            } else {
-                throw new CouponSoldOutException(CouponErrorCode.COUPON_SOLD_OUT);
-            }
+        switch (result) {
+            case DUPLICATE -> throw new CouponAlreadyIssuedException(CouponErrorCode.COUPON_ALREADY_ISSUED);
+            case SOLD_OUT -> throw new CouponSoldOutException(CouponErrorCode.COUPON_SOLD_OUT);
+            case ISSUED -> { }
         }
 
         // Redis 기반 응답 반환 (id=null, DB 저장 전)
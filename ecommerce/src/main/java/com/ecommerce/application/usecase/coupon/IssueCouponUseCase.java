@@ -2,6 +2,7 @@ package com.ecommerce.application.usecase.coupon;
 
 import com.ecommerce.application.lock.DistributedLock;
 import com.ecommerce.application.lock.constant.LockType;
+import com.ecommerce.application.usecase.product.service.ProductCacheInvalidationService;
 import com.ecommerce.domain.coupon.CouponEvent;
 import com.ecommerce.domain.coupon.UserCoupon;
 import com.ecommerce.presentation.dto.coupon.IssueCouponResponse;
@@ -25,6 +26,7 @@ import java.time.LocalDateTime;
 public class IssueCouponUseCase {
     private final CouponEventRepository couponEventRepository;
     private final UserCouponRepository userCouponRepository;
+    private final ProductCacheInvalidationService productCacheInvalidationService;
 
     @DistributedLock(key = "'coupon:issue' + #couponEventId", type = LockType.PUB_SUB)
     @Transactional
@@ -58,6 +60,9 @@ public class IssueCouponUseCase {
         );
         userCoupon = userCouponRepository.save(userCoupon);
 
+        // 남은 수량이 바뀌었으므로 쿠폰 이벤트 목록 캐시 무효화
+        productCacheInvalidationService.invalidateCouponEvents();
+
         // 6. 응답 생성
         return IssueCouponResponse.from(userCoupon, couponEvent);
     }
@@ -1,8 +1,15 @@
 package com.ecommerce.application.usecase.order;
 
+import com.ecommerce.application.lock.LockKeyContext;
 import com.ecommerce.application.lock.MultiDistributedLock;
+import com.ecommerce.application.lock.constant.LeaseMode;
+import com.ecommerce.application.usecase.order.service.OrderTransactionRunner;
 import com.ecommerce.application.usecase.order.service.RankingUpdateService;
+import com.ecommerce.application.usecase.order.service.StockReservationService;
+import com.ecommerce.application.usecase.product.service.ProductCacheInvalidationService;
+import com.ecommerce.application.usecase.product.service.StripedStockService;
 import com.ecommerce.domain.cart.CartItem;
+import com.ecommerce.domain.cart.exception.CartChangedException;
 import com.ecommerce.domain.cart.exception.CartErrorCode;
 import com.ecommerce.domain.cart.exception.EmptyCartException;
 import com.ecommerce.domain.coupon.CouponEvent;
@@ -23,27 +30,37 @@ import com.ecommerce.infrastructure.repository.*;
 import com.ecommerce.presentation.dto.order.OrderResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * US-ORD-001: 주문 생성
  * 복잡한 비즈니스 트랜잭션:
- * 1. 장바구니 조회 및 검증
- * 2. 재고 차감 (동시성 제어 - 비관적 락)
+ * 1. 사용자 행 잠금, 장바구니 조회 및 검증 (원자적 UPDATE 모드는 행 잠금 대신 장바구니 선점 삭제)
+ * 2. 재고 차감 (동시성 제어 - 비관적 락 / 조건부 UPDATE / 분할 재고 버킷)
  * 3. 쿠폰 적용
- * 4. 잔액 차감 (동시성 제어 - 낙관적 락)
+ * 4. 잔액 차감 (잠근 사용자 행 / 원자적 UPDATE 모드는 조건부 UPDATE)
  * 5. 주문 생성 및 장바구니 클리어
+ *
+ * 분산 락은 같은 키의 대기를 Redis에서 줄이는 용도이고, 정합성은 DB 행 락/조건부 UPDATE로 보장
+ * - 묶음 주문 경로(OrderBatchProcessor)는 분산 락 없이 같은 행 락을 잡으므로 두 경로가 섞여도 안전
+ * - 행 락 순서는 두 경로 모두 사용자 → 상품(ID 순) → 쿠폰 (데드락 방지)
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class CreateOrderUseCase {
+    private static final String LOCKED_PRODUCT_IDS = "order:lockedProductIds";
+    private static final String STRIPED_PRODUCT_IDS = "order:stripedProductIds";
+
     private final CartRepository cartRepository;
     private final ProductRepository productRepository;
     private final UserRepository userRepository;
@@ -54,26 +71,51 @@ public class CreateOrderUseCase {
     private final PointHistoryRepository pointHistoryRepository;
     private final RankingUpdateService rankingUpdateService;
     private final DataPlatformKafkaProducer dataPlatformKafkaProducer;
+    private final StockReservationService stockReservationService;
+    private final StripedStockService stripedStockService;
+    private final ProductCacheInvalidationService productCacheInvalidationService;
+    private final OrderTransactionRunner orderTransactionRunner;
+
+    @Value("${ecommerce.atomic-update.enabled:false}")
+    private boolean atomicUpdateEnabled;
 
-    @MultiDistributedLock(keyProvider = "getOrderLockKeys(#userId)")
-    @Transactional
+    // MySQL 지연으로 트랜잭션이 길어져도 실행 중에는 락 유지 (고정 5초 임대 만료로 풀리지 않도록)
+    // 분할 재고 상품이 있는 주문만 READ COMMITTED 트랜잭션 (StripedStockService 참고)
+    @MultiDistributedLock(keyProvider = "getOrderLockKeys(#userId)", leaseMode = LeaseMode.WATCHDOG)
     public OrderResponse execute(Long userId, Long userCouponId) {
+        OrderLockPlan plan = lockPlan(userId);
+        if (!plan.stripedProductIds().isEmpty()) {
+            return orderTransactionRunner.runReadCommitted(() -> createOrder(userId, userCouponId, plan));
+        }
+        return orderTransactionRunner.run(() -> createOrder(userId, userCouponId, plan));
+    }
+
+    private OrderResponse createOrder(Long userId, Long userCouponId, OrderLockPlan plan) {
         log.debug("주문 생성 시도: userId={}, userCouponId={}", userId, userCouponId);
-        // 1. 장바구니 조회
-        List<CartItem> cartItems = validateAndGetCartItems(userId);
+        // 1. 사용자 행 잠금 후 장바구니 조회 (같은 사용자의 다른 주문/충전과 직렬화)
+        //    락을 잡은 뒤에 읽어야 먼저 커밋된 같은 사용자 주문이 비운 장바구니를 다시 주문하지 않음
+        //    원자적 UPDATE 모드는 사용자 행을 잠그지 않고 장바구니를 먼저 삭제해 같은 사용자 주문끼리 직렬화
+        User user = atomicUpdateEnabled ? null : userRepository.findByIdWithLockOrThrow(userId);
+        List<CartItem> cartItems = validateAndGetCartItems(userId, plan);
+        if (atomicUpdateEnabled) {
+            claimCart(userId, cartItems);
+        }
 
-        // 2. 재고 차감
-        Map<Long, Product> productMap = new HashMap<>();
-        for (CartItem item : cartItems) {
-            Product product = productRepository.findById(item.getProductId())
-                    .orElseThrow(() -> new ProductNotFoundException(ProductErrorCode.PRODUCT_NOT_FOUND));
+        // 2. Redis 재고 예약 (예약 모드일 때만, 실패 시 DB 작업 전에 거절)
+        stockReservationService.reserve(cartItems);
 
-            product.decreaseStock(item.getQuantity());
+        // 3. 재고 차감 (예약 모드에서는 예약분 확정, 분할 재고 여부는 락 키를 만들며 조회한 값)
+        Map<Long, Product> productMap = new HashMap<>();
+        for (CartItem item : sortedByProductId(cartItems)) {
+            Product product = decreaseStock(item, plan.stripedProductIds().contains(item.getProductId()));
 
             productMap.put(product.getId(), product);
         }
 
-        // 3. 총 금액 계산
+        // 재고가 바뀐 상품 캐시 무효화 (커밋 이후 전 노드)
+        productCacheInvalidationService.invalidateStocks(productMap.keySet());
+
+        // 4. 총 금액 계산
         long totalAmount = cartItems.stream()
                 .mapToLong(item -> {
                     Product product = productMap.get(item.getProductId());
@@ -87,7 +129,9 @@ public class CreateOrderUseCase {
         CouponEvent couponEvent = null;
 
         if (userCouponId != null) {
-            userCoupon = userCouponRepository.findByIdOrThrow(userCouponId);
+            userCoupon = atomicUpdateEnabled
+                    ? userCouponRepository.findByIdOrThrow(userCouponId)
+                    : userCouponRepository.findByIdWithLockOrThrow(userCouponId);
 
             couponEvent = couponEventRepository.findByIdOrThrow(userCoupon.getCouponEventId());
 
@@ -95,45 +139,55 @@ public class CreateOrderUseCase {
             userCoupon.validateUsable();
 
             // 할인 금액 계산
-            discountAmount = calculateDiscount(couponEvent, totalAmount);
+            discountAmount = couponEvent.calculateDiscount(totalAmount);
 
             // 쿠폰 사용 처리
-            userCoupon.use();
-            userCouponRepository.save(userCoupon);
+            if (atomicUpdateEnabled) {
+                userCouponRepository.useAtomically(userCouponId);
+            } else {
+                userCoupon.use();
+                userCouponRepository.save(userCoupon);
+            }
         }
 
         long finalAmount = totalAmount - discountAmount;
 
         // 6. 사용자 포인트 차감
-        User user = userRepository.findByIdOrThrow(userId);
-
-        if (!user.hasPoint(finalAmount)) {
-            throw new InsufficientPointException(PointErrorCode.INSUFFICIENT_POINT);
+        if (atomicUpdateEnabled) {
+            // 조건부 UPDATE로 차감 후 최신 잔액 조회 (락 없음)
+            userRepository.usePointAtomically(userId, finalAmount);
+            user = userRepository.findByIdOrThrow(userId);
+        } else {
+            // 1에서 잠근 행이므로 엔티티로 차감
+            if (!user.hasPoint(finalAmount)) {
+                throw new InsufficientPointException(PointErrorCode.INSUFFICIENT_POINT);
+            }
+            user.usePoint(finalAmount);
         }
 
-        user.usePoint(finalAmount);
-
         // 7. 주문 생성
         Order order = new Order(null, userId, totalAmount, discountAmount, finalAmount, userCouponId);
         order = orderRepository.save(order);
 
-        // 8. 주문 아이템 생성
+        // 8. 주문 아이템 생성 (TSID 채번이므로 saveAll이 배치 INSERT로 실행)
         List<OrderItem> orderItems = new ArrayList<>();
         for (CartItem item : cartItems) {
             Product product = productMap.get(item.getProductId());
-            OrderItem orderItem = new OrderItem(
+            orderItems.add(new OrderItem(
                     null,
                     order.getId(),
                     product.getId(),
                     product.getName(),
                     item.getQuantity(),
                     product.getPrice()
-            );
-            orderItems.add(orderItemRepository.save(orderItem));
+            ));
         }
+        orderItems = orderItemRepository.saveAll(orderItems);
 
-        // 9. 장바구니 클리어
-        cartRepository.deleteByUserId(userId);
+        // 9. 장바구니 클리어 (원자적 UPDATE 모드는 1에서 삭제함)
+        if (!atomicUpdateEnabled) {
+            cartRepository.deleteByUserId(userId);
+        }
 
         // 10. 포인트 이력 저장
         PointHistory pointHistory = new PointHistory(
@@ -147,7 +201,7 @@ public class CreateOrderUseCase {
         );
         pointHistoryRepository.save(pointHistory);
 
-        // @Async - Redis 랭킹 업데이트
+        // 랭킹 버퍼에 누적 (커밋 이후, Redis 반영은 주기적으로)
         rankingUpdateService.updateRanking(order.getId(), orderItems);
 
         dataPlatformKafkaProducer.sendOrderEvent(new OrderCreatedEvent(
@@ -160,34 +214,125 @@ public class CreateOrderUseCase {
         return OrderResponse.from(order, orderItems);
     }
 
-    private List<CartItem> validateAndGetCartItems(Long userId) {
+    /**
+     * 사용자 행 락을 잡은 뒤 장바구니 조회
+     * - 락 키를 만들 때 읽은 장바구니는 락/트랜잭션 밖에서 읽은 값이라 수량은 여기서 읽은 값을 사용
+     * - 상품 구성이 락 키를 만들 때와 다르면 거절 (상품 락 키/분할 재고 여부/격리 수준이 이전 장바구니 기준)
+     */
+    private List<CartItem> validateAndGetCartItems(Long userId, OrderLockPlan plan) {
         List<CartItem> cartItems = cartRepository.findByUserId(userId);
         if (cartItems.isEmpty()) {
             throw new EmptyCartException(CartErrorCode.EMPTY_CART);
         }
+        if (!plan.productIds().equals(productIdsOf(cartItems))) {
+            log.info("락 키 생성 이후 장바구니 변경 - userId: {}, 락 대상: {}", userId, plan.productIds());
+            throw new CartChangedException(CartErrorCode.CART_CHANGED);
+        }
         return cartItems;
     }
 
-    private long calculateDiscount(CouponEvent couponEvent, long totalAmount) {
-        return switch (couponEvent.getDiscountType()) {
-            case AMOUNT -> couponEvent.getDiscountAmount();
-            case RATE -> Math.min(
-                    totalAmount * couponEvent.getDiscountRate() / 100,
-                    couponEvent.getMaxDiscountAmount()
-            );
-        };
+    /**
+     * 원자적 UPDATE 모드의 장바구니 선점 (사용자 행 락 대신)
+     * - 조회한 장바구니를 바로 삭제, 같은 사용자의 동시 주문은 삭제 행 락을 기다린 뒤 0행을 삭제하므로 빈 장바구니로 실패
+     */
+    private void claimCart(Long userId, List<CartItem> cartItems) {
+        if (cartRepository.deleteAllByUserIdInBulk(userId) != cartItems.size()) {
+            throw new EmptyCartException(CartErrorCode.EMPTY_CART);
+        }
+    }
+
+    private Set<Long> productIdsOf(List<CartItem> cartItems) {
+        return cartItems.stream()
+                .map(CartItem::getProductId)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * 재고 차감
+     * - 분할 재고 상품: 버킷 행에서 차감 (products 행은 잠그지 않음)
+     * - 원자적 UPDATE / Redis 예약 모드: 조건부 UPDATE (로딩한 엔티티의 재고 값은 갱신되지 않음)
+     * - 그 외: 상품 행을 잠그고 엔티티 재고를 메모리에서 차감 (묶음 주문 경로와 같은 행 락)
+     *   (잠금 조회가 첫 로딩이어야 잠근 뒤의 최신 재고를 읽으므로 분할 여부는 엔티티 없이 미리 조회)
+     */
+    private Product decreaseStock(CartItem item, boolean striped) {
+        if (!striped && !atomicUpdateEnabled && !stockReservationService.isEnabled()) {
+            Product product = productRepository.findByIdWithLock(item.getProductId())
+                    .orElseThrow(() -> new ProductNotFoundException(ProductErrorCode.PRODUCT_NOT_FOUND));
+            product.decreaseStock(item.getQuantity());
+            return product;
+        }
+
+        Product product = productRepository.findByIdOrThrow(item.getProductId());
+        if (striped) {
+            stripedStockService.decreaseStock(product, item.getQuantity());
+        } else {
+            productRepository.decreaseStockAtomically(product.getId(), item.getQuantity());
+        }
+        return product;
+    }
+
+    /**
+     * 행 락 획득 순서를 고정해 데드락 방지
+     */
+    private List<CartItem> sortedByProductId(List<CartItem> cartItems) {
+        return cartItems.stream()
+                .sorted(Comparator.comparing(CartItem::getProductId))
+                .toList();
+    }
+
+    /**
+     * 락 키를 만들 때 읽은 장바구니 상품 ID와 그중 분할 재고 상품 ID
+     */
+    private record OrderLockPlan(Set<Long> productIds, Set<Long> stripedProductIds) {}
+
+    /**
+     * 락 키를 만들며 읽은 값을 가져옴 (락 어스펙트 밖에서 호출되어 값이 없으면 직접 조회)
+     * - 본문은 장바구니와 분할 재고 상품을 다시 조회하지 않고, 락 이후 장바구니 구성만 비교
+     */
+    @SuppressWarnings("unchecked")
+    private OrderLockPlan lockPlan(Long userId) {
+        Set<Long> productIds = LockKeyContext.get(LOCKED_PRODUCT_IDS, Set.class);
+        Set<Long> stripedProductIds = LockKeyContext.get(STRIPED_PRODUCT_IDS, Set.class);
+        if (productIds != null && stripedProductIds != null) {
+            return new OrderLockPlan(productIds, stripedProductIds);
+        }
+        return readLockPlan(userId);
+    }
+
+    private OrderLockPlan readLockPlan(Long userId) {
+        Set<Long> productIds = productIdsOf(cartRepository.findByUserId(userId));
+        Set<Long> stripedProductIds = productIds.isEmpty()
+                ? Set.of()
+                : Set.copyOf(productRepository.findStripedProductIds(productIds));
+        return new OrderLockPlan(productIds, stripedProductIds);
     }
 
     /**
      * 락 키 생성 메서드 (LockKeyProvider)
+     * - 장바구니 상품 ID와 분할 재고 상품 ID는 LockKeyContext로 본문에 넘김 (트랜잭션 격리 수준 선택, 재고 차감 방식, 락 이후 장바구니와 비교)
      */
     public List<String> getOrderLockKeys(Long userId) {
+        OrderLockPlan plan = readLockPlan(userId);
+        Set<Long> productIds = plan.productIds();
+        Set<Long> stripedProductIds = plan.stripedProductIds();
+        LockKeyContext.put(LOCKED_PRODUCT_IDS, productIds);
+        LockKeyContext.put(STRIPED_PRODUCT_IDS, stripedProductIds);
+
         List<String> keys = new ArrayList<>();
 
-        // 장바구니 조회하여 상품별 재고 락
-        List<CartItem> cartItems = cartRepository.findByUserId(userId);
-        for (CartItem item : cartItems) {
-            keys.add("product:stock:" + item.getProductId());
+        // 원자적 UPDATE 모드에서는 DB 조건부 UPDATE와 장바구니 선점이 재고/포인트/쿠폰을 보호하므로 락 없이 실행
+        if (atomicUpdateEnabled) {
+            return keys;
+        }
+
+        // 상품별 재고 락 (예약 모드에서는 Redis 예약이 재고를 보호하므로 생략)
+        // 분할 재고 상품은 버킷 조건부 UPDATE로 보호되므로 상품 락 생략
+        if (!stockReservationService.isEnabled()) {
+            for (Long productId : productIds) {
+                if (!stripedProductIds.contains(productId)) {
+                    keys.add("product:stock:" + productId);
+                }
+            }
         }
 
         // 포인트 락
@@ -195,4 +340,4 @@ public class CreateOrderUseCase {
 
         return keys;
     }
-}
\ No newline at end of file
+}
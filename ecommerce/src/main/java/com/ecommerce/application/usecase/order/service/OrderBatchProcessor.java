@@ -0,0 +1,349 @@
+package com.ecommerce.application.usecase.order.service;
+
+import com.ecommerce.application.usecase.product.service.ProductCacheInvalidationService;
+import com.ecommerce.application.usecase.product.service.StripedStockService;
+import com.ecommerce.domain.cart.CartItem;
+import com.ecommerce.domain.cart.exception.CartErrorCode;
+import com.ecommerce.domain.cart.exception.EmptyCartException;
+import com.ecommerce.domain.common.exception.BaseException;
+import com.ecommerce.domain.coupon.CouponEvent;
+import com.ecommerce.domain.coupon.UserCoupon;
+import com.ecommerce.domain.coupon.exception.CouponErrorCode;
+import com.ecommerce.domain.coupon.exception.CouponNotFoundException;
+import com.ecommerce.domain.order.Order;
+import com.ecommerce.domain.order.OrderItem;
+import com.ecommerce.domain.order.event.OrderCreatedEvent;
+import com.ecommerce.domain.point.PointHistory;
+import com.ecommerce.domain.point.TransactionType;
+import com.ecommerce.domain.point.exception.InsufficientPointException;
+import com.ecommerce.domain.point.exception.PointErrorCode;
+import com.ecommerce.domain.product.Product;
+import com.ecommerce.domain.product.ProductStockBucket;
+import com.ecommerce.domain.product.exception.InsufficientStockException;
+import com.ecommerce.domain.product.exception.ProductErrorCode;
+import com.ecommerce.domain.product.exception.ProductNotFoundException;
+import com.ecommerce.domain.user.User;
+import com.ecommerce.domain.user.exception.UserErrorCode;
+import com.ecommerce.domain.user.exception.UserNotFoundException;
+import com.ecommerce.infrastructure.kafka.producer.DataPlatformKafkaProducer;
+import com.ecommerce.infrastructure.repository.*;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 묶음 주문 처리 (Group Commit)
+ * - 같은 시간 창에 들어온 주문들을 하나의 트랜잭션으로 처리
+ * - 사용자/상품/쿠폰 행은 배치당 한 번만 ID 순으로 잠금 (잠금 순서 사용자 → 상품 → 쿠폰, CreateOrderUseCase와 동일)
+ * - 분산 락 없이 CreateOrderUseCase(개별 처리/엔진을 켜지 않은 노드)와 같은 행 락으로 보호되므로 두 경로가 섞여도 안전
+ * - 장바구니/쿠폰은 행을 잠근 뒤에 읽어 다른 경로에서 이미 주문된 장바구니/사용된 쿠폰을 다시 쓰지 않음
+ * - 주문별 검증은 메모리에서 수행하고, 검증을 통과한 주문만 엔티티에 반영
+ *   (실패한 주문은 아무것도 변경하지 않으므로 같은 배치의 다른 주문에 영향 없음)
+ * - 분할 재고 상품이 있는 배치만 READ COMMITTED 트랜잭션, 분할 재고 상품은 products 행 대신 버킷 행을 잠금
+ *   (배치 검증은 잠근 버킷 합계 기준이므로 동시 차감이 있어도 검증을 통과한 주문의 차감은 실패하지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderBatchProcessor {
+
+    private final CartRepository cartRepository;
+    private final ProductRepository productRepository;
+    private final UserRepository userRepository;
+    private final UserCouponRepository userCouponRepository;
+    private final CouponEventRepository couponEventRepository;
+    private final OrderRepository orderRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final PointHistoryRepository pointHistoryRepository;
+    private final StripedStockService stripedStockService;
+    private final StockReservationService stockReservationService;
+    private final DataPlatformKafkaProducer dataPlatformKafkaProducer;
+    private final ProductCacheInvalidationService productCacheInvalidationService;
+    private final OrderTransactionRunner orderTransactionRunner;
+
+    public record OrderCommand(Long userId, Long userCouponId) {}
+
+    public record OrderResult(Order order, List<OrderItem> orderItems, RuntimeException error) {
+        public boolean isSuccess() {
+            return error == null;
+        }
+    }
+
+    /**
+     * 검증을 통과한 주문 (저장 대기)
+     */
+    private record AcceptedOrder(int index, OrderCommand command, List<CartItem> cartItems,
+                                 long totalAmount, long discountAmount, long finalAmount, User user) {}
+
+    /**
+     * @return commands와 같은 순서의 주문별 결과
+     */
+    public List<OrderResult> process(List<OrderCommand> commands) {
+        Set<Long> userIds = commands.stream()
+                .map(OrderCommand::userId)
+                .collect(Collectors.toCollection(TreeSet::new));
+
+        if (hasStripedProduct(userIds)) {
+            return orderTransactionRunner.runReadCommitted(() -> processInTransaction(commands, userIds));
+        }
+        return orderTransactionRunner.run(() -> processInTransaction(commands, userIds));
+    }
+
+    /**
+     * 트랜잭션 시작 전 배치 장바구니에 분할 재고 상품이 있는지 (잠금 없이 조회)
+     */
+    private boolean hasStripedProduct(Set<Long> userIds) {
+        Set<Long> productIds = cartRepository.findByUserIdIn(userIds).stream()
+                .map(CartItem::getProductId)
+                .collect(Collectors.toSet());
+        return !productIds.isEmpty() && !productRepository.findStripedProductIds(productIds).isEmpty();
+    }
+
+    private List<OrderResult> processInTransaction(List<OrderCommand> commands, Set<Long> userIds) {
+
+        // 1. 사용자 일괄 잠금 (ID 순)
+        Map<Long, User> users = userRepository.findAllByIdWithLock(userIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        // 2. 장바구니 일괄 조회 (사용자 행을 잠근 뒤라 같은 사용자의 다른 주문과 겹치지 않음)
+        Map<Long, List<CartItem>> cartsByUser = cartRepository.findByUserIdIn(userIds).stream()
+                .collect(Collectors.groupingBy(CartItem::getUserId));
+
+        // 3. 상품/쿠폰 일괄 조회 + 잠금 (ID 순, 분할 재고 상품 행은 잠그지 않고 조회만)
+        Set<Long> productIds = cartsByUser.values().stream()
+                .flatMap(List::stream)
+                .map(CartItem::getProductId)
+                .collect(Collectors.toCollection(TreeSet::new));
+
+        Map<Long, List<ProductStockBucket>> stripedBuckets = new HashMap<>();
+        Map<Long, Product> products = loadProducts(productIds, stripedBuckets);
+
+        Set<Long> userCouponIds = commands.stream()
+                .map(OrderCommand::userCouponId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(TreeSet::new));
+
+        Map<Long, UserCoupon> userCoupons = userCouponIds.isEmpty()
+                ? Map.of()
+                : userCouponRepository.findAllByIdWithLock(userCouponIds).stream()
+                        .collect(Collectors.toMap(UserCoupon::getId, Function.identity()));
+
+        // 4. 배치 내 남은 재고 (분할 재고 상품은 잠근 버킷 합계)
+        Map<Long, Integer> remainingStock = new HashMap<>();
+        for (Product product : products.values()) {
+            List<ProductStockBucket> buckets = stripedBuckets.get(product.getId());
+            int stock = buckets != null
+                    ? buckets.stream().mapToInt(ProductStockBucket::getStock).sum()
+                    : product.getStock();
+            remainingStock.put(product.getId(), stock);
+        }
+
+        // 5. 주문별 검증 및 메모리 반영
+        OrderResult[] results = new OrderResult[commands.size()];
+        List<AcceptedOrder> accepted = new ArrayList<>();
+        Map<Long, Integer> stripedDemand = new TreeMap<>();
+        Set<Long> orderedUserIds = new HashSet<>();
+
+        for (int i = 0; i < commands.size(); i++) {
+            OrderCommand command = commands.get(i);
+            try {
+                // 같은 사용자의 두 번째 주문은 장바구니가 이미 비워진 것으로 처리
+                List<CartItem> cartItems = orderedUserIds.contains(command.userId())
+                        ? null
+                        : cartsByUser.get(command.userId());
+                accepted.add(accept(i, command, cartItems, products, users, userCoupons, remainingStock, stripedDemand));
+                orderedUserIds.add(command.userId());
+            } catch (BaseException e) {
+                results[i] = new OrderResult(null, null, e);
+            }
+        }
+
+        // 6. 분할 재고 상품은 상품별 합산 수량을 잠근 버킷에서 한 번에 차감 (4에서 검증한 범위 안)
+        stripedDemand.forEach((productId, quantity) ->
+                stripedStockService.decreaseLockedStock(stripedBuckets.get(productId), quantity));
+
+        // 7. 주문/주문 아이템/포인트 이력 저장, 장바구니 정리
+        for (AcceptedOrder order : accepted) {
+            results[order.index()] = save(order, products);
+        }
+
+        if (!accepted.isEmpty()) {
+            cartRepository.deleteByUserIdIn(accepted.stream().map(o -> o.command().userId()).toList());
+
+            // 재고가 바뀐 상품 캐시 무효화 (커밋 이후 전 노드)
+            productCacheInvalidationService.invalidateStocks(accepted.stream()
+                    .flatMap(o -> o.cartItems().stream())
+                    .map(CartItem::getProductId)
+                    .collect(Collectors.toSet()));
+        }
+
+        log.debug("묶음 주문 처리 완료 - 요청: {}, 성공: {}", commands.size(), accepted.size());
+        return Arrays.asList(results);
+    }
+
+    /**
+     * 상품 ID 순으로 잠금: 일반 상품은 상품 행, 분할 재고 상품은 버킷 행 (상품 행은 잠그지 않고 조회만)
+     * - CreateOrderUseCase와 같은 ID 순서이므로, 연속한 일반 상품은 한 번의 IN 조회로 잠그고 분할 재고 상품 차례에 버킷을 잠금
+     * - 잠금 조회가 첫 로딩이어야 잠근 뒤의 최신 재고를 읽으므로 분할 여부는 엔티티 없이 미리 조회
+     */
+    private Map<Long, Product> loadProducts(Set<Long> productIds, Map<Long, List<ProductStockBucket>> stripedBuckets) {
+        if (productIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Set<Long> stripedProductIds = new HashSet<>(productRepository.findStripedProductIds(productIds));
+        Map<Long, Product> products = new HashMap<>();
+        List<Long> lockRun = new ArrayList<>();
+
+        for (Long productId : productIds) {
+            if (!stripedProductIds.contains(productId)) {
+                lockRun.add(productId);
+                continue;
+            }
+            lockProducts(lockRun, products);
+            stripedBuckets.put(productId, stripedStockService.lockBuckets(productId));
+        }
+        lockProducts(lockRun, products);
+
+        if (!stripedProductIds.isEmpty()) {
+            productRepository.findAllById(stripedProductIds)
+                    .forEach(product -> products.put(product.getId(), product));
+        }
+        return products;
+    }
+
+    private void lockProducts(List<Long> productIds, Map<Long, Product> products) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+        productRepository.findAllByIdWithLock(productIds)
+                .forEach(product -> products.put(product.getId(), product));
+        productIds.clear();
+    }
+
+    /**
+     * 주문 하나 검증 후 반영
+     * - 모든 검증을 통과한 뒤에만 엔티티를 변경한다
+     */
+    private AcceptedOrder accept(int index, OrderCommand command, List<CartItem> cartItems,
+                                 Map<Long, Product> products, Map<Long, User> users,
+                                 Map<Long, UserCoupon> userCoupons, Map<Long, Integer> remainingStock, Map<Long, Integer> stripedDemand) {
+        if (cartItems == null || cartItems.isEmpty()) {
+            throw new EmptyCartException(CartErrorCode.EMPTY_CART);
+        }
+
+        // 재고 검증 + 총 금액 계산
+        long totalAmount = 0;
+        for (CartItem item : cartItems) {
+            Product product = products.get(item.getProductId());
+            if (product == null) {
+                throw new ProductNotFoundException(ProductErrorCode.PRODUCT_NOT_FOUND);
+            }
+            if (remainingStock.get(product.getId()) < item.getQuantity()) {
+                throw new InsufficientStockException(ProductErrorCode.INSUFFICIENT_STOCK);
+            }
+            totalAmount += product.getPrice() * item.getQuantity();
+        }
+
+        // 쿠폰 검증 (배치 안에서 이미 사용된 쿠폰은 validateUsable에서 걸러짐)
+        long discountAmount = 0;
+        UserCoupon userCoupon = null;
+        if (command.userCouponId() != null) {
+            userCoupon = userCoupons.get(command.userCouponId());
+            if (userCoupon == null) {
+                throw new CouponNotFoundException(CouponErrorCode.COUPON_NOT_FOUND);
+            }
+            CouponEvent couponEvent = couponEventRepository.findByIdOrThrow(userCoupon.getCouponEventId());
+            userCoupon.validateUsable();
+            discountAmount = couponEvent.calculateDiscount(totalAmount);
+        }
+
+        long finalAmount = totalAmount - discountAmount;
+
+        // 포인트 검증
+        User user = users.get(command.userId());
+        if (user == null) {
+            throw new UserNotFoundException(UserErrorCode.USER_NOT_FOUND);
+        }
+        if (!user.hasPoint(finalAmount)) {
+            throw new InsufficientPointException(PointErrorCode.INSUFFICIENT_POINT);
+        }
+
+        // Redis 재고 예약 (예약 모드일 때만, 검증의 마지막 단계)
+        stockReservationService.reserve(cartItems);
+
+        // ===== 여기부터는 실패하지 않는 반영 단계 =====
+        for (CartItem item : cartItems) {
+            Product product = products.get(item.getProductId());
+            remainingStock.merge(product.getId(), -item.getQuantity(), Integer::sum);
+
+            if (product.isStockStriped()) {
+                stripedDemand.merge(product.getId(), item.getQuantity(), Integer::sum);
+            } else {
+                product.decreaseStock(item.getQuantity());
+            }
+        }
+
+        if (userCoupon != null) {
+            userCoupon.use();
+        }
+
+        user.usePoint(finalAmount);
+
+        return new AcceptedOrder(index, command, cartItems, totalAmount, discountAmount, finalAmount, user);
+    }
+
+    private OrderResult save(AcceptedOrder accepted, Map<Long, Product> products) {
+        OrderCommand command = accepted.command();
+
+        Order order = orderRepository.save(new Order(
+                null,
+                command.userId(),
+                accepted.totalAmount(),
+                accepted.discountAmount(),
+                accepted.finalAmount(),
+                command.userCouponId()
+        ));
+
+        List<OrderItem> orderItems = accepted.cartItems().stream()
+                .map(item -> {
+                    Product product = products.get(item.getProductId());
+                    return new OrderItem(
+                            null,
+                            order.getId(),
+                            product.getId(),
+                            product.getName(),
+                            item.getQuantity(),
+                            product.getPrice()
+                    );
+                })
+                .toList();
+        orderItems = orderItemRepository.saveAll(orderItems);
+
+        pointHistoryRepository.save(new PointHistory(
+                null,
+                command.userId(),
+                -accepted.finalAmount(),
+                TransactionType.USE,
+                accepted.user().getPointBalance(),
+                order.getId(),
+                String.format("주문 결제: 주문번호 %d", order.getId())
+        ));
+
+        // 아웃박스 모드에서는 주문과 같은 트랜잭션에 이벤트 저장
+        if (dataPlatformKafkaProducer.isOutboxEnabled()) {
+            dataPlatformKafkaProducer.sendOrderEvent(new OrderCreatedEvent(
+                    order.getId(),
+                    order.getUserId(),
+                    order.getFinalAmount(),
+                    orderItems.stream().map(OrderItem::getId).toList()
+            ));
+        }
+
+        return new OrderResult(order, orderItems, null);
+    }
+}
@@ -0,0 +1,227 @@
+package com.ecommerce.application.usecase.order.service;
+
+import com.ecommerce.application.usecase.order.CreateOrderUseCase;
+import com.ecommerce.application.usecase.order.service.OrderBatchProcessor.OrderCommand;
+import com.ecommerce.application.usecase.order.service.OrderBatchProcessor.OrderResult;
+import com.ecommerce.domain.order.OrderItem;
+import com.ecommerce.domain.order.event.OrderCreatedEvent;
+import com.ecommerce.domain.order.exception.OrderErrorCode;
+import com.ecommerce.domain.order.exception.OrderTimeoutException;
+import com.ecommerce.infrastructure.kafka.producer.DataPlatformKafkaProducer;
+import com.ecommerce.presentation.dto.order.OrderResponse;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 묶음 주문 엔진 (Group Commit, opt-in)
+ * - 짧은 시간 창(windowMs) 또는 최대 건수(maxBatchSize)만큼 주문을 모아 한 트랜잭션으로 처리
+ * - 호출자마다 CompletableFuture로 자신의 성공/실패를 돌려받음
+ * - 배치 트랜잭션 자체가 실패하면 주문별로 CreateOrderUseCase를 실행해 개별 결과를 보장
+ * - 호출자는 timeoutMs까지만 기다리고 OrderTimeoutException (아직 큐에 있던 주문은 빼서 처리되지 않음을 보장)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderGroupCommitEngine {
+
+    private final OrderBatchProcessor orderBatchProcessor;
+    private final CreateOrderUseCase createOrderUseCase;
+    private final RankingUpdateService rankingUpdateService;
+    private final DataPlatformKafkaProducer dataPlatformKafkaProducer;
+
+    @Value("${ecommerce.order.group-commit.enabled:false}")
+    private boolean enabled;
+
+    @Value("${ecommerce.order.group-commit.window-ms:3}")
+    private long windowMs;
+
+    @Value("${ecommerce.order.group-commit.max-batch-size:64}")
+    private int maxBatchSize;
+
+    @Value("${ecommerce.order.group-commit.timeout-ms:5000}")
+    private long timeoutMs;
+
+    private final BlockingQueue<PendingOrder> queue = new LinkedBlockingQueue<>();
+    private volatile boolean running;
+    private Thread dispatcher;
+
+    private record PendingOrder(OrderCommand command, CompletableFuture<OrderResponse> future) {}
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        dispatcher = new Thread(this::dispatchLoop, "order-group-commit");
+        dispatcher.setDaemon(true);
+        dispatcher.start();
+        log.info("묶음 주문 엔진 시작 - windowMs: {}, maxBatchSize: {}", windowMs, maxBatchSize);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (dispatcher != null) {
+            dispatcher.interrupt();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 주문 제출 후 결과 대기 (비즈니스 예외는 그대로 다시 던짐)
+     * @throws OrderTimeoutException timeoutMs 안에 결과가 나오지 않은 경우
+     */
+    public OrderResponse execute(Long userId, Long userCouponId) {
+        PendingOrder pending = enqueue(userId, userCouponId);
+        try {
+            return pending.future().get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 큐에서 빠졌으면 처리되지 않은 주문, 아니면 배치 처리 중이라 커밋될 수 있음
+            boolean dequeued = queue.remove(pending);
+            log.warn("묶음 주문 대기 시간 초과 - userId: {}, timeoutMs: {}, dequeued: {}", userId, timeoutMs, dequeued);
+            throw new OrderTimeoutException(OrderErrorCode.ORDER_TIMEOUT);
+        } catch (InterruptedException e) {
+            queue.remove(pending);
+            Thread.currentThread().interrupt();
+            throw new OrderTimeoutException(OrderErrorCode.ORDER_TIMEOUT);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    public CompletableFuture<OrderResponse> submit(Long userId, Long userCouponId) {
+        return enqueue(userId, userCouponId).future();
+    }
+
+    private PendingOrder enqueue(Long userId, Long userCouponId) {
+        PendingOrder pending = new PendingOrder(new OrderCommand(userId, userCouponId), new CompletableFuture<>());
+        queue.add(pending);
+        return pending;
+    }
+
+    private void dispatchLoop() {
+        while (running) {
+            try {
+                PendingOrder first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+
+                List<PendingOrder> batch = collectBatch(first);
+                executeBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.error("묶음 주문 디스패처 오류", e);
+            }
+        }
+        failRemaining();
+    }
+
+    /**
+     * 첫 주문 도착 후 windowMs 동안 또는 maxBatchSize가 찰 때까지 수집
+     */
+    private List<PendingOrder> collectBatch(PendingOrder first) throws InterruptedException {
+        List<PendingOrder> batch = new ArrayList<>(maxBatchSize);
+        batch.add(first);
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(windowMs);
+        while (batch.size() < maxBatchSize) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                break;
+            }
+            PendingOrder next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    private void executeBatch(List<PendingOrder> batch) {
+        List<OrderResult> results;
+        try {
+            results = orderBatchProcessor.process(batch.stream().map(PendingOrder::command).toList());
+        } catch (Exception e) {
+            log.warn("묶음 주문 트랜잭션 실패, 개별 처리로 전환 - size: {}", batch.size(), e);
+            executeIndividually(batch);
+            return;
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            OrderResult result = results.get(i);
+            CompletableFuture<OrderResponse> future = batch.get(i).future();
+
+            if (!result.isSuccess()) {
+                future.completeExceptionally(result.error());
+                continue;
+            }
+
+            publishOrderCreated(result);
+            future.complete(OrderResponse.from(result.order(), result.orderItems()));
+        }
+    }
+
+    private void executeIndividually(List<PendingOrder> batch) {
+        for (PendingOrder pending : batch) {
+            try {
+                OrderCommand command = pending.command();
+                pending.future().complete(createOrderUseCase.execute(command.userId(), command.userCouponId()));
+            } catch (Exception e) {
+                pending.future().completeExceptionally(e);
+            }
+        }
+    }
+
+    /**
+     * 커밋 이후 랭킹 갱신 및 데이터 플랫폼 이벤트 발행
+     */
+    private void publishOrderCreated(OrderResult result) {
+        try {
+            rankingUpdateService.updateRanking(result.order().getId(), result.orderItems());
+
+            // 아웃박스 모드에서는 배치 트랜잭션 안에서 이미 저장됨
+            if (dataPlatformKafkaProducer.isOutboxEnabled()) {
+                return;
+            }
+            dataPlatformKafkaProducer.sendOrderEvent(new OrderCreatedEvent(
+                    result.order().getId(),
+                    result.order().getUserId(),
+                    result.order().getFinalAmount(),
+                    result.orderItems().stream().map(OrderItem::getId).toList()
+            ));
+        } catch (Exception e) {
+            log.error("주문 후처리 실패 - orderId: {}", result.order().getId(), e);
+        }
+    }
+
+    private void failRemaining() {
+        PendingOrder pending;
+        while ((pending = queue.poll()) != null) {
+            pending.future().completeExceptionally(new IllegalStateException("묶음 주문 엔진이 종료되었습니다."));
+        }
+    }
+}
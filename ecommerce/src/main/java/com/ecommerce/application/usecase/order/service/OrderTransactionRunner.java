@@ -0,0 +1,27 @@
+package com.ecommerce.application.usecase.order.service;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.function.Supplier;
+
+/**
+ * 주문 트랜잭션 (격리 수준 선택)
+ * - 분할 재고 차감은 READ COMMITTED에서만 실행할 수 있으므로(StripedStockService 참고)
+ *   분할 재고 상품이 있는 주문만 READ COMMITTED, 나머지는 기본 격리 수준
+ * - 격리 수준은 트랜잭션 시작 전에 정해야 하므로 호출 측이 잠금 없이 미리 읽은 장바구니로 판단
+ */
+@Component
+public class OrderTransactionRunner {
+
+    @Transactional
+    public <T> T run(Supplier<T> work) {
+        return work.get();
+    }
+
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public <T> T runReadCommitted(Supplier<T> work) {
+        return work.get();
+    }
+}
@@ -1,13 +1,11 @@
 package com.ecommerce.application.usecase.order.service;
 
 import com.ecommerce.domain.order.OrderItem;
-import com.ecommerce.infrastructure.redis.ProductRankingRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
 import java.util.Map;
@@ -18,9 +16,12 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class RankingUpdateService {
 
-    private final ProductRankingRepository productRankingRepository;
+    private final RankingWriteBuffer rankingWriteBuffer;
 
-    @Async
+    /**
+     * 주문 상품 판매량을 랭킹 버퍼에 누적 (Redis 반영은 RankingWriteBuffer가 주기적으로 수행)
+     * - 트랜잭션 안이면 커밋 이후에 누적해 롤백된 주문은 집계하지 않음
+     */
     public void updateRanking(Long orderId, List<OrderItem> orderItems) {
         Map<Long, Integer> productQuantities = orderItems.stream()
                 .collect(Collectors.toMap(
@@ -29,10 +30,16 @@ public class RankingUpdateService {
                         Integer::sum  // 같은 상품이 여러 번 있으면 합산
                 ));
 
-        try {
-            productRankingRepository.incrementTodayRanking(productQuantities);
-        } catch (Exception e) {
-            log.error("랭킹 업데이트 실패 - orderId: {}", orderId, e);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            rankingWriteBuffer.add(productQuantities);
+            return;
         }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                rankingWriteBuffer.add(productQuantities);
+            }
+        });
     }
 }
@@ -0,0 +1,168 @@
+package com.ecommerce.application.usecase.order.service;
+
+import com.ecommerce.application.usecase.product.service.LocalRankingSketch;
+import com.ecommerce.infrastructure.redis.ProductRankingRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 랭킹 증가분 Write-Behind 버퍼
+ * - 주문마다 Redis에 쓰지 않고 시간 버킷(주문 시각의 정시)별·상품별 LongAdder에 누적 (락 없이 스트라이핑)
+ * - 버킷 시각을 함께 보관하므로 정시/자정을 넘겨 플러시되거나 장애 후 재시도돼도 판매 시각의 시간/일간 키에 반영
+ * - flushIntervalMs마다 또는 누적 건수가 maxPending을 넘으면 상품별 합계를 파이프라인 한 번으로 반영
+ * - Redis 반영 실패 시 증가분을 재시도 대기분으로 남겨 다음 플러시에 재시도 (장애 동안의 증가분은 복구 후 한 번에 반영)
+ * - 플러시마다 새로 모은 증가분을 로컬 근사 랭킹(LocalRankingSketch)에도 기록해 Redis 장애 중 조회에 사용
+ *   (주문 경로에서는 스케치의 모니터를 잡지 않음, 재시도 대기분은 이미 기록했으므로 다시 기록하지 않음)
+ * - 종료 시 남은 증가분 플러시
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RankingWriteBuffer {
+
+    private final ProductRankingRepository productRankingRepository;
+    private final LocalRankingSketch localRankingSketch;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${ecommerce.ranking.buffer.max-pending:10000}")
+    private long maxPending;
+
+    // 시간 버킷(정시) → 상품별 증가분
+    private final Map<LocalDateTime, Map<Long, LongAdder>> deltas = new ConcurrentHashMap<>();
+    // 버퍼에 남은 주문(add 호출) 수
+    private final AtomicLong pendingUpdates = new AtomicLong();
+    // Redis 반영에 실패해 다음 플러시에 다시 보낼 증가분 (flush 안에서만 접근)
+    private Map<LocalDateTime, Map<Long, Integer>> retryDeltas = new HashMap<>();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private volatile boolean redisFailing;
+    private final ExecutorService flushExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "ranking-buffer-flush");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private Counter flushedDeltaCounter;
+    private Timer flushTimer;
+
+    @PostConstruct
+    public void init() {
+        Gauge.builder("ranking.buffer.pending", pendingUpdates, AtomicLong::get)
+                .description("Redis에 반영되지 않은 랭킹 증가 요청 수")
+                .register(meterRegistry);
+        flushedDeltaCounter = Counter.builder("ranking.buffer.flushed")
+                .description("Redis에 반영된 상품별 증가분 수")
+                .register(meterRegistry);
+        flushTimer = Timer.builder("ranking.buffer.flush")
+                .description("랭킹 버퍼 플러시 지연 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 상품별 판매량 누적 (Redis 호출 없음)
+     */
+    public void add(Map<Long, Integer> productQuantities) {
+        addToBucket(LocalDateTime.now().truncatedTo(ChronoUnit.HOURS), productQuantities);
+
+        if (pendingUpdates.incrementAndGet() >= maxPending && flushScheduled.compareAndSet(false, true)) {
+            flushExecutor.execute(() -> {
+                flushScheduled.set(false);
+                flush();
+            });
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${ecommerce.ranking.buffer.flush-interval-ms:1000}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flushExecutor.shutdown();
+        flush();
+    }
+
+    /**
+     * 누적된 증가분을 한 번에 Redis 반영
+     * - sumThenReset은 셀 단위 getAndSet이므로 플러시 중 들어온 증가분도 유실되지 않음
+     * - 새로 모은 증가분은 로컬 스케치에 기록하고, 지난 실패분과 합쳐 Redis 반영
+     * - 실패 시 시간 버킷을 유지한 채 재시도 대기분으로 남기고, 대기 건수도 가져간 주문 수만큼 복구
+     */
+    public synchronized void flush() {
+        // 재시도 대기분의 주문 수도 실패 시 다시 더해 두었으므로 함께 가져옴
+        long orders = pendingUpdates.getAndSet(0);
+
+        LocalDateTime previousHour = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).minusHours(1);
+        Map<LocalDateTime, Map<Long, Integer>> snapshot = new HashMap<>();
+        deltas.forEach((hour, bucket) -> {
+            Map<Long, Integer> quantities = new HashMap<>();
+            bucket.forEach((productId, adder) -> {
+                long sum = adder.sumThenReset();
+                if (sum != 0) {
+                    quantities.put(productId, (int) sum);
+                }
+            });
+            if (!quantities.isEmpty()) {
+                snapshot.put(hour, quantities);
+            }
+            // 한 시간 넘게 지난 버킷은 더 이상 add되지 않으므로 비운 뒤 제거
+            if (hour.isBefore(previousHour)) {
+                deltas.remove(hour, bucket);
+            }
+        });
+
+        snapshot.forEach((hour, quantities) -> localRankingSketch.record(hour.toLocalDate(), quantities));
+
+        retryDeltas.forEach((hour, quantities) -> {
+            Map<Long, Integer> merged = snapshot.computeIfAbsent(hour, h -> new HashMap<>());
+            quantities.forEach((productId, quantity) -> merged.merge(productId, quantity, Integer::sum));
+        });
+        retryDeltas = new HashMap<>();
+
+        if (snapshot.isEmpty()) {
+            return;
+        }
+
+        int products = snapshot.values().stream().mapToInt(Map::size).sum();
+        try {
+            flushTimer.record(() -> productRankingRepository.incrementRanking(snapshot));
+            flushedDeltaCounter.increment(products);
+            if (redisFailing) {
+                redisFailing = false;
+                log.info("Redis 복구 - 장애 중 누적된 랭킹 증가분 반영 완료, 시간 버킷 수: {}, 상품 수: {}",
+                        snapshot.size(), products);
+            }
+        } catch (Exception e) {
+            redisFailing = true;
+            log.error("랭킹 버퍼 플러시 실패, 다음 주기에 재시도 - 주문 수: {}, 상품 수: {}", orders, products, e);
+            retryDeltas = snapshot;
+            pendingUpdates.addAndGet(orders);
+        }
+    }
+
+    private void addToBucket(LocalDateTime hour, Map<Long, Integer> productQuantities) {
+        Map<Long, LongAdder> bucket = deltas.computeIfAbsent(hour, h -> new ConcurrentHashMap<>());
+        productQuantities.forEach((productId, quantity) ->
+                bucket.computeIfAbsent(productId, id -> new LongAdder()).add(quantity));
+    }
+}
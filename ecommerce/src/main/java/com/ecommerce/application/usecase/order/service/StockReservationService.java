@@ -0,0 +1,154 @@
+package com.ecommerce.application.usecase.order.service;
+
+import com.ecommerce.domain.cart.CartItem;
+import com.ecommerce.domain.product.Product;
+import com.ecommerce.domain.product.exception.InsufficientStockException;
+import com.ecommerce.domain.product.exception.ProductErrorCode;
+import com.ecommerce.domain.product.exception.ProductNotFoundException;
+import com.ecommerce.infrastructure.redis.ProductStockRedisRepository;
+import com.ecommerce.infrastructure.redis.ProductStockRedisRepository.Reservation;
+import com.ecommerce.infrastructure.repository.ProductRepository;
+import com.ecommerce.infrastructure.repository.ProductStockBucketRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis 재고 예약 게이트
+ * - 주문의 모든 장바구니 상품 재고를 Lua 스크립트 한 번으로 예약
+ * - 예약 실패 시 DB 작업 전에 주문 거절
+ * - 트랜잭션 롤백 시 예약 수량 반환
+ * - Redis 재고는 DB 재고의 사본이므로 TTL(ttl-ms)마다 DB 재고로 다시 초기화되고,
+ *   주문 외 경로로 재고를 바꾸는 곳(분할 전환 등)은 resync로 즉시 맞춘다
+ * - 초기화 값은 주문 경로가 실제로 차감하는 재고 (분할 재고 상품은 products.stock이 아닌 버킷 합계)
+ * - 초기화마다 세대가 바뀌어, 이전 세대에서 예약한 주문이 롤백되어도 새 재고에 되돌리지 않음
+ * - 재초기화 시점에 커밋 전인 예약이 커밋되면 다음 초기화까지 DB보다 많게 잡힐 수 있으나 DB 차감이 최종 확정
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StockReservationService {
+
+    private final ProductStockRedisRepository productStockRedisRepository;
+    private final ProductRepository productRepository;
+    private final ProductStockBucketRepository productStockBucketRepository;
+
+    @Value("${ecommerce.order.stock-reservation.enabled:false}")
+    private boolean enabled;
+
+    @Value("${ecommerce.order.stock-reservation.ttl-ms:60000}")
+    private long ttlMs;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 장바구니 상품 재고 예약
+     * @throws InsufficientStockException 하나라도 재고가 부족한 경우 (아무것도 차감되지 않음)
+     */
+    public void reserve(List<CartItem> cartItems) {
+        if (!enabled) {
+            return;
+        }
+
+        Map<Long, Integer> productQuantities = new LinkedHashMap<>();
+        for (CartItem item : cartItems) {
+            productQuantities.merge(item.getProductId(), item.getQuantity(), Integer::sum);
+        }
+
+        Reservation reservation = productStockRedisRepository.reserve(productQuantities);
+
+        // 재고 키가 없으면 DB 재고로 초기화 후 한 번 더 시도
+        if (reservation.code() < 0) {
+            initializeStocks(productQuantities);
+            reservation = productStockRedisRepository.reserve(productQuantities);
+        }
+
+        if (reservation.code() < 0) {
+            throw new ProductNotFoundException(ProductErrorCode.PRODUCT_NOT_FOUND);
+        }
+
+        if (reservation.code() > 0) {
+            log.debug("재고 예약 실패 - products: {}, result: {}", productQuantities, reservation.code());
+            throw new InsufficientStockException(ProductErrorCode.INSUFFICIENT_STOCK);
+        }
+
+        releaseOnRollback(productQuantities, reservation.generations());
+    }
+
+    private void initializeStocks(Map<Long, Integer> productQuantities) {
+        List<Product> products = productRepository.findAllById(productQuantities.keySet());
+        for (Product product : products) {
+            long stock = product.isStockStriped()
+                    ? productStockBucketRepository.sumStockByProductId(product.getId())
+                    : product.getStock();
+            productStockRedisRepository.initializeStockIfAbsent(product.getId(), stock, Duration.ofMillis(ttlMs));
+        }
+    }
+
+    /**
+     * DB 재고가 주문 외 경로로 바뀌었을 때 호출 (트랜잭션 안이면 커밋 이후 실행)
+     * - 재고 키를 지워 다음 예약 시 커밋된 DB 재고와 새 세대로 다시 초기화
+     *   (그 사이 진행 중이던 예약이 롤백되어도 이전 세대라 새 재고에 더해지지 않음)
+     */
+    public void resync(Collection<Long> productIds) {
+        if (!enabled || productIds.isEmpty()) {
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            productStockRedisRepository.evict(productIds);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                productStockRedisRepository.evict(productIds);
+            }
+        });
+    }
+
+    /**
+     * 트랜잭션이 커밋되지 않으면 예약한 재고를 되돌린다
+     */
+    private void releaseOnRollback(Map<Long, Integer> productQuantities, Map<Long, String> generations) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    return;
+                }
+                try {
+                    productStockRedisRepository.release(productQuantities, generations);
+                } catch (Exception e) {
+                    // 반환하지 못한 수량은 키를 지워 DB 재고로 다시 맞춘다
+                    log.error("재고 예약 반환 실패 - products: {}", productQuantities, e);
+                    evictQuietly(productQuantities.keySet());
+                }
+            }
+        });
+    }
+
+    private void evictQuietly(Collection<Long> productIds) {
+        try {
+            productStockRedisRepository.evict(productIds);
+        } catch (Exception e) {
+            log.error("재고 예약 키 삭제 실패, TTL 만료 후 재초기화 - products: {}", productIds, e);
+        }
+    }
+}
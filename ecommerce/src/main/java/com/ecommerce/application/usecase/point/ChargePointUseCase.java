@@ -10,6 +10,7 @@ import com.ecommerce.infrastructure.repository.PointHistoryRepository;
 import com.ecommerce.infrastructure.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,19 +24,38 @@ public class ChargePointUseCase {
     private final UserRepository userRepository;
     private final PointHistoryRepository pointHistoryRepository;
 
-    @DistributedLock(key = "'point:charge:' + #userId", type = LockType.PUB_SUB)
+    @Value("${ecommerce.atomic-update.enabled:false}")
+    private boolean atomicUpdateEnabled;
+
+    @DistributedLock(
+            key = "'point:charge:' + #userId",
+            type = LockType.PUB_SUB,
+            condition = "lockRequired"
+    )
     @Transactional
     public ChargePointResponse execute(Long userId, long amount) {
         log.debug("포인트 충전 시도: userId={}, amount={}", userId, amount);
 
-        // 1. 사용자 조회 (낙관적 락)
-        User user = userRepository.findByIdOrThrow(userId);
+        User user;
+        long previousBalance;
+
+        if (atomicUpdateEnabled) {
+            // 1. 조건부 UPDATE로 충전 후 최신 잔액 조회 (락 없음)
+            userRepository.chargePointAtomically(userId, amount);
+            user = userRepository.findByIdOrThrow(userId);
+
+            // 2. 충전 전 포인트 계산
+            previousBalance = user.getPointBalance() - amount;
+        } else {
+            // 1. 사용자 행 잠금 조회 (충전 락과 주문 경로는 키가 다르므로 잔액은 행 락으로 보호)
+            user = userRepository.findByIdWithLockOrThrow(userId);
 
-        // 2. 충전 전 포인트 저장
-        long previousBalance = user.getPointBalance();
+            // 2. 충전 전 포인트 저장
+            previousBalance = user.getPointBalance();
 
-        // 3. 포인트 충전
-        user.chargePoint(amount);
+            // 3. 포인트 충전
+            user.chargePoint(amount);
+        }
 
         // 4. 포인트 이력 저장
         PointHistory pointHistory = new PointHistory(
@@ -51,4 +71,12 @@ public class ChargePointUseCase {
         // 5. 응답 생성
         return ChargePointResponse.from(user, previousBalance, amount);
     }
+
+    /**
+     * 락 적용 조건 (DistributedLock condition의 lockRequired, SpEL은 private 필드가 아닌 이 getter로 읽음)
+     * - 원자적 UPDATE 모드에서는 조건부 UPDATE가 잔액을 보호하므로 락 생략
+     */
+    public boolean isLockRequired() {
+        return !atomicUpdateEnabled;
+    }
 }
\ No newline at end of file
@@ -1,54 +1,124 @@
 package com.ecommerce.application.usecase.product;
 
-import com.ecommerce.domain.product.Product;
-import com.ecommerce.infrastructure.redis.ProductRankingRepository;
-import com.ecommerce.infrastructure.repository.OrderItemRepository;
-import com.ecommerce.infrastructure.repository.OrderItemRepository.ProductSalesProjection;
-import com.ecommerce.infrastructure.repository.ProductRepository;
+import com.ecommerce.application.usecase.product.service.PopularProductsLoader;
+import com.ecommerce.application.usecase.product.service.ProductCacheInvalidationService;
+import com.ecommerce.application.usecase.product.service.ProductStockCacheService;
+import com.ecommerce.infrastructure.redis.PopularProductCacheKeyRedisRepository;
 import com.ecommerce.presentation.dto.product.PopularProductResponse;
-import com.ecommerce.presentation.dto.product.ProductRankingDto;
+import com.ecommerce.presentation.dto.product.RankingMode;
+import com.ecommerce.presentation.dto.product.RankingWindow;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.Cacheable;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
-import java.util.List;
+import java.time.Duration;
+import java.util.LinkedHashSet;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * US-PROD-003: 인기 상품 조회 (최근 3일 판매량 Top 5)
+ * US-PROD-003: 인기 상품 조회
+ * - 기본: 최근 3일 판매량 Top 5
+ * - 기간(1h/24h/3d/7d)과 방식(sales/trending), 개수를 지정할 수 있음
+ * - 캐시에는 재고 없는 랭킹만 저장하고, 재고는 응답 시점에 ProductStockCacheService에서 붙임
+ *   (주문으로 재고가 바뀌어도 인기 상품 캐시를 비울 필요가 없음)
+ * - 조회된 캐시 키는 Redis에 기록해 PopularProductsCacheRefresher가 만료 전에 미리 갱신
  */
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class GetPopularProductsUseCase {
-    private final ProductRepository productRepository;
-    private final ProductRankingRepository productRankingRepository;
-
-    @Transactional(readOnly = true)
-    @Cacheable(value = "product:popular")
-    public PopularProductResponse execute() {
-        // 1. Redis에서 최근 3일간 Top 5 조회
-        List<ProductRankingDto> topRankings =
-                productRankingRepository.getTop5Last3Days();
-
-        // 2. 상품 ID 및 판매량 맵 생성
-        List<Long> topProductIds = topRankings.stream()
-                .map(ProductRankingDto::productId)
-                .collect(Collectors.toList());
-
-        Map<Long, Integer> salesCountMap = topRankings.stream()
-                .collect(Collectors.toMap(
-                        ProductRankingDto::productId,
-                        ProductRankingDto::totalQuantity
-                ));
-
-        // 3. 상품 정보 조회 (DB)
-        List<Product> popularProducts = productRepository.findAllById(topProductIds);
-
-        // 4. 응답 생성
-        LocalDateTime threeDaysAgo = LocalDateTime.now().minusDays(3);
-        return PopularProductResponse.from(popularProducts, salesCountMap, threeDaysAgo);
+
+    public static final int DEFAULT_LIMIT = 5;
+    public static final int MAX_LIMIT = 100;
+    public static final String DEFAULT_CACHE_KEY = cacheKey(RankingWindow.DAY_3, RankingMode.SALES, DEFAULT_LIMIT);
+
+    // 이 시간 동안 조회되지 않은 키는 미리 갱신하지 않음 (L2 캐시 TTL과 동일)
+    private static final Duration REQUESTED_KEY_TTL = Duration.ofMinutes(10);
+    // 노드별 키 조회 기록 간격 (요청마다 Redis에 쓰지 않도록)
+    private static final long TOUCH_INTERVAL_MS = 60_000;
+
+    private final PopularProductsLoader popularProductsLoader;
+    private final ProductStockCacheService productStockCacheService;
+    private final PopularProductCacheKeyRedisRepository popularProductCacheKeyRedisRepository;
+    private final CacheManager cacheManager;
+
+    private final Map<String, Long> lastTouchedAt = new ConcurrentHashMap<>();
+
+    /**
+     * 캐시 키 (예: "3d:sales:5")
+     */
+    public static String cacheKey(RankingWindow window, RankingMode mode, int limit) {
+        return window.getCode() + ":" + mode.getCode() + ":" + limit;
+    }
+
+    /**
+     * 랭킹 캐시 조회 후 실시간 재고 조합
+     * - 캐시 미스 시 노드당 키별로 한 요청만 로딩하고 나머지는 결과 대기 (Cache.get(key, valueLoader))
+     * - 최근 조회된 키는 만료 전에 PopularProductsCacheRefresher가 미리 갱신하므로 평소에는 미스가 나지 않음
+     */
+    public PopularProductResponse execute(RankingWindow window, RankingMode mode, int limit) {
+        validateLimit(limit);
+
+        String key = cacheKey(window, mode, limit);
+        touch(key);
+
+        Cache cache = cacheManager.getCache(ProductCacheInvalidationService.POPULAR_PRODUCTS_CACHE);
+        PopularProductResponse ranking = cache != null
+                ? cache.get(key, () -> popularProductsLoader.load(window, mode, limit))
+                : popularProductsLoader.load(window, mode, limit);
+
+        return ranking.withStocks(productStockCacheService.getStocks(ranking.productIds()));
+    }
+
+    /**
+     * 미리 갱신할 캐시 키 (기본 키 + 최근 조회된 키)
+     */
+    public Set<String> getRequestedCacheKeys() {
+        Set<String> keys = new LinkedHashSet<>();
+        keys.add(DEFAULT_CACHE_KEY);
+        keys.addAll(popularProductCacheKeyRedisRepository.findRequestedSince(
+                System.currentTimeMillis() - REQUESTED_KEY_TTL.toMillis()));
+        return keys;
+    }
+
+    /**
+     * 캐시 키로 인기 상품 랭킹 계산 (재고 미포함)
+     */
+    public PopularProductResponse load(String cacheKey) {
+        String[] parts = cacheKey.split(":");
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("인기 상품 캐시 키 형식이 아닙니다: " + cacheKey);
+        }
+        int limit = Integer.parseInt(parts[2]);
+        validateLimit(limit);
+        return popularProductsLoader.load(RankingWindow.from(parts[0]), RankingMode.from(parts[1]), limit);
+    }
+
+    /**
+     * 조회된 키 기록 (노드별 TOUCH_INTERVAL_MS에 한 번, Redis 장애 시 조회는 계속)
+     */
+    private void touch(String key) {
+        long now = System.currentTimeMillis();
+        Long last = lastTouchedAt.get(key);
+        if (last != null && now - last < TOUCH_INTERVAL_MS) {
+            return;
+        }
+        lastTouchedAt.put(key, now);
+        try {
+            popularProductCacheKeyRedisRepository.touch(key, now);
+        } catch (DataAccessException e) {
+            log.warn("인기 상품 캐시 키 기록 실패 - key: {}, cause: {}", key, e.getMessage());
+        }
+    }
+
+    private void validateLimit(int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("조회 개수는 1 이상 " + MAX_LIMIT + " 이하여야 합니다: " + limit);
+        }
     }
 }
@@ -0,0 +1,68 @@
+package com.ecommerce.application.usecase.product;
+
+import com.ecommerce.application.usecase.product.service.ProductDetailCacheService;
+import com.ecommerce.application.usecase.product.service.RankingQueryService;
+import com.ecommerce.presentation.dto.product.ProductRankingDto;
+import com.ecommerce.presentation.dto.product.ProductRankingPageResponse;
+import com.ecommerce.presentation.dto.product.ProductRankingPageResponse.RankedProduct;
+import com.ecommerce.presentation.dto.product.ProductResponse;
+import com.ecommerce.presentation.dto.product.RankingMode;
+import com.ecommerce.presentation.dto.product.RankingWindow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * US-PROD-004: 상품 랭킹 페이지 조회
+ * - 커서는 이전 페이지의 마지막 순위 (첫 페이지는 0)
+ * - 순위 구간은 Redis ZSET에서 바로 읽고, 상품 정보는 상세 캐시 다건 조회로 채움 (DB 정렬/스캔 없음)
+ * - 최대 MAX_RANK위까지 조회 가능
+ */
+@Component
+@RequiredArgsConstructor
+public class GetProductRankingUseCase {
+
+    public static final int MAX_RANK = 1000;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private final RankingQueryService rankingQueryService;
+    private final ProductDetailCacheService productDetailCacheService;
+
+    public ProductRankingPageResponse execute(RankingWindow window, RankingMode mode, long cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다: " + size);
+        }
+        if (cursor < 0 || cursor >= MAX_RANK) {
+            throw new IllegalArgumentException("커서는 0 이상 " + MAX_RANK + " 미만이어야 합니다: " + cursor);
+        }
+
+        // 1. 순위 구간 조회 (다음 페이지 존재 여부 확인용으로 1건 더)
+        int pageSize = (int) Math.min(size, MAX_RANK - cursor);
+        List<ProductRankingDto> rankings =
+                rankingQueryService.getRankingPage(window, mode, cursor, pageSize + 1);
+
+        boolean hasNext = rankings.size() > pageSize && cursor + pageSize < MAX_RANK;
+        List<ProductRankingDto> page = rankings.size() > pageSize ? rankings.subList(0, pageSize) : rankings;
+
+        // 2. 상품 정보 다건 조회 (캐시 우선)
+        Map<Long, ProductResponse> products = productDetailCacheService.getProducts(
+                page.stream().map(ProductRankingDto::productId).toList());
+
+        // 3. 순위 순서대로 응답 생성 (삭제된 상품은 건너뜀, 순위는 유지)
+        List<RankedProduct> rankedProducts = new ArrayList<>(page.size());
+        for (ProductRankingDto ranking : page) {
+            ProductResponse product = products.get(ranking.productId());
+            if (product != null) {
+                rankedProducts.add(RankedProduct.of(ranking, product));
+            }
+        }
+
+        Long nextCursor = hasNext ? page.get(page.size() - 1).rank() : null;
+        LocalDateTime periodStart = LocalDateTime.now().minus(window.getDuration());
+        return ProductRankingPageResponse.of(window, mode, periodStart, rankedProducts, nextCursor);
+    }
+}
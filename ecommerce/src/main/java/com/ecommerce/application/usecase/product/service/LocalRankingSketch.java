@@ -0,0 +1,86 @@
+package com.ecommerce.application.usecase.product.service;
+
+import com.ecommerce.domain.common.sketch.SpaceSavingTopK;
+import com.ecommerce.presentation.dto.product.ProductRankingDto;
+import com.ecommerce.presentation.dto.product.RankingWindow;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * 노드 로컬 근사 랭킹 (Redis 장애 시 대체 조회용)
+ * - 일자별 Space-Saving 스케치를 최근 7일치 링으로 유지, 랭킹 버퍼가 플러시할 때 모은 판매량을 누적
+ * - 조회 시 기간에 해당하는 일자 스케치의 추정값을 합산해 정렬 (1시간/24시간/trending은 오늘만)
+ * - 노드별 집계이므로 전체 판매량이 아닌 이 노드가 처리한 주문 기준 근사치
+ */
+@Component
+public class LocalRankingSketch {
+
+    private static final int RETENTION_DAYS = 7;
+
+    private final DaySketch[] days = new DaySketch[RETENTION_DAYS];
+
+    @Value("${ecommerce.ranking.sketch.capacity:2000}")
+    private int capacity;
+
+    private record DaySketch(LocalDate date, SpaceSavingTopK<Long> sketch) {}
+
+    /**
+     * 판매 일자 스케치에 상품별 판매량 누적 (보관 기간이 지난 일자는 무시)
+     */
+    public void record(LocalDate date, Map<Long, Integer> productQuantities) {
+        if (date.isBefore(LocalDate.now().minusDays(RETENTION_DAYS - 1))) {
+            return;
+        }
+        SpaceSavingTopK<Long> sketch = sketchFor(date);
+        productQuantities.forEach(sketch::add);
+    }
+
+    /**
+     * 기간별 근사 순위 구간 (rank는 1부터 시작하는 전체 순위)
+     */
+    public List<ProductRankingDto> getRankingPage(RankingWindow window, long offset, int count) {
+        LocalDate today = LocalDate.now();
+        int windowDays = window == RankingWindow.DAY_3 || window == RankingWindow.DAY_7
+                ? (int) window.getDuration().toDays()
+                : 1;
+
+        Map<Long, Long> merged = new HashMap<>();
+        for (int i = 0; i < windowDays; i++) {
+            SpaceSavingTopK<Long> sketch = existingSketch(today.minusDays(i));
+            if (sketch == null) {
+                continue;
+            }
+            for (SpaceSavingTopK.Entry<Long> entry : sketch.top(sketch.getCapacity())) {
+                merged.merge(entry.item(), entry.count(), Long::sum);
+            }
+        }
+
+        List<Map.Entry<Long, Long>> sorted = new ArrayList<>(merged.entrySet());
+        sorted.sort(Map.Entry.<Long, Long>comparingByValue().reversed());
+
+        List<ProductRankingDto> rankings = new ArrayList<>();
+        for (long i = offset; i < Math.min(sorted.size(), offset + count); i++) {
+            Map.Entry<Long, Long> entry = sorted.get((int) i);
+            rankings.add(new ProductRankingDto(entry.getKey(), entry.getValue().intValue(), i + 1));
+        }
+        return rankings;
+    }
+
+    private synchronized SpaceSavingTopK<Long> sketchFor(LocalDate date) {
+        int slot = (int) (date.toEpochDay() % RETENTION_DAYS);
+        DaySketch day = days[slot];
+        if (day == null || !day.date().equals(date)) {
+            day = new DaySketch(date, new SpaceSavingTopK<>(capacity));
+            days[slot] = day;
+        }
+        return day.sketch();
+    }
+
+    private synchronized SpaceSavingTopK<Long> existingSketch(LocalDate date) {
+        DaySketch day = days[(int) (date.toEpochDay() % RETENTION_DAYS)];
+        return day != null && day.date().equals(date) ? day.sketch() : null;
+    }
+}
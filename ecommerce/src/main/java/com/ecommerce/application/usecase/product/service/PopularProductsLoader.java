@@ -0,0 +1,55 @@
+package com.ecommerce.application.usecase.product.service;
+
+import com.ecommerce.domain.product.Product;
+import com.ecommerce.infrastructure.repository.ProductRepository;
+import com.ecommerce.presentation.dto.product.PopularProductResponse;
+import com.ecommerce.presentation.dto.product.ProductRankingDto;
+import com.ecommerce.presentation.dto.product.RankingMode;
+import com.ecommerce.presentation.dto.product.RankingWindow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 캐시를 거치지 않고 인기 상품 랭킹 계산 (재고 미포함)
+ * - 캐시 로더(람다)와 갱신 스케줄러에서 호출되므로 트랜잭션 프록시가 적용되도록 별도 빈으로 분리
+ */
+@Service
+@RequiredArgsConstructor
+public class PopularProductsLoader {
+
+    private final ProductRepository productRepository;
+    private final RankingQueryService rankingQueryService;
+
+    @Transactional(readOnly = true)
+    public PopularProductResponse load(RankingWindow window, RankingMode mode, int limit) {
+        // 1. Redis에서 기간/방식별 상위 상품 조회 (Redis 장애 시 로컬 근사 랭킹)
+        List<ProductRankingDto> topRankings =
+                rankingQueryService.getTopRankings(window, mode, limit);
+
+        // 2. 상품 ID별 순위 및 판매량 맵 생성
+        Map<Long, Long> rankMap = topRankings.stream()
+                .collect(Collectors.toMap(ProductRankingDto::productId, ProductRankingDto::rank));
+
+        Map<Long, Integer> salesCountMap = topRankings.stream()
+                .collect(Collectors.toMap(
+                        ProductRankingDto::productId,
+                        ProductRankingDto::totalQuantity
+                ));
+
+        // 3. 상품 정보 조회 (DB, 순위 순서로 정렬)
+        List<Product> popularProducts = productRepository.findAllById(rankMap.keySet()).stream()
+                .sorted(Comparator.comparing(product -> rankMap.get(product.getId())))
+                .toList();
+
+        // 4. 응답 생성
+        LocalDateTime periodStart = LocalDateTime.now().minus(window.getDuration());
+        return PopularProductResponse.from(popularProducts, salesCountMap, periodStart);
+    }
+}
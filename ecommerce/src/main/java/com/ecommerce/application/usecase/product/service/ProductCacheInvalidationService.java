@@ -0,0 +1,42 @@
+package com.ecommerce.application.usecase.product.service;
+
+import com.ecommerce.infrastructure.cache.CacheInvalidationBus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * 상품/쿠폰 변경 시 캐시 무효화
+ * - 재고: 변경된 상품의 재고 키만 삭제 (카탈로그 캐시는 재고 변경과 무관하게 유지)
+ * - 인기 상품: 캐시에 재고를 담지 않으므로 재고 변경으로 무효화하지 않음 (응답 시점에 재고 조합)
+ * - 쿠폰 이벤트 목록: 전체 삭제
+ * 실제 삭제는 커밋 이후 모든 노드에서 실행
+ */
+@Service
+@RequiredArgsConstructor
+public class ProductCacheInvalidationService {
+
+    public static final String PRODUCT_CATALOG_CACHE = "product:catalog";
+    public static final String PRODUCT_STOCK_CACHE = "product:stock";
+    public static final String POPULAR_PRODUCTS_CACHE = "product:popular";
+    public static final String COUPON_EVENTS_CACHE = "coupon:event";
+
+    private final CacheInvalidationBus cacheInvalidationBus;
+
+    /**
+     * 재고 변경 상품 무효화
+     */
+    public void invalidateStocks(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+
+        Set.copyOf(productIds).forEach(productId -> cacheInvalidationBus.evict(PRODUCT_STOCK_CACHE, productId));
+    }
+
+    public void invalidateCouponEvents() {
+        cacheInvalidationBus.clear(COUPON_EVENTS_CACHE);
+    }
+}
@@ -0,0 +1,104 @@
+package com.ecommerce.application.usecase.product.service;
+
+import com.ecommerce.domain.product.Product;
+import com.ecommerce.domain.product.exception.ProductErrorCode;
+import com.ecommerce.domain.product.exception.ProductNotFoundException;
+import com.ecommerce.infrastructure.cache.TwoLevelCache;
+import com.ecommerce.infrastructure.repository.ProductRepository;
+import com.ecommerce.presentation.dto.product.ProductCatalogDto;
+import com.ecommerce.presentation.dto.product.ProductResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+/**
+ * 상품 상세 조회 (카탈로그 + 실시간 재고 조합)
+ * - 카탈로그(이름/설명/가격): product:catalog 캐시 (L1 → L2 MGET → 미스만 PK IN 조회), 재고 변경으로 무효화되지 않음
+ * - 재고: ProductStockCacheService (재고 변경 시 전 노드에서 키 삭제)
+ * - 응답 시점에 둘을 합치므로 설명 같은 큰 필드를 재고가 바뀔 때마다 다시 직렬화하지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductDetailCacheService {
+
+    private final CacheManager cacheManager;
+    private final ProductRepository productRepository;
+    private final ProductStockCacheService productStockCacheService;
+
+    /**
+     * @throws ProductNotFoundException 상품이 없는 경우
+     */
+    public ProductResponse getProduct(Long productId) {
+        ProductResponse product = getProducts(List.of(productId)).get(productId);
+        if (product == null) {
+            throw new ProductNotFoundException(ProductErrorCode.PRODUCT_NOT_FOUND);
+        }
+        return product;
+    }
+
+    /**
+     * @return 존재하는 상품만 담은 Map<productId, ProductResponse> (삭제된 상품은 제외)
+     */
+    public Map<Long, ProductResponse> getProducts(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, ProductCatalogDto> catalogs = getCatalogs(productIds);
+        Map<Long, Integer> stocks = productStockCacheService.getStocks(catalogs.keySet());
+
+        Map<Long, ProductResponse> products = new HashMap<>();
+        catalogs.forEach((productId, catalog) -> {
+            Integer stock = stocks.get(productId);
+            if (stock != null) {
+                products.put(productId, ProductResponse.of(catalog, stock));
+            }
+        });
+        return products;
+    }
+
+    private Map<Long, ProductCatalogDto> getCatalogs(Collection<Long> productIds) {
+        Cache cache = cacheManager.getCache(ProductCacheInvalidationService.PRODUCT_CATALOG_CACHE);
+        Map<Long, ProductCatalogDto> found = new HashMap<>(getCached(cache, productIds));
+
+        List<Long> misses = productIds.stream()
+                .filter(productId -> !found.containsKey(productId))
+                .toList();
+
+        if (!misses.isEmpty()) {
+            for (Product product : productRepository.findAllById(misses)) {
+                ProductCatalogDto catalog = ProductCatalogDto.from(product);
+                found.put(product.getId(), catalog);
+                if (cache != null) {
+                    cache.put(product.getId(), catalog);
+                }
+            }
+            log.debug("상품 카탈로그 캐시 미스 - 요청: {}, 미스: {}", productIds.size(), misses.size());
+        }
+
+        return found;
+    }
+
+    private Map<Long, ProductCatalogDto> getCached(Cache cache, Collection<Long> productIds) {
+        if (cache == null) {
+            return Map.of();
+        }
+        if (cache instanceof TwoLevelCache twoLevelCache) {
+            return twoLevelCache.getAll(productIds, ProductCatalogDto.class);
+        }
+
+        Map<Long, ProductCatalogDto> found = new HashMap<>();
+        for (Long productId : productIds) {
+            ProductCatalogDto catalog = cache.get(productId, ProductCatalogDto.class);
+            if (catalog != null) {
+                found.put(productId, catalog);
+            }
+        }
+        return found;
+    }
+}
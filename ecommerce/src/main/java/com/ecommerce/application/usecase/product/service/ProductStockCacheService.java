@@ -0,0 +1,133 @@
+package com.ecommerce.application.usecase.product.service;
+
+import com.ecommerce.infrastructure.cache.CacheInvalidationBus;
+import com.ecommerce.infrastructure.repository.ProductRepository;
+import com.ecommerce.infrastructure.repository.ProductRepository.ProductStockProjection;
+import com.ecommerce.infrastructure.repository.ProductStockBucketRepository;
+import com.ecommerce.infrastructure.repository.ProductStockBucketRepository.BucketStockProjection;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 실시간 재고 조회 (product:stock - 노드 로컬 캐시)
+ * - 재고가 바뀌면 커밋 이후 CacheInvalidationBus가 전 노드에서 해당 상품 키를 삭제
+ * - 미스는 재고 컬럼만 PK IN으로 한 번에 조회 (분할 재고 상품은 버킷 합계)
+ * - 조회 도중 무효화가 있었으면 결과를 캐시에 넣지 않고, put 도중 무효화가 있었으면 넣은 값을 다시 삭제
+ *   (무효화 이전 값이 남지 않도록)
+ * - 무효화 버전은 상품별로 관리 (다른 상품의 재고 변경이 잦아도 이 상품의 캐시 적재는 막지 않음)
+ */
+@Service
+@RequiredArgsConstructor
+public class ProductStockCacheService {
+
+    private final CacheManager cacheManager;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final ProductRepository productRepository;
+    private final ProductStockBucketRepository productStockBucketRepository;
+
+    // 상품별 무효화 버전, 전체 삭제(key = null)는 clears로 관리
+    private final Map<Long, Long> versions = new ConcurrentHashMap<>();
+    private final AtomicLong clears = new AtomicLong();
+
+    @PostConstruct
+    public void init() {
+        cacheInvalidationBus.addListener((cacheName, key) -> {
+            if (!ProductCacheInvalidationService.PRODUCT_STOCK_CACHE.equals(cacheName)) {
+                return;
+            }
+            if (key == null) {
+                clears.incrementAndGet();
+            } else {
+                versions.merge(key, 1L, Long::sum);
+            }
+        });
+    }
+
+    /**
+     * @return 존재하는 상품만 담은 Map<productId, stock>
+     */
+    public Map<Long, Integer> getStocks(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Cache cache = cacheManager.getCache(ProductCacheInvalidationService.PRODUCT_STOCK_CACHE);
+        Map<Long, Integer> stocks = new HashMap<>();
+        List<Long> misses = new ArrayList<>();
+
+        for (Long productId : productIds) {
+            Integer stock = cache != null ? cache.get(productId, Integer.class) : null;
+            if (stock != null) {
+                stocks.put(productId, stock);
+            } else {
+                misses.add(productId);
+            }
+        }
+
+        if (misses.isEmpty()) {
+            return stocks;
+        }
+
+        long clearVersion = clears.get();
+        Map<Long, Long> loadVersions = new HashMap<>();
+        misses.forEach(productId -> loadVersions.put(productId, versions.getOrDefault(productId, 0L)));
+
+        Map<Long, Integer> loaded = loadStocks(misses);
+        stocks.putAll(loaded);
+
+        if (cache != null) {
+            loaded.forEach((productId, stock) -> {
+                if (!unchanged(productId, loadVersions, clearVersion)) {
+                    return;
+                }
+                cache.put(productId, stock);
+                // 확인과 put 사이에 무효화가 끼어들었으면 방금 넣은 값을 다시 삭제
+                // (리스너는 삭제 전에 버전을 올리므로, 여기서 못 본 무효화의 삭제는 put 이후에 실행됨)
+                if (!unchanged(productId, loadVersions, clearVersion)) {
+                    cache.evict(productId);
+                }
+            });
+        }
+        return stocks;
+    }
+
+    private boolean unchanged(Long productId, Map<Long, Long> loadVersions, long clearVersion) {
+        return clearVersion == clears.get()
+                && loadVersions.get(productId).equals(versions.getOrDefault(productId, 0L));
+    }
+
+    /**
+     * 캐시를 거치지 않고 DB에서 재고 조회
+     * - 무효화 알림은 캐시 삭제 직전에 오므로, 알림 직후에는 캐시에 이전 값이 남아 있을 수 있음
+     */
+    public Map<Long, Integer> loadStocks(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, Integer> stocks = new HashMap<>();
+        List<Long> stripedIds = new ArrayList<>();
+
+        for (ProductStockProjection projection : productRepository.findStocksByIdIn(productIds)) {
+            if (projection.getStockBucketCount() > 0) {
+                stripedIds.add(projection.getProductId());
+            }
+            stocks.put(projection.getProductId(), projection.getStock());
+        }
+
+        // 분할 재고 상품은 products.stock이 주기적으로만 동기화되므로 버킷 합계 사용
+        if (!stripedIds.isEmpty()) {
+            for (BucketStockProjection projection : productStockBucketRepository.sumStockByProductIdIn(stripedIds)) {
+                stocks.put(projection.getProductId(), projection.getStock().intValue());
+            }
+        }
+        return stocks;
+    }
+}
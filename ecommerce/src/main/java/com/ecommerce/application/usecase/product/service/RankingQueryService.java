@@ -0,0 +1,40 @@
+package com.ecommerce.application.usecase.product.service;
+
+import com.ecommerce.infrastructure.redis.ProductRankingRepository;
+import com.ecommerce.presentation.dto.product.ProductRankingDto;
+import com.ecommerce.presentation.dto.product.RankingMode;
+import com.ecommerce.presentation.dto.product.RankingWindow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 랭킹 조회
+ * - 기본: Redis 랭킹 ZSET
+ * - Redis 장애 시: 노드 로컬 근사 랭킹(LocalRankingSketch)으로 대체 (DB 집계 쿼리는 사용하지 않음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RankingQueryService {
+
+    private final ProductRankingRepository productRankingRepository;
+    private final LocalRankingSketch localRankingSketch;
+
+    public List<ProductRankingDto> getTopRankings(RankingWindow window, RankingMode mode, int limit) {
+        return getRankingPage(window, mode, 0, limit);
+    }
+
+    public List<ProductRankingDto> getRankingPage(RankingWindow window, RankingMode mode, long offset, int count) {
+        try {
+            return productRankingRepository.getRankingPage(window, mode, offset, count);
+        } catch (DataAccessException e) {
+            log.warn("Redis 랭킹 조회 실패, 로컬 근사 랭킹으로 대체 - window: {}, mode: {}, cause: {}",
+                    window.getCode(), mode.getCode(), e.getMessage());
+            return localRankingSketch.getRankingPage(window, offset, count);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.ecommerce.application.usecase.product.service;
+
+import com.ecommerce.application.lock.DistributedLock;
+import com.ecommerce.application.usecase.order.service.StockReservationService;
+import com.ecommerce.domain.product.Product;
+import com.ecommerce.domain.product.ProductStockBucket;
+import com.ecommerce.domain.product.exception.InsufficientStockException;
+import com.ecommerce.domain.product.exception.ProductErrorCode;
+import com.ecommerce.domain.product.exception.ProductNotFoundException;
+import com.ecommerce.infrastructure.repository.ProductRepository;
+import com.ecommerce.infrastructure.repository.ProductStockBucketRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 인기 상품 분할 재고 (Striped Stock)
+ * - 재고를 N개 버킷 행으로 나누어 동시 주문이 서로 다른 행을 갱신하도록 분산
+ * - 차감: 무작위 버킷부터 조건부 UPDATE 시도, 실패 시 다음 버킷으로 이동
+ * - 조회: 버킷 합계
+ * 분할 재고가 아닌 상품은 기존 Product 재고 로직을 그대로 사용
+ *
+ * 차감은 READ COMMITTED 트랜잭션에서만 실행 (호출 측 @Transactional의 isolation)
+ * - REPEATABLE READ에서는 조건이 맞지 않아 실패한 UPDATE도 버킷 행 락을 커밋까지 유지하므로,
+ *   무작위 순서로 버킷을 돌면 트랜잭션끼리 서로의 버킷을 기다리는 데드락이 생길 수 있음
+ * - READ COMMITTED에서는 조건이 맞지 않은 행의 락을 바로 풀기 때문에 상품당 성공한 버킷 하나만 잠기고,
+ *   다중 버킷 차감은 이 상품의 버킷을 하나도 잡지 않은 상태에서 버킷 번호 순으로 잠금
+ * - 고정 순서로 돌면 모든 주문이 0번 버킷부터 기다리게 되어 분할 효과가 없으므로 무작위 시작은 유지
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StripedStockService {
+
+    private final ProductRepository productRepository;
+    private final ProductStockBucketRepository productStockBucketRepository;
+    private final StockReservationService stockReservationService;
+
+    /**
+     * 재고 확인 (차감하지 않음)
+     */
+    public boolean hasStock(Product product, int quantity) {
+        if (!product.isStockStriped()) {
+            return product.hasStock(quantity);
+        }
+        return sumStock(product.getId()) >= quantity;
+    }
+
+    /**
+     * 분할 재고 합계 조회
+     */
+    public long sumStock(Long productId) {
+        return productStockBucketRepository.sumStockByProductId(productId);
+    }
+
+    /**
+     * 분할 재고 차감 (호출 측 READ COMMITTED 트랜잭션 안에서 실행, 실패 시 부분 차감은 롤백됨)
+     * @throws InsufficientStockException 버킷 합계가 부족한 경우
+     * @throws IllegalStateException READ COMMITTED 트랜잭션이 아닌 경우
+     */
+    public void decreaseStock(Product product, int quantity) {
+        Integer isolation = TransactionSynchronizationManager.getCurrentTransactionIsolationLevel();
+        if (isolation == null || isolation != Isolation.READ_COMMITTED.value()) {
+            throw new IllegalStateException("분할 재고 차감은 READ COMMITTED 트랜잭션에서만 실행할 수 있습니다.");
+        }
+
+        int bucketCount = product.getStockBucketCount();
+        int start = ThreadLocalRandom.current().nextInt(bucketCount);
+
+        // 1. 무작위 버킷부터 돌면서 한 버킷에서 전량 차감 시도 (행 락은 해당 버킷만)
+        for (int i = 0; i < bucketCount; i++) {
+            int bucketNo = (start + i) % bucketCount;
+            if (productStockBucketRepository.decreaseStockIfAvailable(product.getId(), bucketNo, quantity) == 1) {
+                return;
+            }
+        }
+
+        // 2. 단일 버킷으로 부족하면 모든 버킷을 잠그고 나누어 차감 (품절 직전에만 발생)
+        log.debug("분할 재고 다중 버킷 차감 - productId: {}, quantity: {}", product.getId(), quantity);
+        List<ProductStockBucket> buckets = productStockBucketRepository.findAllByProductIdWithLock(product.getId());
+
+        decreaseLockedStock(buckets, quantity);
+    }
+
+    /**
+     * 상품의 모든 버킷을 버킷 번호 순으로 잠가 조회 (묶음 주문 검증용)
+     */
+    public List<ProductStockBucket> lockBuckets(Long productId) {
+        return productStockBucketRepository.findAllByProductIdWithLock(productId);
+    }
+
+    /**
+     * 이미 잠근 버킷들에서 나누어 차감 (앞 버킷부터)
+     * @throws InsufficientStockException 버킷 합계가 부족한 경우
+     */
+    public void decreaseLockedStock(List<ProductStockBucket> buckets, int quantity) {
+        int available = buckets.stream().mapToInt(ProductStockBucket::getStock).sum();
+        if (available < quantity) {
+            throw new InsufficientStockException(ProductErrorCode.INSUFFICIENT_STOCK);
+        }
+
+        int remaining = quantity;
+        for (ProductStockBucket bucket : buckets) {
+            int taken = Math.min(bucket.getStock(), remaining);
+            if (taken > 0) {
+                bucket.decreaseStock(taken);
+                remaining -= taken;
+            }
+            if (remaining == 0) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * 상품 재고를 N개 버킷으로 분할 (운영 중 전환: POST /actuator/stockstripes/{productId})
+     * - 현재 재고를 균등 분배 (나머지는 앞 버킷부터 1개씩)
+     * - 주문 경로와 같은 상품 재고 락을 잡아, 전환 직전에 products.stock을 읽은 주문이 전환 후에 덮어쓰지 않도록 함
+     * - 재고 예약 키는 커밋 후 버킷 합계로 다시 초기화 (resync)
+     */
+    @DistributedLock(key = "'product:stock:' + #productId")
+    @Transactional
+    public void stripe(Long productId, int bucketCount) {
+        Product product = productRepository.findByIdWithLock(productId)
+                .orElseThrow(() -> new ProductNotFoundException(ProductErrorCode.PRODUCT_NOT_FOUND));
+
+        product.enableStockStriping(bucketCount);
+
+        int base = product.getStock() / bucketCount;
+        int remainder = product.getStock() % bucketCount;
+
+        List<ProductStockBucket> buckets = new ArrayList<>(bucketCount);
+        for (int bucketNo = 0; bucketNo < bucketCount; bucketNo++) {
+            int stock = base + (bucketNo < remainder ? 1 : 0);
+            buckets.add(new ProductStockBucket(null, productId, bucketNo, stock));
+        }
+        productStockBucketRepository.saveAll(buckets);
+        stockReservationService.resync(List.of(productId));
+
+        log.info("분할 재고 전환 - productId: {}, buckets: {}, stock: {}", productId, bucketCount, product.getStock());
+    }
+}
@@ -8,7 +8,6 @@ import org.springframework.cache.caffeine.CaffeineCache;
 import org.springframework.cache.support.SimpleCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.context.annotation.Primary;
 
 import java.util.List;
 import java.util.concurrent.TimeUnit;
@@ -19,47 +18,39 @@ import java.util.concurrent.TimeUnit;
 public class CaffeineCacheConfig {
 
     private static final String POPULAR_PRODUCTS_CACHE = "product:popular";
-    private static final String PRODUCT_DETAIL_CACHE = "product:detail";
-    private static final int CACHE_MAX_SIZE = 10;
-    private static final int CACHE_TTL_SECONDS = 30;
+    private static final String PRODUCT_CATALOG_CACHE = "product:catalog";
+    private static final String PRODUCT_STOCK_CACHE = "product:stock";
+    private static final String COUPON_EVENTS_CACHE = "coupon:event";
 
     /**
-     * Caffeine 기반 CacheManager
-     *
-     * @Primary: Redis CacheManager보다 우선 적용
+     * Caffeine 기반 CacheManager (L1)
+     * - 캐시별 최대 크기/TTL은 L2(Redis) TTL과 별도로 설정
+     * - 변경 시 CacheInvalidationBus가 전 노드의 L1을 지우므로 TTL을 분 단위로 유지
+     * - TwoLevelCacheConfig에서 Redis CacheManager와 묶어 사용 (Redis 설정이 없는 캐시는 L1 단독)
      */
-    @Primary
     @Bean
     public CacheManager caffeineCacheManager() {
         SimpleCacheManager cacheManager = new SimpleCacheManager();
 
-        // 인기 상품 캐시 설정
-        CaffeineCache popularProductsCache = new CaffeineCache(
-                POPULAR_PRODUCTS_CACHE,
-                Caffeine.newBuilder()
-                        .maximumSize(CACHE_MAX_SIZE)
-                        .expireAfterWrite(CACHE_TTL_SECONDS, TimeUnit.SECONDS)
-                        .recordStats()
-                        .build()
-        );
-
-        CaffeineCache productDetailCache = new CaffeineCache(
-                PRODUCT_DETAIL_CACHE,
-                Caffeine.newBuilder()
-                        .maximumSize(1_000)
-                        .expireAfterWrite(CACHE_TTL_SECONDS, TimeUnit.SECONDS)
-                        .build()
-        );
-
         cacheManager.setCaches(List.of(
-                popularProductsCache,
-                productDetailCache
+                createCache(POPULAR_PRODUCTS_CACHE, 50, 60),     // 인기 상품 (기간/방식/개수별)
+                createCache(PRODUCT_CATALOG_CACHE, 10_000, 1_800), // 상품 카탈로그 (재고 제외, 변경이 드묾)
+                createCache(PRODUCT_STOCK_CACHE, 10_000, 30),    // 상품 재고 (L1 전용, 변경 시 전 노드 삭제 - TTL은 메시지 유실 대비)
+                createCache(COUPON_EVENTS_CACHE, 10, 300)        // 쿠폰 이벤트 목록
         ));
-        log.info("로컬 캐시 초기화 완료 - cache: {}, TTL: {}초",
-                POPULAR_PRODUCTS_CACHE, CACHE_TTL_SECONDS);
-        log.info("로컬 캐시 초기화 완료 - cache: {}, TTL: {}초",
-                PRODUCT_DETAIL_CACHE, CACHE_TTL_SECONDS);
 
         return cacheManager;
     }
-}
\ No newline at end of file
+
+    private CaffeineCache createCache(String name, int maxSize, int ttlSeconds) {
+        log.info("로컬 캐시 초기화 완료 - cache: {}, maxSize: {}, TTL: {}초", name, maxSize, ttlSeconds);
+        return new CaffeineCache(
+                name,
+                Caffeine.newBuilder()
+                        .maximumSize(maxSize)
+                        .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                        .recordStats()
+                        .build()
+        );
+    }
+}
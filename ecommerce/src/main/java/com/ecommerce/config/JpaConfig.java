@@ -1,9 +1,29 @@
 package com.ecommerce.config;
 
+import com.ecommerce.domain.common.id.TsidGenerator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
 @Configuration
 @EnableJpaAuditing
 public class JpaConfig {
+
+    /**
+     * TSID 노드 ID 설정
+     * - EntityManagerFactory 생성 중에 실행되므로 어떤 엔티티 저장보다도 먼저 초기화됨
+     * - 미설정이면 기동 실패 (인스턴스 간 노드 ID 충돌 시 PK 중복)
+     */
+    @Bean
+    public HibernatePropertiesCustomizer tsidNodeIdInitializer(@Value("${ecommerce.id.node-id:}") String nodeId) {
+        return properties -> {
+            if (nodeId.isBlank()) {
+                throw new IllegalStateException("ecommerce.id.node-id(환경변수 ECOMMERCE_NODE_ID)가 설정되지 않았습니다. "
+                        + "인스턴스마다 고유한 0 ~ 1023 값을 지정하세요.");
+            }
+            TsidGenerator.initialize(Long.parseLong(nodeId.trim()));
+        };
+    }
 }
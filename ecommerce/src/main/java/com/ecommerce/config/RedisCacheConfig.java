@@ -2,7 +2,7 @@ package com.ecommerce.config;
 
 import com.ecommerce.presentation.dto.coupon.CouponEventListResponse;
 import com.ecommerce.presentation.dto.product.PopularProductResponse;
-import com.ecommerce.presentation.dto.product.ProductResponse;
+import com.ecommerce.presentation.dto.product.ProductCatalogDto;
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -12,8 +12,10 @@ import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.BatchStrategies;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
@@ -29,8 +31,9 @@ public class RedisCacheConfig {
 
     private static final String CACHE_PREFIX = "ecommerce:cache:";
     private static final String POPULAR_PRODUCTS_CACHE = "product:popular";
-    private static final String PRODUCT_DETAIL_CACHE = "product:detail";
+    private static final String PRODUCT_CATALOG_CACHE = "product:catalog";
     private static final String COUPON_EVENTS_CACHE = "coupon:event";
+    private static final int CLEAR_SCAN_BATCH_SIZE = 1000;
 
     @Bean
     public ObjectMapper objectMapper() {
@@ -43,8 +46,13 @@ public class RedisCacheConfig {
         return mapper;
     }
 
+    /**
+     * Redis 기반 CacheManager (L2)
+     * - TwoLevelCacheConfig에서 Caffeine CacheManager와 묶어 사용
+     * - clear()는 기본 KEYS 대신 SCAN으로 키를 찾아 삭제 (KEYS는 Redis 전체를 블로킹)
+     */
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory connectionFactory, ObjectMapper objectMapper) {
+    public CacheManager redisCacheManager(RedisConnectionFactory connectionFactory, ObjectMapper objectMapper) {
         RedisCacheConfiguration defaultConfig = RedisCacheConfiguration
                 .defaultCacheConfig()
                 .entryTtl(Duration.ofHours(10))
@@ -58,19 +66,23 @@ public class RedisCacheConfig {
                 createCacheConfig(objectMapper, PopularProductResponse.class)
                         .entryTtl(Duration.ofMinutes(10)));
 
-        // 단일 상품 상세
-        cacheConfigurations.put(PRODUCT_DETAIL_CACHE,
-                createCacheConfig(objectMapper, ProductResponse.class)
-                        .entryTtl(Duration.ofMinutes(30)));
+        // 상품 카탈로그 (재고 제외)
+        cacheConfigurations.put(PRODUCT_CATALOG_CACHE,
+                createCacheConfig(objectMapper, ProductCatalogDto.class)
+                        .entryTtl(Duration.ofHours(12)));
 
         // 쿠폰 이벤트 목록
         cacheConfigurations.put(COUPON_EVENTS_CACHE,
                 createCacheConfig(objectMapper, CouponEventListResponse.class)
                         .entryTtl(Duration.ofMinutes(5)));
 
-        return RedisCacheManager.builder(connectionFactory)
+        RedisCacheWriter cacheWriter = RedisCacheWriter.nonLockingRedisCacheWriter(
+                connectionFactory, BatchStrategies.scan(CLEAR_SCAN_BATCH_SIZE));
+
+        return RedisCacheManager.builder(cacheWriter)
                 .cacheDefaults(defaultConfig)
                 .withInitialCacheConfigurations(cacheConfigurations)
+                .disableCreateOnMissingCache() // 설정하지 않은 캐시(product:stock 등)는 L1 단독으로 사용
                 .build();
     }
 
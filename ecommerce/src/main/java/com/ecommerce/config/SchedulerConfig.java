@@ -1,2 +1,16 @@
-package com.ecommerce.config;public class SchedulerConfig {
+package com.ecommerce.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 활성화 (spring.task.scheduling.pool.size 스레드 공유)
+ * - 기존 코드에는 @EnableScheduling이 없어 CouponBatchScheduler의 @Scheduled가 한 번도 실행되지 않았음
+ *   → 활성화와 함께 비동기 쿠폰 발급 큐 드레인이 실제로 동작하기 시작함 (이후 스트림 컨슈머로 대체)
+ * - 등록된 작업: 분할 재고 표시값 동기화, 쿠폰 발급 드레인, 작업 임대 하트비트, 랭킹 버퍼 반영/일자 전환,
+ *   인기 상품 캐시 미리 갱신, SSE 푸시/하트비트, 락 지표 창 교대/임대 시간 재계산
+ */
+@Configuration
+@EnableScheduling
+public class SchedulerConfig {
 }
@@ -0,0 +1,27 @@
+package com.ecommerce.config;
+
+import com.ecommerce.infrastructure.cache.TwoLevelCacheManager;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+@Configuration
+public class TwoLevelCacheConfig {
+
+    /**
+     * L1(Caffeine) + L2(Redis) 2단계 CacheManager
+     * - 로컬 미스는 Redis에서 먼저 찾으므로 새로 뜬 노드도 DB로 몰리지 않음
+     *
+     * @Primary: @Cacheable 기본 CacheManager
+     */
+    @Primary
+    @Bean
+    public CacheManager cacheManager(@Qualifier("caffeineCacheManager") CacheManager caffeineCacheManager,
+                                     @Qualifier("redisCacheManager") CacheManager redisCacheManager,
+                                     RedisConnectionFactory redisConnectionFactory) {
+        return new TwoLevelCacheManager(caffeineCacheManager, redisCacheManager, redisConnectionFactory);
+    }
+}
@@ -1,6 +1,7 @@
 package com.ecommerce.domain.cart;
 
 import com.ecommerce.domain.common.exception.BaseTimeEntity;
+import com.ecommerce.domain.common.id.TsidGenerated;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -21,7 +22,7 @@ import lombok.NoArgsConstructor;
 public class CartItem extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TsidGenerated
     private Long id;
 
     @Column(name = "user_id", nullable = false)
@@ -0,0 +1,9 @@
+package com.ecommerce.domain.cart.exception;
+
+import com.ecommerce.domain.common.exception.BaseException;
+
+public class CartChangedException extends BaseException {
+    public CartChangedException(CartErrorCode errorCode) {
+        super(errorCode);
+    }
+}
@@ -13,7 +13,8 @@ import org.springframework.http.HttpStatus;
 public enum CartErrorCode implements ErrorCode {
 
     CART_ITEM_NOT_FOUND("CART_ITEM_NOT_FOUND", "장바구니 아이템을 찾을 수 없습니다", HttpStatus.NOT_FOUND),
-    EMPTY_CART("EMPTY_CART", "장바구니가 비어있습니다", HttpStatus.BAD_REQUEST);
+    EMPTY_CART("EMPTY_CART", "장바구니가 비어있습니다", HttpStatus.BAD_REQUEST),
+    CART_CHANGED("CART_CHANGED", "주문 처리 중 장바구니가 변경되었습니다. 다시 시도해주세요", HttpStatus.CONFLICT);
 
     private final String code;
     private final String message;
@@ -0,0 +1,18 @@
+package com.ecommerce.domain.common.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * TSID 방식 ID 자동 채번
+ * - IDENTITY와 달리 INSERT 전에 ID가 정해지므로 JDBC 배치 INSERT가 동작
+ */
+@IdGeneratorType(TsidIdentifierGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface TsidGenerated {
+}
@@ -0,0 +1,15 @@
+package com.ecommerce.domain.common.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+/**
+ * {@link TsidGenerated} 필드의 ID를 {@link TsidGenerator}로 채번
+ */
+public class TsidIdentifierGenerator implements IdentifierGenerator {
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return TsidGenerator.getInstance().nextId();
+    }
+}
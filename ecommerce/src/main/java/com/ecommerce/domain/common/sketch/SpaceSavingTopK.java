@@ -0,0 +1,151 @@
+package com.ecommerce.domain.common.sketch;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 근사 Top-K (Space-Saving, 가중치 증가 지원)
+ * - 최대 capacity개의 카운터만 유지 → 메모리 O(capacity), 증가 O(log capacity)
+ * - 카운터가 가득 찬 상태에서 새 항목이 오면 최솟값 카운터를 넘겨받음 (count = min + weight, error = min)
+ * - 추정값은 실제값 이상이며 과대 추정 폭은 error 이하 (error <= 전체 합 / capacity)
+ * - 최솟값 카운터를 찾기 위해 카운터를 인덱스 최소 힙으로 관리
+ */
+public final class SpaceSavingTopK<T> {
+
+    private final int capacity;
+    private final Map<T, Counter<T>> counters;
+    private final Counter<T>[] heap;
+    private int size;
+    private long total;
+
+    public record Entry<T>(T item, long count, long error) {}
+
+    private static final class Counter<T> {
+        private T item;
+        private long count;
+        private long error;
+        private int heapIndex;
+    }
+
+    public SpaceSavingTopK(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("카운터 수는 1 이상이어야 합니다.");
+        }
+        this.capacity = capacity;
+        this.counters = new HashMap<>(capacity * 2);
+        @SuppressWarnings("unchecked")
+        Counter<T>[] heap = (Counter<T>[]) new Counter[capacity];
+        this.heap = heap;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public synchronized long getTotal() {
+        return total;
+    }
+
+    public synchronized void add(T item, long weight) {
+        if (weight <= 0) {
+            return;
+        }
+        total += weight;
+
+        Counter<T> counter = counters.get(item);
+        if (counter != null) {
+            counter.count += weight;
+            siftDown(counter.heapIndex);
+            return;
+        }
+
+        if (size < capacity) {
+            counter = new Counter<>();
+            counter.item = item;
+            counter.count = weight;
+            counter.heapIndex = size;
+            heap[size++] = counter;
+            counters.put(item, counter);
+            siftUp(counter.heapIndex);
+            return;
+        }
+
+        // 최솟값 카운터를 새 항목에 넘김
+        Counter<T> min = heap[0];
+        counters.remove(min.item);
+        min.error = min.count;
+        min.count += weight;
+        min.item = item;
+        counters.put(item, min);
+        siftDown(0);
+    }
+
+    /**
+     * 추정값 (추적 중이 아니면 0)
+     */
+    public synchronized long estimate(T item) {
+        Counter<T> counter = counters.get(item);
+        return counter != null ? counter.count : 0;
+    }
+
+    /**
+     * 추정값 내림차순 상위 k개
+     */
+    public synchronized List<Entry<T>> top(int k) {
+        List<Entry<T>> entries = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Counter<T> counter = heap[i];
+            entries.add(new Entry<>(counter.item, counter.count, counter.error));
+        }
+        entries.sort(Comparator.comparingLong(Entry<T>::count).reversed());
+        return entries.size() > k ? new ArrayList<>(entries.subList(0, k)) : entries;
+    }
+
+    public synchronized void clear() {
+        counters.clear();
+        for (int i = 0; i < size; i++) {
+            heap[i] = null;
+        }
+        size = 0;
+        total = 0;
+    }
+
+    private void siftUp(int index) {
+        Counter<T> counter = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (heap[parent].count <= counter.count) {
+                break;
+            }
+            place(heap[parent], index);
+            index = parent;
+        }
+        place(counter, index);
+    }
+
+    private void siftDown(int index) {
+        Counter<T> counter = heap[index];
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            int right = child + 1;
+            if (right < size && heap[right].count < heap[child].count) {
+                child = right;
+            }
+            if (counter.count <= heap[child].count) {
+                break;
+            }
+            place(heap[child], index);
+            index = child;
+        }
+        place(counter, index);
+    }
+
+    private void place(Counter<T> counter, int index) {
+        heap[index] = counter;
+        counter.heapIndex = index;
+    }
+}
@@ -119,4 +119,19 @@ public class CouponEvent {
         boolean inPeriod = !now.isBefore(startDate) && !now.isAfter(endDate);
         return inPeriod && canIssue();
     }
+
+    /**
+     * 주문 금액에 대한 할인 금액 계산
+     * @param totalAmount 주문 총 금액
+     * @return 할인 금액 (RATE 타입은 최대 할인액 적용)
+     */
+    public long calculateDiscount(long totalAmount) {
+        return switch (this.discountType) {
+            case AMOUNT -> this.discountAmount;
+            case RATE -> Math.min(
+                    totalAmount * this.discountRate / 100,
+                    this.maxDiscountAmount
+            );
+        };
+    }
 }
@@ -3,6 +3,7 @@ package com.ecommerce.domain.coupon;
 import com.ecommerce.domain.coupon.exception.CouponAlreadyUsedException;
 import com.ecommerce.domain.coupon.exception.CouponErrorCode;
 import com.ecommerce.domain.coupon.exception.CouponExpiredException;
+import com.ecommerce.domain.common.id.TsidGenerated;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -25,7 +26,7 @@ import java.time.LocalDateTime;
 public class UserCoupon {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TsidGenerated
     private Long id;
 
     @Column(name = "user_id", nullable = false)
@@ -12,7 +12,8 @@ import org.springframework.http.HttpStatus;
 @RequiredArgsConstructor
 public enum OrderErrorCode implements ErrorCode {
 
-    ORDER_NOT_FOUND("ORDER_NOT_FOUND", "주문을 찾을 수 없습니다", HttpStatus.NOT_FOUND);
+    ORDER_NOT_FOUND("ORDER_NOT_FOUND", "주문을 찾을 수 없습니다", HttpStatus.NOT_FOUND),
+    ORDER_TIMEOUT("ORDER_TIMEOUT", "주문 처리 시간이 초과되었습니다. 주문 내역을 확인해 주세요", HttpStatus.SERVICE_UNAVAILABLE);
 
     private final String code;
     private final String message;
@@ -0,0 +1,9 @@
+package com.ecommerce.domain.order.exception;
+
+import com.ecommerce.domain.common.exception.BaseException;
+
+public class OrderTimeoutException extends BaseException {
+    public OrderTimeoutException(OrderErrorCode errorCode) {
+        super(errorCode);
+    }
+}
@@ -0,0 +1,65 @@
+package com.ecommerce.domain.outbox;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 트랜잭셔널 아웃박스 이벤트
+ * - 비즈니스 트랜잭션과 같은 트랜잭션에서 저장
+ * - 릴레이가 배치로 Kafka에 발행한 뒤 삭제
+ * - 발행할 수 없는 행은 FAILED로 남겨 릴레이 대상에서 제외
+ */
+@Entity
+@Table(name = "outbox_events")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 200)
+    private String topic;
+
+    @Column(name = "event_key", length = 200)
+    private String eventKey;
+
+    @Column(name = "payload_type", nullable = false, length = 300)
+    private String payloadType;      // 역직렬화할 이벤트 클래스명
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;          // JSON
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OutboxEventStatus status;
+
+    @Column(name = "failure_reason", length = 500)
+    private String failureReason;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public OutboxEvent(Long id, String topic, String eventKey, String payloadType, String payload) {
+        this.id = id;
+        this.topic = topic;
+        this.eventKey = eventKey;
+        this.payloadType = payloadType;
+        this.payload = payload;
+        this.status = OutboxEventStatus.PENDING;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    /**
+     * 발행 불가 처리 (배치 전체가 막히지 않도록 해당 행만 제외)
+     */
+    public void markFailed(String reason) {
+        this.status = OutboxEventStatus.FAILED;
+        this.failureReason = reason != null && reason.length() > 500 ? reason.substring(0, 500) : reason;
+    }
+}
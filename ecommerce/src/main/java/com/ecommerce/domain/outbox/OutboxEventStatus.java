@@ -0,0 +1,6 @@
+package com.ecommerce.domain.outbox;
+
+public enum OutboxEventStatus {
+    PENDING,     // 발행 대기
+    FAILED       // 역직렬화 불가 등 재시도해도 발행할 수 없는 이벤트 (수동 확인 대상)
+}
@@ -1,5 +1,6 @@
 package com.ecommerce.domain.point;
 
+import com.ecommerce.domain.common.id.TsidGenerated;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -19,7 +20,7 @@ import java.time.LocalDateTime;
 public class PointHistory {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TsidGenerated
     private Long id;
 
     @Column(name = "user_id", nullable = false)
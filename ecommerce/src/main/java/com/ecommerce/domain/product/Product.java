@@ -30,6 +30,13 @@ public class Product extends BaseTimeEntity {
     @Column(nullable = false)
     private int stock;
 
+    /**
+     * 분할 재고 버킷 수 (0 = 단일 재고 행 사용)
+     * 분할 재고 상품의 stock은 버킷 합계를 주기적으로 반영한 표시용 값
+     */
+    @Column(name = "stock_bucket_count", nullable = false)
+    private int stockBucketCount;
+
     public Product(Long id, String name, String description, long price, int stock) {
         validatePrice(price);
         validateStock(stock);
@@ -82,6 +89,27 @@ public class Product extends BaseTimeEntity {
         this.stock -= quantity;
     }
 
+    /**
+     * 분할 재고 사용 여부
+     */
+    public boolean isStockStriped() {
+        return this.stockBucketCount > 0;
+    }
+
+    /**
+     * 분할 재고 전환
+     * @param bucketCount 버킷 수
+     */
+    public void enableStockStriping(int bucketCount) {
+        if (bucketCount < 2) {
+            throw new IllegalArgumentException("버킷 수는 2 이상이어야 합니다.");
+        }
+        if (isStockStriped()) {
+            throw new IllegalStateException("이미 분할 재고를 사용 중인 상품입니다.");
+        }
+        this.stockBucketCount = bucketCount;
+    }
+
     /**
      * 재고 복구 (주문 취소 시 사용)
      * @param quantity 복구할 수량
@@ -0,0 +1,65 @@
+package com.ecommerce.domain.product;
+
+import com.ecommerce.domain.product.exception.InsufficientStockException;
+import com.ecommerce.domain.product.exception.ProductErrorCode;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 인기 상품 분할 재고 버킷
+ * - 하나의 상품 재고를 N개 행으로 나누어 행 락 경합을 분산
+ */
+@Entity
+@Table(
+        name = "product_stock_buckets",
+        uniqueConstraints = {
+                @UniqueConstraint(
+                        name = "uk_product_stock_bucket",
+                        columnNames = {"product_id", "bucket_no"}
+                )
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProductStockBucket {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(name = "bucket_no", nullable = false)
+    private int bucketNo;
+
+    @Column(nullable = false)
+    private int stock;
+
+    public ProductStockBucket(Long id, Long productId, int bucketNo, int stock) {
+        if (stock < 0) {
+            throw new IllegalArgumentException("재고는 0 이상이어야 합니다.");
+        }
+
+        this.id = id;
+        this.productId = productId;
+        this.bucketNo = bucketNo;
+        this.stock = stock;
+    }
+
+    // ========== 비즈니스 로직 ==========
+
+    /**
+     * 버킷 재고 차감
+     * @param quantity 차감할 수량
+     * @throws InsufficientStockException 버킷 재고 부족 시
+     */
+    public void decreaseStock(int quantity) {
+        if (this.stock < quantity) {
+            throw new InsufficientStockException(ProductErrorCode.INSUFFICIENT_STOCK);
+        }
+        this.stock -= quantity;
+    }
+}
@@ -0,0 +1,132 @@
+package com.ecommerce.infrastructure.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+
+/**
+ * 캐시 무효화 버스 (Redis Pub/Sub)
+ * - 발행 노드: 커밋 이후 L1 + L2 삭제 후 채널에 발행
+ * - 다른 노드: 메시지를 받아 자기 L1만 삭제 (L2는 공유 저장소라 이미 삭제됨)
+ * - 등록된 리스너는 발행 노드/수신 노드 모두에서 캐시 삭제 직전에 호출됨 (변경 알림 용도)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CacheInvalidationBus implements MessageListener {
+
+    public static final String CHANNEL = "ecommerce:cache:invalidation";
+
+    private static final String NODE_ID = UUID.randomUUID().toString();
+
+    private final CacheManager cacheManager;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final List<BiConsumer<String, Long>> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * 무효화 리스너 등록 (cacheName, key - 전체 삭제면 key는 null)
+     */
+    public void addListener(BiConsumer<String, Long> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * 캐시 키 하나 무효화
+     */
+    public void evict(String cacheName, Long key) {
+        afterCommit(new CacheInvalidationMessage(NODE_ID, cacheName, key));
+    }
+
+    /**
+     * 캐시 전체 무효화
+     */
+    public void clear(String cacheName) {
+        afterCommit(new CacheInvalidationMessage(NODE_ID, cacheName, null));
+    }
+
+    @Override
+    public void onMessage(Message message, @Nullable byte[] pattern) {
+        try {
+            CacheInvalidationMessage invalidation = objectMapper.readValue(
+                    new String(message.getBody(), StandardCharsets.UTF_8), CacheInvalidationMessage.class);
+
+            if (NODE_ID.equals(invalidation.origin())) {
+                return;
+            }
+
+            Cache cache = cacheManager.getCache(invalidation.cacheName());
+            if (cache == null) {
+                return;
+            }
+            notifyListeners(invalidation);
+            Cache target = cache instanceof TwoLevelCache twoLevelCache ? twoLevelCache.getLocalCache() : cache;
+            apply(target, invalidation.key());
+        } catch (Exception e) {
+            log.error("캐시 무효화 메시지 처리 실패", e);
+        }
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋 이후에 실행 (롤백된 변경으로 캐시를 지우거나, 커밋 전 값이 다시 캐시되지 않도록)
+     */
+    private void afterCommit(CacheInvalidationMessage invalidation) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate(invalidation);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidate(invalidation);
+            }
+        });
+    }
+
+    private void invalidate(CacheInvalidationMessage invalidation) {
+        try {
+            notifyListeners(invalidation);
+            Cache cache = cacheManager.getCache(invalidation.cacheName());
+            if (cache != null) {
+                apply(cache, invalidation.key());
+            }
+            redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(invalidation));
+        } catch (Exception e) {
+            log.error("캐시 무효화 실패 - cache: {}, key: {}", invalidation.cacheName(), invalidation.key(), e);
+        }
+    }
+
+    private void apply(Cache cache, @Nullable Long key) {
+        if (key == null) {
+            cache.clear();
+        } else {
+            cache.evict(key);
+        }
+    }
+
+    private void notifyListeners(CacheInvalidationMessage invalidation) {
+        for (BiConsumer<String, Long> listener : listeners) {
+            try {
+                listener.accept(invalidation.cacheName(), invalidation.key());
+            } catch (Exception e) {
+                log.warn("캐시 무효화 리스너 실패 - cache: {}", invalidation.cacheName(), e);
+            }
+        }
+    }
+}
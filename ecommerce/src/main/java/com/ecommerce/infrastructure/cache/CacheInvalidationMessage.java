@@ -0,0 +1,10 @@
+package com.ecommerce.infrastructure.cache;
+
+/**
+ * 노드 간 캐시 무효화 메시지
+ * @param origin    발행 노드 ID (자기 메시지는 무시)
+ * @param cacheName 캐시 이름
+ * @param key       캐시 키 (null이면 캐시 전체 삭제)
+ */
+public record CacheInvalidationMessage(String origin, String cacheName, Long key) {
+}
@@ -0,0 +1,245 @@
+package com.ecommerce.infrastructure.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.util.ByteUtils;
+import org.springframework.lang.Nullable;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+/**
+ * 2단계 캐시 (L1: 로컬 Caffeine, L2: 공유 Redis)
+ * - 조회: L1 → L2 → 로더 순서, L2 적중 시 L1 채움
+ * - 저장/삭제: 두 단계 모두 반영
+ * - 다건 조회: L1 미스 키만 모아 L2에서 MGET 한 번으로 조회
+ * - L2(Redis) 장애 시 경고만 남기고 L1 + 로더로 계속 동작
+ */
+@Slf4j
+public class TwoLevelCache implements Cache {
+
+    private final String name;
+    private final Cache localCache;
+    private final Cache remoteCache;
+    @Nullable
+    private final RedisConnectionFactory connectionFactory;
+
+    public TwoLevelCache(String name, Cache localCache, Cache remoteCache) {
+        this(name, localCache, remoteCache, null);
+    }
+
+    public TwoLevelCache(String name, Cache localCache, Cache remoteCache,
+                         @Nullable RedisConnectionFactory connectionFactory) {
+        this.name = name;
+        this.localCache = localCache;
+        this.remoteCache = remoteCache;
+        this.connectionFactory = connectionFactory;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return this;
+    }
+
+    public Cache getLocalCache() {
+        return localCache;
+    }
+
+    public Cache getRemoteCache() {
+        return remoteCache;
+    }
+
+    @Override
+    @Nullable
+    public ValueWrapper get(Object key) {
+        ValueWrapper local = localCache.get(key);
+        if (local != null) {
+            return local;
+        }
+
+        ValueWrapper remote = getRemote(key);
+        if (remote != null) {
+            localCache.put(key, remote.get());
+        }
+        return remote;
+    }
+
+    @Override
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, @Nullable Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper == null) {
+            return null;
+        }
+        Object value = wrapper.get();
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("캐시 값 타입 불일치: " + type.getName() + " / " + value);
+        }
+        return (T) value;
+    }
+
+    /**
+     * 동기 로딩 (@Cacheable(sync = true))
+     * - L1 미스 시 키별로 한 스레드만 L2 조회 → 로더 실행 (같은 노드의 동시 요청은 대기 후 결과 공유)
+     */
+    @Override
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return localCache.get(key, () -> {
+            ValueWrapper remote = getRemote(key);
+            if (remote != null) {
+                return (T) remote.get();
+            }
+
+            T value = valueLoader.call();
+            putRemote(key, value);
+            return value;
+        });
+    }
+
+    /**
+     * 다건 조회
+     * - L1에서 먼저 찾고, 미스 키만 L2에서 한 번에 조회해 L1을 채움
+     * - L2가 Redis가 아니면 키별로 조회
+     *
+     * @return 캐시에 있는 키만 담은 Map (요청 순서 유지)
+     */
+    @SuppressWarnings("unchecked")
+    public <K, T> Map<K, T> getAll(Collection<K> keys, Class<T> type) {
+        Map<K, T> found = new LinkedHashMap<>();
+        List<K> localMisses = new ArrayList<>();
+
+        for (K key : keys) {
+            T value = localCache.get(key, type);
+            if (value != null) {
+                found.put(key, value);
+            } else {
+                localMisses.add(key);
+            }
+        }
+
+        if (localMisses.isEmpty()) {
+            return found;
+        }
+
+        Map<K, Object> remoteHits = getAllRemote(localMisses);
+        remoteHits.forEach((key, value) -> {
+            if (type.isInstance(value)) {
+                localCache.put(key, value);
+                found.put(key, (T) value);
+            }
+        });
+        return found;
+    }
+
+    @Override
+    public void put(Object key, @Nullable Object value) {
+        putRemote(key, value);
+        localCache.put(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        evictRemote(key);
+        localCache.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        evictRemote(key);
+        return localCache.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        try {
+            remoteCache.clear();
+        } catch (Exception e) {
+            log.warn("L2 캐시 초기화 실패 - cache: {}", name, e);
+        }
+        localCache.clear();
+    }
+
+    @Nullable
+    private ValueWrapper getRemote(Object key) {
+        try {
+            return remoteCache.get(key);
+        } catch (Exception e) {
+            log.warn("L2 캐시 조회 실패 - cache: {}, key: {}", name, key, e);
+            return null;
+        }
+    }
+
+    private <K> Map<K, Object> getAllRemote(List<K> keys) {
+        Map<K, Object> hits = new LinkedHashMap<>();
+
+        if (!(remoteCache instanceof RedisCache redisCache) || connectionFactory == null) {
+            for (K key : keys) {
+                ValueWrapper remote = getRemote(key);
+                if (remote != null && remote.get() != null) {
+                    hits.put(key, remote.get());
+                }
+            }
+            return hits;
+        }
+
+        // RedisCache와 같은 방식으로 키를 만들어 MGET 한 번으로 조회
+        RedisCacheConfiguration config = redisCache.getCacheConfiguration();
+        String prefix = config.usePrefix() ? config.getKeyPrefixFor(name) : "";
+        byte[][] rawKeys = new byte[keys.size()][];
+        for (int i = 0; i < keys.size(); i++) {
+            rawKeys[i] = ByteUtils.getBytes(config.getKeySerializationPair().write(prefix + keys.get(i)));
+        }
+
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            List<byte[]> values = connection.stringCommands().mGet(rawKeys);
+            if (values == null) {
+                return hits;
+            }
+            for (int i = 0; i < keys.size(); i++) {
+                byte[] raw = values.get(i);
+                if (raw != null) {
+                    hits.put(keys.get(i), config.getValueSerializationPair().read(ByteBuffer.wrap(raw)));
+                }
+            }
+        } catch (Exception e) {
+            log.warn("L2 캐시 다건 조회 실패 - cache: {}, size: {}", name, keys.size(), e);
+        }
+        return hits;
+    }
+
+    private void putRemote(Object key, @Nullable Object value) {
+        if (value == null) {
+            return; // Redis 캐시는 null 저장 비활성화
+        }
+        try {
+            remoteCache.put(key, value);
+        } catch (Exception e) {
+            log.warn("L2 캐시 저장 실패 - cache: {}, key: {}", name, key, e);
+        }
+    }
+
+    private void evictRemote(Object key) {
+        try {
+            remoteCache.evict(key);
+        } catch (Exception e) {
+            log.warn("L2 캐시 삭제 실패 - cache: {}, key: {}", name, key, e);
+        }
+    }
+}
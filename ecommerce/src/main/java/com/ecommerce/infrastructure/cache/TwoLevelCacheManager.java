@@ -0,0 +1,70 @@
+package com.ecommerce.infrastructure.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.lang.Nullable;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * L1(로컬) / L2(원격) CacheManager 조합
+ * - 양쪽에 모두 등록된 캐시는 {@link TwoLevelCache}로 묶음
+ * - 한쪽에만 있는 캐시는 그 캐시를 그대로 사용
+ * - connectionFactory가 있으면 L2 다건 조회를 MGET으로 실행
+ */
+public class TwoLevelCacheManager implements CacheManager {
+
+    private final CacheManager localCacheManager;
+    private final CacheManager remoteCacheManager;
+    @Nullable
+    private final RedisConnectionFactory connectionFactory;
+    private final Map<String, Cache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(CacheManager localCacheManager, CacheManager remoteCacheManager) {
+        this(localCacheManager, remoteCacheManager, null);
+    }
+
+    public TwoLevelCacheManager(CacheManager localCacheManager, CacheManager remoteCacheManager,
+                                @Nullable RedisConnectionFactory connectionFactory) {
+        this.localCacheManager = localCacheManager;
+        this.remoteCacheManager = remoteCacheManager;
+        this.connectionFactory = connectionFactory;
+    }
+
+    @Override
+    @Nullable
+    public Cache getCache(String name) {
+        Cache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+
+        Cache local = localCacheManager.getCache(name);
+        Cache remote = remoteCacheManager.getCache(name);
+
+        if (local == null && remote == null) {
+            return null;
+        }
+        Cache combined;
+        if (local == null) {
+            combined = remote;
+        } else if (remote == null) {
+            combined = local;
+        } else {
+            combined = new TwoLevelCache(name, local, remote, connectionFactory);
+        }
+        return caches.computeIfAbsent(name, key -> combined);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        Set<String> names = new LinkedHashSet<>(localCacheManager.getCacheNames());
+        names.addAll(remoteCacheManager.getCacheNames());
+        return names;
+    }
+}
@@ -0,0 +1,75 @@
+package com.ecommerce.infrastructure.kafka.outbox;
+
+import com.ecommerce.domain.outbox.OutboxEvent;
+import com.ecommerce.infrastructure.repository.OutboxEventRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxBatchRelay {
+
+    private static final long SEND_TIMEOUT_SECONDS = 10;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 아웃박스 이벤트 한 배치 릴레이
+     * 1. SKIP LOCKED로 batchSize만큼 선점
+     * 2. 모두 비동기 전송 후 브로커 응답을 한꺼번에 대기
+     *    (역직렬화할 수 없는 행은 FAILED로 표시하고 건너뜀 - 한 행 때문에 릴레이 전체가 멈추지 않도록)
+     * 3. 성공하면 삭제 (전송 실패 시 롤백되어 다음 주기에 재전송, at-least-once)
+     *    브로커 응답 대기는 검사 예외(ExecutionException/TimeoutException)를 던지므로 모든 예외에 롤백
+     *    (FAILED 표시도 함께 롤백되어 다음 주기에 다시 판정)
+     *
+     * @return 처리한(발행 + FAILED) 이벤트 수
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public int relay(int batchSize) throws Exception {
+        List<OutboxEvent> events = outboxEventRepository.findBatchForRelay(PageRequest.of(0, batchSize));
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        List<OutboxEvent> published = new ArrayList<>(events.size());
+        List<CompletableFuture<?>> sends = new ArrayList<>(events.size());
+        for (OutboxEvent event : events) {
+            Object payload;
+            try {
+                payload = objectMapper.readValue(event.getPayload(), Class.forName(event.getPayloadType()));
+            } catch (ClassNotFoundException | IOException e) {
+                log.error("아웃박스 이벤트 역직렬화 실패 - FAILED 처리: id={}, type={}",
+                        event.getId(), event.getPayloadType(), e);
+                event.markFailed(e.getClass().getSimpleName() + ": " + e.getMessage());
+                continue;
+            }
+            sends.add(kafkaTemplate.send(event.getTopic(), event.getEventKey(), payload));
+            published.add(event);
+        }
+
+        CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new))
+                .get(SEND_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        if (!published.isEmpty()) {
+            outboxEventRepository.deleteAllInBatch(published);
+        }
+
+        log.debug("아웃박스 릴레이 완료 - published: {}, failed: {}",
+                published.size(), events.size() - published.size());
+        return events.size();
+    }
+}
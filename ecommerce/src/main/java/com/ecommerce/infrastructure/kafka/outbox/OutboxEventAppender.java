@@ -0,0 +1,34 @@
+package com.ecommerce.infrastructure.kafka.outbox;
+
+import com.ecommerce.domain.outbox.OutboxEvent;
+import com.ecommerce.infrastructure.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxEventAppender {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 아웃박스에 이벤트 저장
+     * - 호출 측 트랜잭션에 참여하므로 롤백되면 이벤트도 남지 않음
+     */
+    @Transactional
+    public void append(String topic, String key, Object event) {
+        try {
+            String payload = objectMapper.writeValueAsString(event);
+            outboxEventRepository.save(new OutboxEvent(null, topic, key, event.getClass().getName(), payload));
+            log.debug("아웃박스 이벤트 저장: topic={}, key={}", topic, key);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("아웃박스 이벤트 직렬화 실패: " + event.getClass().getName(), e);
+        }
+    }
+}
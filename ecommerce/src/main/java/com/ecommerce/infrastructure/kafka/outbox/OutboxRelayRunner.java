@@ -0,0 +1,95 @@
+package com.ecommerce.infrastructure.kafka.outbox;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 아웃박스 릴레이 워커
+ * - parallelism개의 워커가 각자 SKIP LOCKED로 배치를 선점해 발행
+ * - 배치가 가득 차면 바로 다음 배치, 아니면 lingerMs 대기
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxRelayRunner {
+
+    private final OutboxBatchRelay outboxBatchRelay;
+
+    @Value("${ecommerce.outbox.enabled:false}")
+    private boolean enabled;
+
+    @Value("${ecommerce.outbox.relay.batch-size:500}")
+    private int batchSize;
+
+    @Value("${ecommerce.outbox.relay.linger-ms:50}")
+    private long lingerMs;
+
+    @Value("${ecommerce.outbox.relay.parallelism:2}")
+    private int parallelism;
+
+    private volatile boolean running;
+    private ExecutorService executor;
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        AtomicInteger sequence = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "outbox-relay-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < parallelism; i++) {
+            executor.submit(this::relayLoop);
+        }
+        log.info("아웃박스 릴레이 시작 - batchSize: {}, lingerMs: {}, parallelism: {}",
+                batchSize, lingerMs, parallelism);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (executor != null) {
+            executor.shutdownNow();
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
+    private void relayLoop() {
+        while (running) {
+            try {
+                int relayed = outboxBatchRelay.relay(batchSize);
+                if (relayed < batchSize) {
+                    Thread.sleep(lingerMs);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("아웃박스 릴레이 실패", e);
+                sleepQuietly();
+            }
+        }
+    }
+
+    private void sleepQuietly() {
+        try {
+            Thread.sleep(lingerMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
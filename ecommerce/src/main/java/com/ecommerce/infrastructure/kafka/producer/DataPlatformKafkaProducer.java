@@ -1,8 +1,10 @@
 package com.ecommerce.infrastructure.kafka.producer;
 
 import com.ecommerce.domain.order.event.OrderCreatedEvent;
+import com.ecommerce.infrastructure.kafka.outbox.OutboxEventAppender;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Component;
 
@@ -14,12 +16,29 @@ public class DataPlatformKafkaProducer {
     private static final String ORDER_EVENT_CREATED_TOPIC = "ecommerce.order.event.created.v1";
 
     private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final OutboxEventAppender outboxEventAppender;
 
+    @Value("${ecommerce.outbox.enabled:false}")
+    private boolean outboxEnabled;
+
+    public boolean isOutboxEnabled() {
+        return outboxEnabled;
+    }
+
+    /**
+     * 주문 생성 이벤트 발행
+     * - 아웃박스 모드: 호출 측 트랜잭션에 아웃박스 행으로 저장 (릴레이가 커밋 이후 발행)
+     * - 그 외: Kafka로 바로 전송
+     */
     public void sendOrderEvent(OrderCreatedEvent event) {
         send(ORDER_EVENT_CREATED_TOPIC, event.orderId().toString(), event);
     }
 
     private <T> void send(String topic, String key, T event) {
+        if (outboxEnabled) {
+            outboxEventAppender.append(topic, key, event);
+            return;
+        }
         log.info("Kafka 메시지 발행: topic={}, key={}", topic, key);
         kafkaTemplate.send(topic, key, event);
     }
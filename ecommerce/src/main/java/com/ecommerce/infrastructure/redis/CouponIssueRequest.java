@@ -0,0 +1,9 @@
+package com.ecommerce.infrastructure.redis;
+
+/**
+ * 쿠폰 발급 스트림 엔트리
+ * @param recordId 스트림 엔트리 ID (ACK 대상)
+ * @param userId   발급 대상 사용자
+ */
+public record CouponIssueRequest(String recordId, Long userId) {
+}
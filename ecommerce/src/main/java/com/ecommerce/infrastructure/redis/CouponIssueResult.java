@@ -0,0 +1,21 @@
+package com.ecommerce.infrastructure.redis;
+
+/**
+ * Redis 쿠폰 발급 스크립트 결과 코드
+ */
+public enum CouponIssueResult {
+    ISSUED,
+    DUPLICATE,
+    SOLD_OUT;
+
+    public static CouponIssueResult fromCode(Long code) {
+        if (code == null) {
+            return SOLD_OUT;
+        }
+        return switch (code.intValue()) {
+            case 0 -> ISSUED;
+            case 1 -> DUPLICATE;
+            default -> SOLD_OUT;
+        };
+    }
+}
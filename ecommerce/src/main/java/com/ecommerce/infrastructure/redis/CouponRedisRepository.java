@@ -2,23 +2,74 @@ package com.ecommerce.infrastructure.redis;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.stream.*;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Repository;
 
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Repository
 @RequiredArgsConstructor
 public class CouponRedisRepository {
 
-    private static final String COUPON_QUEUE_PREFIX = "ecommerce:async:coupon:queue:";
+    private static final String COUPON_STREAM_PREFIX = "ecommerce:async:coupon:stream:";
+    private static final String LEGACY_QUEUE_PREFIX = "ecommerce:async:coupon:queue:";     // 스트림 전환 전 RPUSH 대기열
     private static final String COUPON_ISSUED_PREFIX = "ecommerce:async:coupon:issued:";  // 중복 체크용
     private static final String COUPON_STOCK_PREFIX = "ecommerce:async:coupon:stock:";
+    private static final String DEAD_LETTER_SUFFIX = ":dead";                             // 파싱 불가 요청 보관
     private static final Duration KEY_TTL = Duration.ofDays(10);
 
+    private static final String CONSUMER_GROUP = "coupon-issuer";
+    private static final String USER_ID_FIELD = "userId";
+
+    /**
+     * KEYS[1]: 발급 기록 ZSET, KEYS[2]: 재고, KEYS[3]: 발급 요청 스트림
+     * ARGV[1]: userId, ARGV[2]: timestamp, ARGV[3]: TTL(ms)
+     * 반환값: 0 = 발급, 1 = 중복, 2 = 재고 소진
+     */
+    private static final RedisScript<Long> ISSUE_COUPON_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('ZSCORE', KEYS[1], ARGV[1]) then
+                return 1
+            end
+            local stock = tonumber(redis.call('GET', KEYS[2]))
+            if not stock or stock <= 0 then
+                return 2
+            end
+            redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1])
+            redis.call('DECR', KEYS[2])
+            redis.call('XADD', KEYS[3], '*', 'userId', ARGV[1])
+            redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            redis.call('PEXPIRE', KEYS[3], ARGV[3])
+            return 0
+            """, Long.class);
+
+    /**
+     * 스트림 전환 전 대기열(List)의 요청을 스트림으로 옮김
+     * KEYS[1]: 기존 대기열, KEYS[2]: 발급 요청 스트림
+     * ARGV[1]: 한 번에 옮길 최대 개수, ARGV[2]: TTL(ms)
+     * 반환값: 옮긴 개수 (LPOP과 XADD가 한 스크립트라 유실/중복 없음)
+     */
+    private static final RedisScript<Long> MIGRATE_LEGACY_QUEUE_SCRIPT = new DefaultRedisScript<>("""
+            local userIds = redis.call('LPOP', KEYS[1], ARGV[1])
+            if not userIds then
+                return 0
+            end
+            for _, userId in ipairs(userIds) do
+                redis.call('XADD', KEYS[2], '*', 'userId', userId)
+            end
+            redis.call('PEXPIRE', KEYS[2], ARGV[2])
+            return #userIds
+            """, Long.class);
+
     private final RedisTemplate<String, String> redisTemplate;
 
     /**
@@ -31,84 +82,200 @@ public class CouponRedisRepository {
     }
 
     /**
-     * 쿠폰 발급 요청
-     * 1. ZADD NX로 중복 체크 + 발급 기록
-     * 2. DECR로 재고 차감
-     * 3. RPUSH로 큐에 추가
+     * 쿠폰 발급 요청 (Lua 스크립트 단일 호출)
+     * 1. ZSCORE로 중복 체크
+     * 2. GET으로 재고 확인
+     * 3. ZADD + DECR + XADD + EXPIRE
+     * 모든 단계가 Redis 서버에서 원자적으로 실행되므로 보상(롤백) 로직이 필요 없다.
      */
-    public boolean tryIssueCoupon(Long couponEventId, Long userId) {
-        String queueKey = COUPON_QUEUE_PREFIX + couponEventId;
-        String issuedKey = COUPON_ISSUED_PREFIX + couponEventId;
-        String stockKey = COUPON_STOCK_PREFIX + couponEventId;
+    public CouponIssueResult tryIssueCoupon(Long couponEventId, Long userId) {
+        List<String> keys = List.of(
+                COUPON_ISSUED_PREFIX + couponEventId,
+                COUPON_STOCK_PREFIX + couponEventId,
+                COUPON_STREAM_PREFIX + couponEventId
+        );
+
+        Long code = redisTemplate.execute(
+                ISSUE_COUPON_SCRIPT,
+                keys,
+                String.valueOf(userId),
+                String.valueOf(System.currentTimeMillis()),
+                String.valueOf(KEY_TTL.toMillis())
+        );
 
-        // 1. ZADD NX로 중복 체크 (원자적)
-        long timestamp = System.currentTimeMillis();
-        Boolean added = redisTemplate.opsForZSet()
-                .addIfAbsent(issuedKey, String.valueOf(userId), timestamp);
+        CouponIssueResult result = CouponIssueResult.fromCode(code);
+        log.debug("쿠폰 발급 요청 - eventId: {}, userId: {}, result: {}", couponEventId, userId, result);
+        return result;
+    }
 
-        if (Boolean.FALSE.equals(added)) {
-            log.debug("중복 발급 - eventId: {}, userId: {}", couponEventId, userId);
+    /**
+     * 스트림 전환 전에 대기열(List)에 쌓인 요청을 스트림으로 옮김
+     * - 롤링 배포 중 이전 버전 노드가 계속 RPUSH할 수 있으므로 주기적으로 호출
+     * - 대기열이 빌 때까지 count개씩 옮김 (한 스크립트가 Redis를 오래 점유하지 않도록)
+     * @return 옮긴 요청 수
+     */
+    public long migrateLegacyQueue(Long couponEventId, int count) {
+        List<String> keys = List.of(LEGACY_QUEUE_PREFIX + couponEventId, COUPON_STREAM_PREFIX + couponEventId);
+        long total = 0;
+        while (true) {
+            Long moved = redisTemplate.execute(MIGRATE_LEGACY_QUEUE_SCRIPT, keys,
+                    String.valueOf(count), String.valueOf(KEY_TTL.toMillis()));
+            if (moved == null || moved == 0) {
+                return total;
+            }
+            total += moved;
+        }
+    }
+
+    /**
+     * 컨슈머 그룹 생성 (이미 있으면 무시)
+     * - 스트림 처음(0)부터 읽도록 생성하므로 그룹 생성 전에 쌓인 요청도 처리됨
+     * @return 스트림이 존재하여 그룹을 사용할 수 있으면 true
+     */
+    public boolean ensureConsumerGroup(Long couponEventId) {
+        String streamKey = COUPON_STREAM_PREFIX + couponEventId;
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(streamKey))) {
             return false;
         }
 
-        // 2. 재고 차감
-        Long remainingStock = redisTemplate.opsForValue().decrement(stockKey);
+        try {
+            redisTemplate.opsForStream().createGroup(streamKey, ReadOffset.from("0"), CONSUMER_GROUP);
+            log.info("쿠폰 발급 컨슈머 그룹 생성 - eventId: {}", couponEventId);
+        } catch (RedisSystemException e) {
+            if (!isBusyGroup(e)) {
+                throw e;
+            }
+        }
+        return true;
+    }
 
-        if (remainingStock == null || remainingStock < 0) {
-            // 재고 부족 - ZSET에서 제거 (롤백)
-            redisTemplate.opsForZSet().remove(issuedKey, String.valueOf(userId));
-            redisTemplate.opsForValue().increment(stockKey);
-            log.debug("재고 부족 - eventId: {}, userId: {}", couponEventId, userId);
-            return false;
+    /**
+     * 새 발급 요청 읽기 (XREADGROUP COUNT)
+     * - 읽은 엔트리는 ACK 전까지 이 컨슈머의 Pending 목록에 남음
+     */
+    public List<CouponIssueRequest> readIssueRequests(Long couponEventId, String consumerName, int count) {
+        String streamKey = COUPON_STREAM_PREFIX + couponEventId;
+
+        List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream().read(
+                Consumer.from(CONSUMER_GROUP, consumerName),
+                StreamReadOptions.empty().count(count),
+                StreamOffset.create(streamKey, ReadOffset.lastConsumed())
+        );
+
+        return toIssueRequests(streamKey, records);
+    }
+
+    /**
+     * 오래 ACK되지 않은 요청 회수 (XPENDING + XCLAIM)
+     * - 처리 도중 죽은 컨슈머의 요청을 살아있는 컨슈머가 넘겨받음
+     */
+    public List<CouponIssueRequest> claimStaleRequests(Long couponEventId, String consumerName,
+                                                       Duration minIdle, int count) {
+        String streamKey = COUPON_STREAM_PREFIX + couponEventId;
+
+        PendingMessages pending = redisTemplate.opsForStream()
+                .pending(streamKey, CONSUMER_GROUP, Range.unbounded(), count);
+
+        RecordId[] staleIds = pending.stream()
+                .filter(message -> message.getElapsedTimeSinceLastDelivery().compareTo(minIdle) >= 0)
+                .map(PendingMessage::getId)
+                .toArray(RecordId[]::new);
+
+        if (staleIds.length == 0) {
+            return List.of();
         }
 
-        // 3. Queue에 userId 추가
-        redisTemplate.opsForList().rightPush(queueKey, String.valueOf(userId));
+        List<MapRecord<String, Object, Object>> claimed = redisTemplate.opsForStream()
+                .claim(streamKey, CONSUMER_GROUP, consumerName, minIdle, staleIds);
 
-        // TTL 설정
-        redisTemplate.expire(issuedKey, KEY_TTL);
-        redisTemplate.expire(queueKey, KEY_TTL);
+        log.warn("미확인 쿠폰 발급 요청 회수 - eventId: {}, consumer: {}, count: {}",
+                couponEventId, consumerName, claimed.size());
+        return toIssueRequests(streamKey, claimed);
+    }
 
-        log.info("큐 추가 성공 - eventId: {}, userId: {}, queueSize: {}",
-                couponEventId, userId, getQueueSize(couponEventId));
-        return true;
+    /**
+     * 처리 완료 요청 ACK 후 스트림에서 삭제
+     */
+    public void acknowledge(Long couponEventId, List<String> recordIds) {
+        if (recordIds.isEmpty()) {
+            return;
+        }
+        String streamKey = COUPON_STREAM_PREFIX + couponEventId;
+        String[] ids = recordIds.toArray(String[]::new);
+
+        redisTemplate.opsForStream().acknowledge(streamKey, CONSUMER_GROUP, ids);
+        redisTemplate.opsForStream().delete(streamKey, ids);
     }
 
     /**
-     * 대기열에서 Bulk로 userId 꺼내기 (배치 처리용)
+     * 미처리 요청 수 조회 (ACK된 엔트리는 삭제되므로 XLEN = 대기 + 처리 중)
      */
-    public List<Long> popFromQueue(Long couponEventId, int count) {
-        String queueKey = COUPON_QUEUE_PREFIX + couponEventId;
-        List<Long> userIds = new ArrayList<>();
-
-        for (int i = 0; i < count; i++) {
-            String userIdStr = redisTemplate.opsForList().leftPop(queueKey);
-            if (userIdStr == null) {
-                break;
-            }
+    public long getQueueSize(Long couponEventId) {
+        String streamKey = COUPON_STREAM_PREFIX + couponEventId;
+        Long size = redisTemplate.opsForStream().size(streamKey);
+        return size != null ? size : 0;
+    }
 
+    /**
+     * 데드레터 스트림 길이 조회
+     */
+    public long getDeadLetterSize(Long couponEventId) {
+        Long size = redisTemplate.opsForStream().size(COUPON_STREAM_PREFIX + couponEventId + DEAD_LETTER_SUFFIX);
+        return size != null ? size : 0;
+    }
+
+    private List<CouponIssueRequest> toIssueRequests(String streamKey, List<MapRecord<String, Object, Object>> records) {
+        if (records == null || records.isEmpty()) {
+            return List.of();
+        }
+
+        List<CouponIssueRequest> requests = new ArrayList<>(records.size());
+        List<MapRecord<String, Object, Object>> malformed = new ArrayList<>();
+        for (MapRecord<String, Object, Object> record : records) {
+            Object userIdValue = record.getValue().get(USER_ID_FIELD);
             try {
-                Long userId = Long.parseLong(userIdStr);
-                userIds.add(userId);
+                requests.add(new CouponIssueRequest(record.getId().getValue(), Long.parseLong(String.valueOf(userIdValue))));
             } catch (NumberFormatException e) {
-                log.error("userId 파싱 실패 - value: {}", userIdStr, e);
+                log.error("userId 파싱 실패 - recordId: {}, value: {}", record.getId(), userIdValue, e);
+                malformed.add(record);
             }
         }
 
-        if (!userIds.isEmpty()) {
-            log.info("큐에서 꺼내기 완료 - eventId: {}, count: {}", couponEventId, userIds.size());
+        if (!malformed.isEmpty()) {
+            deadLetter(streamKey, malformed);
         }
-
-        return userIds;
+        return requests;
     }
 
     /**
-     * 큐 크기 조회
+     * 파싱 불가 요청을 데드레터 스트림으로 옮긴 뒤 ACK + 삭제
+     * - ACK하지 않으면 Pending에 남아 claimStaleRequests가 주기마다 회수를 반복함
      */
-    public long getQueueSize(Long couponEventId) {
-        String queueKey = COUPON_QUEUE_PREFIX + couponEventId;
-        Long size = redisTemplate.opsForList().size(queueKey);
-        return size != null ? size : 0;
+    private void deadLetter(String streamKey, List<MapRecord<String, Object, Object>> records) {
+        String deadLetterKey = streamKey + DEAD_LETTER_SUFFIX;
+        for (MapRecord<String, Object, Object> record : records) {
+            Map<String, String> fields = new HashMap<>();
+            record.getValue().forEach((field, value) -> fields.put(String.valueOf(field), String.valueOf(value)));
+            fields.put("originalId", record.getId().getValue());
+            redisTemplate.opsForStream().add(StreamRecords.newRecord().in(deadLetterKey).ofMap(fields));
+        }
+        redisTemplate.expire(deadLetterKey, KEY_TTL);
+
+        String[] ids = records.stream().map(record -> record.getId().getValue()).toArray(String[]::new);
+        redisTemplate.opsForStream().acknowledge(streamKey, CONSUMER_GROUP, ids);
+        redisTemplate.opsForStream().delete(streamKey, ids);
+        log.warn("파싱 불가 쿠폰 발급 요청 데드레터 이동 - stream: {}, count: {}", streamKey, ids.length);
+    }
+
+    private boolean isBusyGroup(RedisSystemException e) {
+        Throwable cause = e;
+        while (cause != null) {
+            if (cause.getMessage() != null && cause.getMessage().contains("BUSYGROUP")) {
+                return true;
+            }
+            cause = cause.getCause();
+        }
+        return false;
     }
 
     /**
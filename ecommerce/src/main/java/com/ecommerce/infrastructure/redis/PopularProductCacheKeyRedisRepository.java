@@ -0,0 +1,34 @@
+package com.ecommerce.infrastructure.redis;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Set;
+
+/**
+ * 최근 조회된 인기 상품 캐시 키 (전 노드 공용)
+ * - ZSET: member = 캐시 키, score = 마지막 조회 시각(ms)
+ * - PopularProductsCacheRefresher가 이 목록의 키를 미리 갱신
+ */
+@Repository
+@RequiredArgsConstructor
+public class PopularProductCacheKeyRedisRepository {
+
+    private static final String REQUESTED_KEYS = "ecommerce:cache:popular:requested-keys";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public void touch(String cacheKey, long now) {
+        redisTemplate.opsForZSet().add(REQUESTED_KEYS, cacheKey, now);
+    }
+
+    /**
+     * since 이후 조회된 키 (그 이전 키는 삭제)
+     */
+    public Set<String> findRequestedSince(long since) {
+        redisTemplate.opsForZSet().removeRangeByScore(REQUESTED_KEYS, 0, since - 1);
+        Set<String> keys = redisTemplate.opsForZSet().rangeByScore(REQUESTED_KEYS, since, Double.MAX_VALUE);
+        return keys != null ? keys : Set.of();
+    }
+}
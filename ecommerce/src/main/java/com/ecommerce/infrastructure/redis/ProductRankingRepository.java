@@ -1,16 +1,24 @@
 package com.ecommerce.infrastructure.redis;
 
 import com.ecommerce.presentation.dto.product.ProductRankingDto;
+import com.ecommerce.presentation.dto.product.RankingMode;
+import com.ecommerce.presentation.dto.product.RankingWindow;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.DefaultTypedTuple;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Repository;
 
 import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
 import java.util.*;
 
 @Slf4j
@@ -19,112 +27,331 @@ import java.util.*;
 public class ProductRankingRepository {
 
     private static final String RANKING_KEY_PREFIX = "ecommerce:cache:ranking:daily:";
-    private static final String RANKING_KEY_TEMP_PREFIX = "ecommerce:cache:ranking:daily:temp:";
+    private static final String HOURLY_KEY_PREFIX = "ecommerce:cache:ranking:hourly:";
+    private static final String ROLLING_KEY = "ecommerce:cache:ranking:rolling:3d";
+    private static final String ROLLED_DATE_KEY = "ecommerce:cache:ranking:rolling:3d:rolled-date";
+    private static final String TRENDING_KEY = "ecommerce:cache:ranking:trending";
+    private static final String TRENDING_LANDMARK_KEY = "ecommerce:cache:ranking:trending:landmark";
+    private static final String WINDOW_SNAPSHOT_KEY_PREFIX = "ecommerce:cache:ranking:window:";
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
-    private static final Duration TTL = Duration.ofDays(3);
+    private static final DateTimeFormatter HOUR_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMddHH");
+    private static final int WINDOW_DAYS = 3;
+    private static final Duration TTL = Duration.ofDays(8);          // 7일 슬라이딩 윈도우 + 걸치는 하루
+    private static final Duration HOURLY_TTL = Duration.ofHours(26); // 24시간 슬라이딩 윈도우 + 걸치는 한 시간
+    private static final Duration WINDOW_SNAPSHOT_TTL = Duration.ofSeconds(10);
+
+    /**
+     * 판매량 증가 (일간/시간/3일 롤링 키 + 감쇠 점수를 한 번에 반영)
+     * - 하나의 스크립트라 일부만 반영된 채 실패하는 일이 없음 → 실패 시 버퍼가 전체를 재시도해도 이중 집계되지 않음
+     * - 감쇠 점수(Forward Decay): 저장 점수 = Σ 수량 × e^((t - landmark) / tau) → 저장 점수 순서가 곧 감쇠 점수 순서
+     * - 가중치가 너무 커지기 전에 전체 점수를 e^(-(now - landmark) / tau)배로 줄이고 landmark를 now로 이동
+     * KEYS[1]: 롤링 키, KEYS[2]: 감쇠 점수 ZSET, KEYS[3]: landmark(초), KEYS[4..]: 시간 버킷별 일간 키, 시간 키 쌍
+     * ARGV[1]: 현재 시각(초), ARGV[2]: tau(초), ARGV[3]: 일간 키 TTL(초), ARGV[4]: 시간 키 TTL(초)
+     * ARGV[5..]: 시간 버킷마다 [버킷 시각(초), 롤링 반영 여부(1/0), 상품 수, productId, quantity 쌍...]
+     */
+    private static final RedisScript<Long> INCREMENT_RANKING_SCRIPT = new DefaultRedisScript<>("""
+            local now = tonumber(ARGV[1])
+            local tau = tonumber(ARGV[2])
+            local landmark = tonumber(redis.call('GET', KEYS[3]))
+            if not landmark then
+                landmark = now
+                redis.call('SET', KEYS[3], ARGV[1])
+            end
+            if (now - landmark) / tau > 50 then
+                redis.call('ZUNIONSTORE', KEYS[2], 1, KEYS[2], 'WEIGHTS', math.exp(-(now - landmark) / tau))
+                redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', '0.000001')
+                landmark = now
+                redis.call('SET', KEYS[3], ARGV[1])
+            end
+            local a = 5
+            for k = 4, #KEYS, 2 do
+                local weight = math.exp((tonumber(ARGV[a]) - landmark) / tau)
+                local rolling = ARGV[a + 1] == '1'
+                local last = a + 2 + tonumber(ARGV[a + 2]) * 2
+                for i = a + 3, last, 2 do
+                    local quantity = tonumber(ARGV[i + 1])
+                    redis.call('ZINCRBY', KEYS[k], quantity, ARGV[i])
+                    redis.call('ZINCRBY', KEYS[k + 1], quantity, ARGV[i])
+                    if rolling then
+                        redis.call('ZINCRBY', KEYS[1], quantity, ARGV[i])
+                    end
+                    redis.call('ZINCRBY', KEYS[2], quantity * weight, ARGV[i])
+                end
+                redis.call('EXPIRE', KEYS[k], ARGV[3])
+                redis.call('EXPIRE', KEYS[k + 1], ARGV[4])
+                a = last + 1
+            end
+            return landmark
+            """, Long.class);
+
+    /**
+     * 슬라이딩 윈도우 스냅샷 생성 + 순위 구간 조회
+     * - 스냅샷이 없을 때만 버킷 키를 ZUNIONSTORE로 합치고, 같은 스크립트 안에서 바로 읽으므로
+     *   생성과 조회 사이에 스냅샷이 만료되어 빈 결과를 받는 일이 없음
+     * KEYS[1]: 스냅샷 키, KEYS[2..]: 버킷 키
+     * ARGV[1]: 스냅샷 TTL(ms), ARGV[2]: 시작 순위, ARGV[3]: 끝 순위, ARGV[4..]: 버킷 키별 가중치
+     * 반환값: {productId, score, productId, score, ...}
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> WINDOW_PAGE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                local args = {'ZUNIONSTORE', KEYS[1], #KEYS - 1}
+                for i = 2, #KEYS do
+                    args[#args + 1] = KEYS[i]
+                end
+                args[#args + 1] = 'WEIGHTS'
+                for i = 4, #ARGV do
+                    args[#args + 1] = ARGV[i]
+                end
+                redis.call(unpack(args))
+                redis.call('PEXPIRE', KEYS[1], ARGV[1])
+            end
+            return redis.call('ZREVRANGE', KEYS[1], ARGV[2], ARGV[3], 'WITHSCORES')
+            """, List.class);
+
+    /**
+     * 3일 롤링 키 일자 변경 처리 (노드가 여러 개여도 하루 한 번만 반영)
+     * KEYS[1]: 롤링 키, KEYS[2]: 마지막 롤링 일자, KEYS[3..5]: 오늘~2일 전 일간 키, KEYS[6]: 3일 전 일간 키
+     * ARGV[1]: 오늘, ARGV[2]: 어제
+     * 반환값: 0 = 이미 처리됨, 1 = 3일 전 판매량 차감, 2 = 일간 키로 재구성
+     */
+    private static final RedisScript<Long> ROLL_SCRIPT = new DefaultRedisScript<>("""
+            local rolled = redis.call('GET', KEYS[2])
+            if rolled == ARGV[1] then
+                return 0
+            end
+            local result
+            if rolled == ARGV[2] then
+                if redis.call('EXISTS', KEYS[6]) == 1 then
+                    redis.call('ZUNIONSTORE', KEYS[1], 2, KEYS[1], KEYS[6], 'WEIGHTS', 1, -1)
+                end
+                redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', 0)
+                result = 1
+            else
+                redis.call('ZUNIONSTORE', KEYS[1], 3, KEYS[3], KEYS[4], KEYS[5])
+                result = 2
+            end
+            redis.call('SET', KEYS[2], ARGV[1])
+            return result
+            """, Long.class);
 
     private final RedisTemplate<String, String> redisTemplate;
 
+    @Value("${ecommerce.ranking.trending.half-life-minutes:360}")
+    private long trendingHalfLifeMinutes;
+
     /**
-     * 오늘 날짜 키에 상품별 판매량 증가 (Pipeline 사용)
+     * 현재 시간 버킷에 상품별 판매량 증가
      *
      * @param productQuantities Map<productId, quantity>
      */
     public void incrementTodayRanking(Map<Long, Integer> productQuantities) {
-        if (productQuantities.isEmpty()) {
+        incrementRanking(Map.of(LocalDateTime.now().truncatedTo(ChronoUnit.HOURS), productQuantities));
+    }
+
+    /**
+     * 시간 버킷별 상품 판매량 증가 (판매가 일어난 시각의 버킷에 반영)
+     * - 일간/시간 키, 3일 롤링 키, 감쇠(Trending) 점수를 Lua 스크립트 한 번으로 반영
+     * - 3일 롤링 키는 버킷 날짜가 윈도우 안일 때만 (롤링으로 이미 빠진 날짜를 다시 더하지 않도록)
+     * - 감쇠 점수는 버킷 시각 기준 가중치 (현재 버킷은 현재 시각, 지난 버킷은 버킷 끝 시각)
+     *
+     * @param hourlyQuantities Map<시간 버킷 시작 시각, Map<productId, quantity>>
+     */
+    public void incrementRanking(Map<LocalDateTime, Map<Long, Integer>> hourlyQuantities) {
+        if (hourlyQuantities.values().stream().allMatch(Map::isEmpty)) {
             return;
         }
 
-        String todayKey = getTodayKey();
+        LocalDate rollingStart = LocalDate.now().minusDays(WINDOW_DAYS - 1);
+        long nowSeconds = System.currentTimeMillis() / 1000;
 
-        // Pipeline으로 배치 처리
-        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
-            ZSetOperations<String, String> zSetOps = redisTemplate.opsForZSet();
+        List<String> keys = new ArrayList<>(List.of(ROLLING_KEY, TRENDING_KEY, TRENDING_LANDMARK_KEY));
+        List<String> args = new ArrayList<>(List.of(
+                String.valueOf(nowSeconds),
+                String.valueOf(trendingTauSeconds()),
+                String.valueOf(TTL.toSeconds()),
+                String.valueOf(HOURLY_TTL.toSeconds())
+        ));
 
+        hourlyQuantities.forEach((hour, productQuantities) -> {
+            if (productQuantities.isEmpty()) {
+                return;
+            }
+            long hourEndSeconds = hour.plusHours(1).atZone(ZoneId.systemDefault()).toEpochSecond() - 1;
+
+            keys.add(getKeyForDate(hour.toLocalDate()));
+            keys.add(getKeyForHour(hour));
+            args.add(String.valueOf(Math.min(nowSeconds, hourEndSeconds)));
+            args.add(hour.toLocalDate().isBefore(rollingStart) ? "0" : "1");
+            args.add(String.valueOf(productQuantities.size()));
             productQuantities.forEach((productId, quantity) -> {
-                zSetOps.incrementScore(todayKey, String.valueOf(productId), quantity);
+                args.add(String.valueOf(productId));
+                args.add(String.valueOf(quantity));
             });
-
-            // TTL 설정 (3일 후 자동 삭제)
-            redisTemplate.expire(todayKey, TTL);
-
-            return null;
         });
 
-        log.info("일간 랭킹 업데이트 완료 - key: {}, 상품 수: {}", todayKey, productQuantities.size());
+        redisTemplate.execute(INCREMENT_RANKING_SCRIPT, keys, args.toArray());
+
+        log.info("랭킹 업데이트 완료 - 시간 버킷 수: {}", hourlyQuantities.size());
     }
 
     /**
      * 최근 3일간 많이 팔린 상품 Top 5 조회
+     */
+    public List<ProductRankingDto> getTop5Last3Days() {
+        return getTopRankings(RankingWindow.DAY_3, RankingMode.SALES, 5);
+    }
+
+    /**
+     * 기간/방식별 상위 상품 조회
      *
      * @return List<ProductRankingDto> (productId, totalQuantity, rank)
      */
-    public List<ProductRankingDto> getTop5Last3Days() {
-        LocalDate today = LocalDate.now();
+    public List<ProductRankingDto> getTopRankings(RankingWindow window, RankingMode mode, int limit) {
+        return getRankingPage(window, mode, 0, limit);
+    }
+
+    /**
+     * 순위 구간 조회 (ZREVRANGE offset ~ offset + count - 1)
+     * - SALES + 3일: 롤링 키
+     * - SALES + 그 외 기간: 시간/일간 버킷을 합친 스냅샷 키 (슬라이딩 윈도우)
+     * - TRENDING: 감쇠 점수 키 (기간 무관)
+     * 깊은 페이지도 ZSET 순위 구간만 읽으므로 비용은 O(log N + count)
+     *
+     * @param offset 0부터 시작하는 순위 위치
+     * @return List<ProductRankingDto> (productId, totalQuantity, rank) - rank는 1부터 시작하는 전체 순위
+     */
+    public List<ProductRankingDto> getRankingPage(RankingWindow window, RankingMode mode, long offset, int count) {
+        double scale = mode == RankingMode.TRENDING ? currentTrendingScale() : 1.0;
 
-        // 최근 3일 키 생성
-        List<String> keys = new ArrayList<>();
-        for (int i = 0; i < 3; i++) {
-            keys.add(getKeyForDate(today.minusDays(i)));
+        Set<ZSetOperations.TypedTuple<String>> results;
+        if (mode == RankingMode.SALES && window != RankingWindow.DAY_3) {
+            results = readWindowSnapshotPage(window, offset, offset + count - 1);
+        } else {
+            String key = mode == RankingMode.TRENDING ? TRENDING_KEY : ROLLING_KEY;
+            results = redisTemplate.opsForZSet().reverseRangeWithScores(key, offset, offset + count - 1);
         }
 
-        // 임시 합산 키 (UUID로 고유하게)
-        String tempKey = RANKING_KEY_TEMP_PREFIX + UUID.randomUUID();
-
-        try {
-            // ZUNIONSTORE: 3일치 데이터 합산
-            if (keys.size() == 1) {
-                redisTemplate.opsForZSet().unionAndStore(keys.get(0),
-                        Collections.emptyList(), tempKey);
-            } else {
-                redisTemplate.opsForZSet().unionAndStore(keys.get(0), keys.subList(1,
-                        keys.size()), tempKey);
-            }
+        if (results == null || results.isEmpty()) {
+            log.debug("랭킹 데이터 없음 - window: {}, mode: {}, offset: {}", window.getCode(), mode.getCode(), offset);
+            return Collections.emptyList();
+        }
 
-            // TTL 설정 (1분 후 자동 삭제)
-            redisTemplate.expire(tempKey, Duration.ofMinutes(1));
+        // DTO 변환
+        List<ProductRankingDto> rankings = new ArrayList<>();
+        long rank = offset + 1;
 
-            // ZREVRANGE: Top 5 조회 (내림차순)
-            Set<ZSetOperations.TypedTuple<String>> results =
-                    redisTemplate.opsForZSet().reverseRangeWithScores(tempKey, 0, 4);
+        for (ZSetOperations.TypedTuple<String> tuple : results) {
+            Long productId = Long.valueOf(tuple.getValue());
+            Integer quantity = (int) Math.round(tuple.getScore() * scale);
 
-            if (results == null || results.isEmpty()) {
-                log.info("최근 3일간 랭킹 데이터 없음");
-                return Collections.emptyList();
-            }
+            rankings.add(new ProductRankingDto(productId, quantity, rank++));
+        }
 
-            // DTO 변환
-            List<ProductRankingDto> rankings = new ArrayList<>();
-            long rank = 1;
+        log.debug("랭킹 조회 완료 - window: {}, mode: {}, offset: {}, {} 건",
+                window.getCode(), mode.getCode(), offset, rankings.size());
+        return rankings;
+    }
 
-            for (ZSetOperations.TypedTuple<String> tuple : results) {
-                Long productId = Long.valueOf(tuple.getValue());
-                Integer quantity = tuple.getScore().intValue();
+    /**
+     * 3일 롤링 키 일자 변경
+     * - 전날 롤링이 끝난 상태면 윈도우에서 빠지는 3일 전 판매량만 차감
+     * - 처음 실행이거나 하루 이상 건너뛰었으면 최근 3일 일간 키로 재구성
+     *
+     * @return 0 = 이미 처리됨, 1 = 차감, 2 = 재구성
+     */
+    public long rollWindow() {
+        LocalDate today = LocalDate.now();
 
-                rankings.add(new ProductRankingDto(productId, quantity, rank++));
-            }
+        List<String> keys = List.of(
+                ROLLING_KEY,
+                ROLLED_DATE_KEY,
+                getKeyForDate(today),
+                getKeyForDate(today.minusDays(1)),
+                getKeyForDate(today.minusDays(2)),
+                getKeyForDate(today.minusDays(WINDOW_DAYS))
+        );
 
-            log.info("최근 3일 Top 5 조회 완료 - {} 건", rankings.size());
-            return rankings;
+        Long result = redisTemplate.execute(
+                ROLL_SCRIPT,
+                keys,
+                today.format(DATE_FORMATTER),
+                today.minusDays(1).format(DATE_FORMATTER)
+        );
+        return result != null ? result : 0;
+    }
 
-        } finally {
-            // 임시 키 삭제
-            redisTemplate.delete(tempKey);
+    /**
+     * 저장된 감쇠 점수를 현재 시점 값으로 바꾸는 배율 (e^(-(now - landmark) / tau))
+     */
+    private double currentTrendingScale() {
+        String landmark = redisTemplate.opsForValue().get(TRENDING_LANDMARK_KEY);
+        if (landmark == null) {
+            return 1.0;
         }
+        long elapsed = System.currentTimeMillis() / 1000 - Long.parseLong(landmark);
+        return Math.exp(-(double) elapsed / trendingTauSeconds());
+    }
+
+    private double trendingTauSeconds() {
+        // 반감기 = tau × ln2
+        return trendingHalfLifeMinutes * 60 / Math.log(2);
     }
 
     /**
-     * 오늘 날짜의 Redis Key 생성
-     * 예: "ecommerce:ranking:daily:20250604"
+     * 슬라이딩 윈도우 스냅샷의 순위 구간 조회
+     * - 1시간/24시간: 시간 버킷, 7일: 일간 버킷을 ZUNIONSTORE로 합쳐 짧은 TTL로 보관
+     * - 현재 버킷의 경과 비율만큼 가장 오래된 버킷이 윈도우 밖으로 밀려난 것으로 보고 가중치를 줄임
+     * - 스냅샷이 살아 있는 동안의 페이지 조회는 같은 순위를 보게 됨
      */
-    private String getTodayKey() {
-        return getKeyForDate(LocalDate.now());
+    @SuppressWarnings("unchecked")
+    private Set<ZSetOperations.TypedTuple<String>> readWindowSnapshotPage(RankingWindow window, long start, long end) {
+        LocalDateTime now = LocalDateTime.now();
+        boolean hourly = window != RankingWindow.DAY_7;
+
+        ChronoUnit unit = hourly ? ChronoUnit.HOURS : ChronoUnit.DAYS;
+        int buckets = (int) (window.getDuration().toSeconds() / unit.getDuration().toSeconds());
+        LocalDateTime bucketStart = now.truncatedTo(unit);
+        double elapsedRatio = (double) Duration.between(bucketStart, now).toSeconds() / unit.getDuration().toSeconds();
+
+        List<String> keys = new ArrayList<>(buckets + 2);
+        List<String> args = new ArrayList<>(buckets + 4);
+        keys.add(WINDOW_SNAPSHOT_KEY_PREFIX + window.getCode());
+        args.add(String.valueOf(WINDOW_SNAPSHOT_TTL.toMillis()));
+        args.add(String.valueOf(start));
+        args.add(String.valueOf(end));
+        for (int i = 0; i <= buckets; i++) {
+            LocalDateTime bucket = bucketStart.minus(i, unit);
+            keys.add(hourly ? getKeyForHour(bucket) : getKeyForDate(bucket.toLocalDate()));
+            args.add(String.valueOf(i < buckets ? 1.0 : 1.0 - elapsedRatio));
+        }
+
+        List<Object> result = redisTemplate.execute(WINDOW_PAGE_SCRIPT, keys, args.toArray());
+        if (result == null) {
+            return Collections.emptySet();
+        }
+
+        Set<ZSetOperations.TypedTuple<String>> tuples = new LinkedHashSet<>();
+        for (int i = 0; i + 1 < result.size(); i += 2) {
+            tuples.add(new DefaultTypedTuple<>(
+                    String.valueOf(result.get(i)), Double.valueOf(String.valueOf(result.get(i + 1)))));
+        }
+        return tuples;
     }
 
     /**
      * 특정 날짜의 Redis Key 생성
+     * 예: "ecommerce:cache:ranking:daily:20250604"
      */
     private String getKeyForDate(LocalDate date) {
         return RANKING_KEY_PREFIX + date.format(DATE_FORMATTER);
     }
+
+    /**
+     * 특정 시간의 Redis Key 생성
+     * 예: "ecommerce:cache:ranking:hourly:2025060413"
+     */
+    private String getKeyForHour(LocalDateTime dateTime) {
+        return HOURLY_KEY_PREFIX + dateTime.format(HOUR_FORMATTER);
+    }
 }
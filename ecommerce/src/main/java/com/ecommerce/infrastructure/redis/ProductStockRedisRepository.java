@@ -0,0 +1,179 @@
+package com.ecommerce.infrastructure.redis;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class ProductStockRedisRepository {
+
+    /**
+     * 해시 키 (stock: 예약 가능 재고, gen: 초기화 세대)
+     * - 초기화할 때마다 세대를 새로 발급해, 이전 세대에서 예약한 수량의 반환이 새로 초기화된 재고에 더해지지 않게 함
+     */
+    private static final String PRODUCT_STOCK_PREFIX = "ecommerce:product:stock-reservation:";
+
+    /**
+     * KEYS[i]: 상품 재고 키, ARGV[i]: 예약 수량
+     * 1. 모든 키의 재고를 먼저 검사 (하나라도 부족하면 아무것도 차감하지 않음)
+     * 2. 전부 충분하면 한 번에 차감
+     * 반환값: {0, 세대1, 세대2, ...} = 예약 성공, {i} = i번째 상품 재고 부족, {-i} = i번째 상품 키 없음
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> RESERVE_SCRIPT = new DefaultRedisScript<>("""
+            for i = 1, #KEYS do
+                local stock = redis.call('HGET', KEYS[i], 'stock')
+                if not stock then
+                    return {tostring(-i)}
+                end
+                if tonumber(stock) < tonumber(ARGV[i]) then
+                    return {tostring(i)}
+                end
+            end
+            local result = {'0'}
+            for i = 1, #KEYS do
+                redis.call('HINCRBY', KEYS[i], 'stock', -tonumber(ARGV[i]))
+                result[i + 1] = redis.call('HGET', KEYS[i], 'gen')
+            end
+            return result
+            """, List.class);
+
+    /**
+     * KEYS[i]: 상품 재고 키, ARGV[2i-1]: 반환 수량, ARGV[2i]: 예약한 세대
+     * - 예약 이후 다시 초기화된 키(세대가 다름)에는 반환하지 않음 (초기화 값이 이미 DB 기준)
+     */
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            for i = 1, #KEYS do
+                if redis.call('HGET', KEYS[i], 'gen') == ARGV[2 * i] then
+                    redis.call('HINCRBY', KEYS[i], 'stock', ARGV[2 * i - 1])
+                end
+            end
+            return 0
+            """, Long.class);
+
+    /**
+     * KEYS[1]: 상품 재고 키, ARGV[1]: 재고, ARGV[2]: 세대, ARGV[3]: TTL(ms)
+     * 반환값: 1 = 초기화, 0 = 이미 있음
+     */
+    private static final RedisScript<Long> INITIALIZE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                return 0
+            end
+            redis.call('HSET', KEYS[1], 'stock', ARGV[1], 'gen', ARGV[2])
+            redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            return 1
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /**
+     * @param code 0 = 성공, 양수 = 재고 부족 상품 순번(1부터), 음수 = 재고 키가 없는 상품 순번
+     * @param generations 성공 시 상품별 예약한 세대 (반환 시 같은 세대에만 되돌림)
+     */
+    public record Reservation(long code, Map<Long, String> generations) {}
+
+    /**
+     * 여러 상품의 재고를 원자적으로 예약
+     *
+     * @param productQuantities Map<productId, quantity> (순서 보존 Map 사용)
+     */
+    public Reservation reserve(Map<Long, Integer> productQuantities) {
+        List<?> result = redisTemplate.execute(
+                RESERVE_SCRIPT,
+                toKeys(productQuantities),
+                toArgs(productQuantities)
+        );
+        if (result == null || result.isEmpty()) {
+            return new Reservation(0, Map.of());
+        }
+
+        long code = Long.parseLong(String.valueOf(result.get(0)));
+        Map<Long, String> generations = new LinkedHashMap<>();
+        if (code == 0) {
+            int index = 1;
+            for (Long productId : productQuantities.keySet()) {
+                generations.put(productId, String.valueOf(result.get(index++)));
+            }
+        }
+        return new Reservation(code, generations);
+    }
+
+    /**
+     * 예약된 재고 반환 (트랜잭션 롤백 시, 예약한 세대의 키에만)
+     */
+    public void release(Map<Long, Integer> productQuantities, Map<Long, String> generations) {
+        List<Object> args = new ArrayList<>(productQuantities.size() * 2);
+        productQuantities.forEach((productId, quantity) -> {
+            args.add(String.valueOf(quantity));
+            args.add(generations.getOrDefault(productId, ""));
+        });
+
+        redisTemplate.execute(
+                RELEASE_SCRIPT,
+                toKeys(productQuantities),
+                args.toArray()
+        );
+        log.debug("재고 예약 반환 - products: {}", productQuantities.keySet());
+    }
+
+    /**
+     * 재고 키가 없을 때만 DB 재고로 초기화 (새 세대 발급)
+     * - 예약/반환은 TTL을 유지하므로 키는 최대 ttl마다 DB 재고로 다시 초기화됨
+     */
+    public void initializeStockIfAbsent(Long productId, long stock, Duration ttl) {
+        Long initialized = redisTemplate.execute(
+                INITIALIZE_SCRIPT,
+                List.of(PRODUCT_STOCK_PREFIX + productId),
+                String.valueOf(stock),
+                UUID.randomUUID().toString(),
+                String.valueOf(ttl.toMillis())
+        );
+
+        if (initialized != null && initialized == 1L) {
+            log.info("상품 재고 예약 키 초기화 - productId: {}, stock: {}", productId, stock);
+        }
+    }
+
+    /**
+     * 재고 키 삭제 (다음 예약 시 DB 재고와 새 세대로 다시 초기화)
+     */
+    public void evict(Collection<Long> productIds) {
+        List<String> keys = new ArrayList<>(productIds.size());
+        productIds.forEach(productId -> keys.add(PRODUCT_STOCK_PREFIX + productId));
+        redisTemplate.delete(keys);
+        log.debug("상품 재고 예약 키 삭제 - products: {}", productIds);
+    }
+
+    /**
+     * 예약 가능 재고 조회 (키가 없으면 null)
+     */
+    public Long getStock(Long productId) {
+        Object stock = redisTemplate.opsForHash().get(PRODUCT_STOCK_PREFIX + productId, "stock");
+        return stock != null ? Long.valueOf(stock.toString()) : null;
+    }
+
+    private List<String> toKeys(Map<Long, Integer> productQuantities) {
+        List<String> keys = new ArrayList<>(productQuantities.size());
+        productQuantities.keySet().forEach(productId -> keys.add(PRODUCT_STOCK_PREFIX + productId));
+        return keys;
+    }
+
+    private Object[] toArgs(Map<Long, Integer> productQuantities) {
+        return productQuantities.values().stream()
+                .map(String::valueOf)
+                .toArray();
+    }
+}
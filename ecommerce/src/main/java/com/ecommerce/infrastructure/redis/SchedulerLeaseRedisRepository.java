@@ -0,0 +1,92 @@
+package com.ecommerce.infrastructure.redis;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 스케줄 작업 파티션 임대(Lease) 및 노드 하트비트 저장소
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class SchedulerLeaseRedisRepository {
+
+    private static final String LEASE_PREFIX = "ecommerce:scheduler:lease:";
+    private static final String NODES_KEY = "ecommerce:scheduler:nodes";
+
+    /**
+     * KEYS[1]: 임대 키, ARGV[1]: 노드 ID, ARGV[2]: TTL(ms)
+     * 내 임대면 연장, 비어 있으면 획득
+     * 반환값: 1 = 보유, 0 = 다른 노드 보유
+     */
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>("""
+            local owner = redis.call('GET', KEYS[1])
+            if owner == ARGV[1] then
+                redis.call('PEXPIRE', KEYS[1], ARGV[2])
+                return 1
+            end
+            if not owner then
+                redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    /**
+     * KEYS[1]: 임대 키, ARGV[1]: 노드 ID
+     * 내 임대일 때만 삭제
+     */
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /**
+     * 파티션 임대 획득 또는 연장
+     */
+    public boolean acquireOrRenew(String job, int partition, String nodeId, Duration ttl) {
+        Long result = redisTemplate.execute(
+                ACQUIRE_SCRIPT,
+                List.of(leaseKey(job, partition)),
+                nodeId,
+                String.valueOf(ttl.toMillis())
+        );
+        return result != null && result == 1L;
+    }
+
+    public void release(String job, int partition, String nodeId) {
+        redisTemplate.execute(RELEASE_SCRIPT, List.of(leaseKey(job, partition)), nodeId);
+    }
+
+    /**
+     * 노드 하트비트 기록 후 nodeTtl 동안 하트비트가 없는 노드 제거
+     * @return 살아있는 노드 수
+     */
+    public long heartbeat(String nodeId, Duration nodeTtl) {
+        long now = System.currentTimeMillis();
+        redisTemplate.opsForZSet().add(NODES_KEY, nodeId, now);
+        redisTemplate.opsForZSet().removeRangeByScore(NODES_KEY, 0, now - nodeTtl.toMillis());
+
+        Long size = redisTemplate.opsForZSet().zCard(NODES_KEY);
+        return size != null ? Math.max(size, 1) : 1;
+    }
+
+    public void leave(String nodeId) {
+        redisTemplate.opsForZSet().remove(NODES_KEY, nodeId);
+    }
+
+    private String leaseKey(String job, int partition) {
+        return LEASE_PREFIX + job + ":" + partition;
+    }
+}
@@ -0,0 +1,57 @@
+package com.ecommerce.infrastructure.redis;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * SET NX PX 기반 단순 락 저장소 (LockType.SIMPLE / SPIN)
+ * - 값은 획득 시 발급한 토큰, 해제/연장은 토큰이 일치할 때만 수행 (만료 후 다른 보유자의 락을 건드리지 않도록)
+ */
+@Repository
+@RequiredArgsConstructor
+public class SimpleLockRedisRepository {
+
+    /**
+     * KEYS[1]: 락 키, ARGV[1]: 토큰
+     * 반환값: 1 = 해제, 0 = 이미 만료되어 다른 보유자가 있거나 비어 있음
+     */
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    /**
+     * KEYS[1]: 락 키, ARGV[1]: 토큰, ARGV[2]: 임대 시간(ms)
+     * 반환값: 1 = 연장, 0 = 보유하고 있지 않음
+     */
+    private static final RedisScript<Long> EXTEND_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            end
+            return 0
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public boolean tryAcquire(String key, String token, long leaseTimeMs) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, token, Duration.ofMillis(leaseTimeMs)));
+    }
+
+    public boolean release(String key, String token) {
+        Long released = redisTemplate.execute(RELEASE_SCRIPT, List.of(key), token);
+        return released != null && released == 1L;
+    }
+
+    public boolean extend(String key, String token, long leaseTimeMs) {
+        Long extended = redisTemplate.execute(EXTEND_SCRIPT, List.of(key), token, String.valueOf(leaseTimeMs));
+        return extended != null && extended == 1L;
+    }
+}
@@ -4,7 +4,11 @@ import com.ecommerce.domain.cart.CartItem;
 import com.ecommerce.domain.cart.exception.CartErrorCode;
 import com.ecommerce.domain.cart.exception.CartItemNotFoundException;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,6 +22,8 @@ public interface CartRepository extends JpaRepository<CartItem, Long> {
 
     List<CartItem> findByUserId(Long userId);
 
+    List<CartItem> findByUserIdIn(Collection<Long> userIds);
+
     Optional<CartItem> findByUserIdAndProductId(Long userId, Long productId);
 
     CartItem save(CartItem cartItem);
@@ -25,4 +31,14 @@ public interface CartRepository extends JpaRepository<CartItem, Long> {
     void deleteById(Long id);
 
     void deleteByUserId(Long userId);
+
+    /**
+     * 엔티티 로딩 없이 장바구니 일괄 삭제 (같은 사용자의 동시 주문은 행 락을 기다린 뒤 0행 삭제)
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM CartItem c WHERE c.userId = :userId")
+    int deleteAllByUserIdInBulk(@Param("userId") Long userId);
+
+    void deleteByUserIdIn(Collection<Long> userIds);
 }
@@ -0,0 +1,28 @@
+package com.ecommerce.infrastructure.repository;
+
+import com.ecommerce.domain.outbox.OutboxEvent;
+import com.ecommerce.domain.outbox.OutboxEventStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * 발행 대기 이벤트 선점 (FOR UPDATE SKIP LOCKED)
+     * - 다른 릴레이 스레드/노드가 잡고 있는 행은 건너뛰어 병렬 릴레이 가능
+     * - FAILED 행은 제외
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT e FROM OutboxEvent e WHERE e.status = 'PENDING' ORDER BY e.id")
+    List<OutboxEvent> findBatchForRelay(Pageable pageable);
+
+    List<OutboxEvent> findByStatus(OutboxEventStatus status);
+}
@@ -1,15 +1,18 @@
 package com.ecommerce.infrastructure.repository;
 
 import com.ecommerce.domain.product.Product;
+import com.ecommerce.domain.product.exception.InsufficientStockException;
 import com.ecommerce.domain.product.exception.ProductErrorCode;
 import com.ecommerce.domain.product.exception.ProductNotFoundException;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,6 +30,13 @@ public interface ProductRepository extends JpaRepository<Product, Long>  {
     @Query("SELECT p FROM Product p WHERE p.id = :id")
     Optional<Product> findByIdWithLock(@Param("id") Long id);
 
+    /**
+     * 묶음 주문 처리용 (ID 순으로 잠가 데드락 방지)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Product p WHERE p.id IN :ids ORDER BY p.id")
+    List<Product> findAllByIdWithLock(@Param("ids") Collection<Long> ids);
+
     Product save(Product product);
 
     default int getTotalCount() { return (int) count(); }
@@ -36,4 +46,51 @@ public interface ProductRepository extends JpaRepository<Product, Long>  {
                 .orElseThrow(() -> new ProductNotFoundException(ProductErrorCode.PRODUCT_NOT_FOUND));
 
         product.decreaseStock(quantity);
-    }}
+    }
+
+    /**
+     * 조건부 UPDATE로 재고 차감 (재고가 충분할 때만 1행 변경)
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE Product p SET p.stock = p.stock - :quantity WHERE p.id = :id AND p.stock >= :quantity")
+    int decreaseStockIfAvailable(@Param("id") Long id, @Param("quantity") int quantity);
+
+    @Query("SELECT p.id FROM Product p WHERE p.id IN :ids AND p.stockBucketCount > 0")
+    List<Long> findStripedProductIds(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT p.id FROM Product p WHERE p.stockBucketCount > 0")
+    List<Long> findAllStripedProductIds();
+
+    /**
+     * 재고 조회용 (엔티티 로딩 없이 PK IN 조회)
+     */
+    @Query("SELECT p.id AS productId, p.stock AS stock, p.stockBucketCount AS stockBucketCount FROM Product p WHERE p.id IN :ids")
+    List<ProductStockProjection> findStocksByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 분할 재고 상품의 표시용 재고 갱신 (버킷 합계는 호출 측에서 잠금 없이 조회)
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE Product p SET p.stock = :stock WHERE p.id = :id AND p.stock <> :stock")
+    int updateDisplayStock(@Param("id") Long id, @Param("stock") int stock);
+
+    /**
+     * 엔티티 로딩/락 없이 원자적으로 재고 차감
+     * @throws ProductNotFoundException 상품이 없는 경우
+     * @throws InsufficientStockException 재고 부족 시
+     */
+    default void decreaseStockAtomically(Long productId, int quantity) {
+        if (decreaseStockIfAvailable(productId, quantity) == 0) {
+            findByIdOrThrow(productId);
+            throw new InsufficientStockException(ProductErrorCode.INSUFFICIENT_STOCK);
+        }
+    }
+
+    interface ProductStockProjection {
+        Long getProductId();
+        Integer getStock();
+        Integer getStockBucketCount();
+    }
+}
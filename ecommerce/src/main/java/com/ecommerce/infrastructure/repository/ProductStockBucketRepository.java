@@ -0,0 +1,46 @@
+package com.ecommerce.infrastructure.repository;
+
+import com.ecommerce.domain.product.ProductStockBucket;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ProductStockBucketRepository extends JpaRepository<ProductStockBucket, Long> {
+
+    /**
+     * 조건부 UPDATE로 단일 버킷 재고 차감
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("""
+        UPDATE ProductStockBucket b SET b.stock = b.stock - :quantity
+        WHERE b.productId = :productId AND b.bucketNo = :bucketNo AND b.stock >= :quantity
+        """)
+    int decreaseStockIfAvailable(@Param("productId") Long productId,
+                                 @Param("bucketNo") int bucketNo,
+                                 @Param("quantity") int quantity);
+
+    @Query("SELECT COALESCE(SUM(b.stock), 0) FROM ProductStockBucket b WHERE b.productId = :productId")
+    long sumStockByProductId(@Param("productId") Long productId);
+
+    @Query("SELECT b.productId AS productId, SUM(b.stock) AS stock FROM ProductStockBucket b WHERE b.productId IN :productIds GROUP BY b.productId")
+    List<BucketStockProjection> sumStockByProductIdIn(@Param("productIds") Collection<Long> productIds);
+
+    /**
+     * 여러 버킷에 걸친 차감용 (버킷 번호 순으로 잠가 데드락 방지)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM ProductStockBucket b WHERE b.productId = :productId ORDER BY b.bucketNo")
+    List<ProductStockBucket> findAllByProductIdWithLock(@Param("productId") Long productId);
+
+    interface BucketStockProjection {
+        Long getProductId();
+        Long getStock();
+    }
+}
@@ -1,11 +1,20 @@
 package com.ecommerce.infrastructure.repository;
 
 import com.ecommerce.domain.coupon.UserCoupon;
+import com.ecommerce.domain.coupon.exception.CouponAlreadyUsedException;
 import com.ecommerce.domain.coupon.exception.CouponErrorCode;
 import com.ecommerce.domain.coupon.exception.CouponNotFoundException;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface UserCouponRepository extends JpaRepository<UserCoupon, Long>  {
 
@@ -13,6 +22,24 @@ public interface UserCouponRepository extends JpaRepository<UserCoupon, Long>  {
         return findById(id).orElseThrow(() -> new CouponNotFoundException(CouponErrorCode.COUPON_NOT_FOUND));
     }
 
+    /**
+     * 주문 시 쿠폰 행 잠금 (묶음 주문 경로와 같은 행 락으로 보호)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT uc FROM UserCoupon uc WHERE uc.id = :id")
+    Optional<UserCoupon> findByIdWithLock(@Param("id") Long id);
+
+    default UserCoupon findByIdWithLockOrThrow(Long id) {
+        return findByIdWithLock(id).orElseThrow(() -> new CouponNotFoundException(CouponErrorCode.COUPON_NOT_FOUND));
+    }
+
+    /**
+     * 묶음 주문 처리용 (ID 순으로 잠가 데드락 방지)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT uc FROM UserCoupon uc WHERE uc.id IN :ids ORDER BY uc.id")
+    List<UserCoupon> findAllByIdWithLock(@Param("ids") Collection<Long> ids);
+
     List<UserCoupon> findByUserId(Long userId);
 
     boolean existsByUserIdAndCouponEventId(Long userId, Long couponEventId);
@@ -20,4 +47,28 @@ public interface UserCouponRepository extends JpaRepository<UserCoupon, Long>  {
     UserCoupon save(UserCoupon userCoupon);
 
     long countByUserId(Long userId);
+
+    /**
+     * 이미 발급된 사용자 ID 조회 (스트림 재전달 시 중복 INSERT 방지)
+     */
+    @Query("SELECT uc.userId FROM UserCoupon uc WHERE uc.couponEventId = :couponEventId AND uc.userId IN :userIds")
+    List<Long> findIssuedUserIds(@Param("couponEventId") Long couponEventId, @Param("userIds") Collection<Long> userIds);
+
+    /**
+     * 조건부 UPDATE로 쿠폰 사용 처리 (미사용 쿠폰일 때만 1행 변경)
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE UserCoupon uc SET uc.isUsed = true, uc.usedAt = :usedAt WHERE uc.id = :id AND uc.isUsed = false")
+    int markUsedIfUnused(@Param("id") Long id, @Param("usedAt") LocalDateTime usedAt);
+
+    /**
+     * 엔티티 변경 없이 원자적으로 쿠폰 사용 처리
+     * @throws CouponAlreadyUsedException 이미 사용된 쿠폰
+     */
+    default void useAtomically(Long userCouponId) {
+        if (markUsedIfUnused(userCouponId, LocalDateTime.now()) == 0) {
+            throw new CouponAlreadyUsedException(CouponErrorCode.COUPON_ALREADY_USED);
+        }
+    }
 }
@@ -1,13 +1,80 @@
 package com.ecommerce.infrastructure.repository;
 
+import com.ecommerce.domain.point.exception.InsufficientPointException;
+import com.ecommerce.domain.point.exception.PointErrorCode;
 import com.ecommerce.domain.user.User;
 import com.ecommerce.domain.user.exception.UserErrorCode;
 import com.ecommerce.domain.user.exception.UserNotFoundException;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
 
     default User findByIdOrThrow(Long id) {
         return findById(id).orElseThrow(() -> new UserNotFoundException(UserErrorCode.USER_NOT_FOUND));
     }
-}
\ No newline at end of file
+
+    /**
+     * 주문/충전 공용 사용자 행 잠금 (묶음 주문 경로와 같은 행 락으로 보호)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT u FROM User u WHERE u.id = :id")
+    Optional<User> findByIdWithLock(@Param("id") Long id);
+
+    default User findByIdWithLockOrThrow(Long id) {
+        return findByIdWithLock(id).orElseThrow(() -> new UserNotFoundException(UserErrorCode.USER_NOT_FOUND));
+    }
+
+    /**
+     * 묶음 주문 처리용 (ID 순으로 잠가 데드락 방지)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT u FROM User u WHERE u.id IN :ids ORDER BY u.id")
+    List<User> findAllByIdWithLock(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 조건부 UPDATE로 포인트 차감 (잔액이 충분할 때만 1행 변경)
+     * - 실행 전 변경 내용을 flush하고 실행 후 영속성 컨텍스트를 비워, 이미 로딩한 User가 이전 잔액으로 남지 않게 함
+     * @return 변경된 행 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE User u SET u.pointBalance = u.pointBalance - :amount WHERE u.id = :id AND u.pointBalance >= :amount")
+    int usePointIfSufficient(@Param("id") Long id, @Param("amount") long amount);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE User u SET u.pointBalance = u.pointBalance + :amount WHERE u.id = :id")
+    int increasePointBalance(@Param("id") Long id, @Param("amount") long amount);
+
+    /**
+     * 엔티티 로딩/락 없이 원자적으로 포인트 차감
+     * @throws UserNotFoundException 사용자가 없는 경우
+     * @throws InsufficientPointException 잔액 부족 시
+     */
+    default void usePointAtomically(Long userId, long amount) {
+        if (usePointIfSufficient(userId, amount) == 0) {
+            findByIdOrThrow(userId);
+            throw new InsufficientPointException(PointErrorCode.INSUFFICIENT_POINT);
+        }
+    }
+
+    /**
+     * 엔티티 로딩/락 없이 원자적으로 포인트 충전
+     * @throws UserNotFoundException 사용자가 없는 경우
+     */
+    default void chargePointAtomically(Long userId, long amount) {
+        if (amount <= 0) {
+            throw new IllegalArgumentException("충전 금액은 0보다 커야 합니다.");
+        }
+        if (increasePointBalance(userId, amount) == 0) {
+            throw new UserNotFoundException(UserErrorCode.USER_NOT_FOUND);
+        }
+    }
+}
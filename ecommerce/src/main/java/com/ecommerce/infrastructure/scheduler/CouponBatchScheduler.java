@@ -2,19 +2,51 @@ package com.ecommerce.infrastructure.scheduler;
 
 import com.ecommerce.domain.coupon.CouponEvent;
 import com.ecommerce.domain.coupon.UserCoupon;
+import com.ecommerce.infrastructure.redis.CouponIssueRequest;
 import com.ecommerce.infrastructure.redis.CouponRedisRepository;
 import com.ecommerce.infrastructure.repository.CouponEventRepository;
 import com.ecommerce.infrastructure.repository.UserCouponRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
+/**
+ * 쿠폰 발급 스트림 컨슈머
+ * - 노드마다 같은 컨슈머 그룹의 서로 다른 컨슈머로 참여 (요청은 한 컨슈머에게만 전달)
+ * - DB 저장 후 ACK하므로 처리 도중 노드가 죽어도 요청이 Pending으로 남음
+ * - 오래 ACK되지 않은 요청은 다른 컨슈머가 회수해서 처리
+ *
+ * 적응형 드레인
+ * - 활성 이벤트들을 제한된 스레드 풀에서 병렬 처리
+ * - 이벤트별로 읽은 배치가 가득 차거나 남은 backlog가 임계치를 넘으면 쉬지 않고 계속 처리
+ * - 모든 큐가 비어 있으면 폴링 간격을 maxIdleDelayMs까지 두 배씩 늘림
+ *
+ * 클러스터 분배
+ * - 이벤트 ID 해시 파티션을 Redis 임대로 나눠 가지며, 각 노드는 자기 파티션의 이벤트만 드레인
+ *
+ * 스트림 전환 전 대기열(List) 이관
+ * - 활성 이벤트 목록을 갱신할 때마다 자기 파티션 이벤트의 기존 대기열을 스트림으로 옮김
+ *   (배포 직전에 쌓인 요청과 롤링 배포 중 이전 버전 노드가 넣은 요청이 남지 않도록)
+ */
 @Slf4j
 @RequiredArgsConstructor
 @Component
@@ -23,55 +55,226 @@ public class CouponBatchScheduler {
     private final CouponRedisRepository couponRedisRepository;
     private final UserCouponRepository userCouponRepository;
     private final CouponEventRepository couponEventRepository;
+    private final MeterRegistry meterRegistry;
+    private final WorkLeaseManager workLeaseManager;
 
-    private static final int BATCH_SIZE = 100;
+    private static final Duration CLAIM_MIN_IDLE = Duration.ofSeconds(30);
+    private static final long MIN_IDLE_DELAY_MS = 100;
+    private static final long ACTIVE_EVENTS_REFRESH_MS = 1000;
+    private static final String LEASE_JOB = "coupon-drain";
+
+    @Value("${ecommerce.coupon.stream.consumer-name:}")
+    private String consumerName;
+
+    @Value("${ecommerce.coupon.drain.batch-size:500}")
+    private int batchSize;
+
+    @Value("${ecommerce.coupon.drain.parallelism:4}")
+    private int parallelism;
+
+    @Value("${ecommerce.coupon.drain.backlog-threshold:1000}")
+    private long backlogThreshold;
+
+    @Value("${ecommerce.coupon.drain.max-idle-delay-ms:2000}")
+    private long maxIdleDelayMs;
+
+    private ExecutorService drainExecutor;
+    private final Map<Long, AtomicLong> queueDepths = new ConcurrentHashMap<>();
+    private Counter drainedCounter;
+    private Timer batchInsertTimer;
+
+    private long idleDelayMs = MIN_IDLE_DELAY_MS;
+    private long nextRunAt;
+
+    private List<CouponEvent> activeEvents = List.of();
+    private long activeEventsLoadedAt;
+
+    @PostConstruct
+    public void init() {
+        if (consumerName == null || consumerName.isBlank()) {
+            consumerName = "coupon-worker-" + workLeaseManager.getNodeId();
+        }
+
+        AtomicInteger sequence = new AtomicInteger();
+        drainExecutor = new ThreadPoolExecutor(
+                parallelism, parallelism, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "coupon-drain-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        drainedCounter = Counter.builder("coupon.issue.drained")
+                .description("DB에 저장된 쿠폰 발급 요청 수")
+                .register(meterRegistry);
+        batchInsertTimer = Timer.builder("coupon.issue.batch.insert")
+                .description("쿠폰 발급 배치 INSERT 지연 시간")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        drainExecutor.shutdownNow();
+    }
+
+    /**
+     * 폴링 주기마다 활성 이벤트 큐를 병렬로 드레인
+     * - 직전 주기에 처리한 요청이 없으면 idleDelayMs 동안 건너뜀
+     */
+    @Scheduled(fixedDelay = MIN_IDLE_DELAY_MS)
+    public void processCouponQueue() throws InterruptedException {
+        if (System.currentTimeMillis() < nextRunAt) {
+            return;
+        }
+
+        // 이 노드가 임대한 파티션의 이벤트만 처리
+        List<Callable<Integer>> tasks = getActiveEvents().stream()
+                .filter(event -> workLeaseManager.owns(LEASE_JOB, event.getId()))
+                .map(event -> (Callable<Integer>) () -> processEventQueue(event))
+                .toList();
+
+        int drained = 0;
+        for (Future<Integer> result : drainExecutor.invokeAll(tasks)) {
+            try {
+                drained += result.get();
+            } catch (ExecutionException e) {
+                log.error("쿠폰 큐 드레인 작업 실패", e.getCause());
+            }
+        }
+
+        adjustIdleDelay(drained);
+    }
 
     /**
-     * 10초마다 큐에서 꺼내서 DB에 저장
+     * 활성 이벤트 목록 (ACTIVE_EVENTS_REFRESH_MS 동안 재사용해 폴링마다 DB 조회하지 않음)
      */
-    @Scheduled(fixedDelay = 10000)
-    public void processCouponQueue() {
-        List<CouponEvent> activeEvents = couponEventRepository.findActiveEvents(LocalDateTime.now());
+    private List<CouponEvent> getActiveEvents() {
+        long now = System.currentTimeMillis();
+        if (now - activeEventsLoadedAt >= ACTIVE_EVENTS_REFRESH_MS) {
+            activeEvents = couponEventRepository.findActiveEvents(LocalDateTime.now());
+            activeEventsLoadedAt = now;
+            migrateLegacyQueues(activeEvents);
+        }
+        return activeEvents;
+    }
 
-        for (CouponEvent event : activeEvents) {
-            processEventQueue(event);
+    private void migrateLegacyQueues(List<CouponEvent> events) {
+        for (CouponEvent event : events) {
+            if (!workLeaseManager.owns(LEASE_JOB, event.getId())) {
+                continue;
+            }
+            try {
+                long moved = couponRedisRepository.migrateLegacyQueue(event.getId(), batchSize);
+                if (moved > 0) {
+                    log.info("기존 쿠폰 대기열 스트림 이관 - eventId: {}, count: {}", event.getId(), moved);
+                }
+            } catch (Exception e) {
+                log.error("기존 쿠폰 대기열 이관 실패 - eventId: {}", event.getId(), e);
+            }
         }
     }
 
-    private void processEventQueue(CouponEvent event) {
+    /**
+     * @return 처리한 발급 요청 수
+     */
+    private int processEventQueue(CouponEvent event) {
+        int total = 0;
         try {
-            long queueSize = couponRedisRepository.getQueueSize(event.getId());
-            if (queueSize == 0) {
-                return;
+            if (!couponRedisRepository.ensureConsumerGroup(event.getId())) {
+                recordQueueDepth(event.getId(), 0);
+                return 0;
             }
 
-            log.info("큐 처리 시작 - eventId: {}, queueSize: {}", event.getId(), queueSize);
+            // 죽은 컨슈머가 남긴 요청 먼저 회수
+            List<CouponIssueRequest> stale = couponRedisRepository.claimStaleRequests(
+                    event.getId(), consumerName, CLAIM_MIN_IDLE, batchSize);
+            if (!stale.isEmpty()) {
+                issueAndAcknowledge(event, stale);
+                total += stale.size();
+            }
 
-            // 큐에서 userId 리스트 꺼내기
-            List<Long> userIds = couponRedisRepository.popFromQueue(event.getId(), BATCH_SIZE);
+            long backlog;
+            do {
+                List<CouponIssueRequest> requests =
+                        couponRedisRepository.readIssueRequests(event.getId(), consumerName, batchSize);
+                if (requests.isEmpty()) {
+                    backlog = couponRedisRepository.getQueueSize(event.getId());
+                    break;
+                }
 
-            if (userIds.isEmpty()) {
-                return;
-            }
+                issueAndAcknowledge(event, requests);
+                total += requests.size();
+
+                backlog = couponRedisRepository.getQueueSize(event.getId());
+                recordQueueDepth(event.getId(), backlog);
 
-            // UserCoupon 생성
-            List<UserCoupon> userCoupons = userIds.stream()
-                    .map(userId -> new UserCoupon(
-                            null,
-                            userId,
-                            event.getId(),
-                            event.getStartDate(),
-                            event.getEndDate()
-                    ))
-                    .collect(Collectors.toList());
+                // 배치가 가득 찼거나 backlog가 임계치를 넘으면 계속 처리
+                if (requests.size() < batchSize && backlog <= backlogThreshold) {
+                    break;
+                }
+            } while (!Thread.currentThread().isInterrupted());
 
-            // Bulk Insert
-            userCouponRepository.saveAll(userCoupons);
+            recordQueueDepth(event.getId(), backlog);
 
-            log.info("큐 처리 완료 - eventId: {}, count: {}", event.getId(), userIds.size());
+            if (total > 0) {
+                log.info("큐 처리 완료 - eventId: {}, count: {}, backlog: {}", event.getId(), total, backlog);
+            }
 
         } catch (Exception e) {
+            // ACK하지 않은 요청은 Pending으로 남아 CLAIM_MIN_IDLE 이후 재처리됨
             log.error("큐 처리 실패 - eventId: {}", event.getId(), e);
         }
+        return total;
+    }
+
+    /**
+     * 발급 요청 DB 저장 후 ACK
+     * - 재전달된 요청(저장 후 ACK 전에 죽은 경우)은 이미 발급된 사용자를 걸러 중복 INSERT 방지
+     */
+    private void issueAndAcknowledge(CouponEvent event, List<CouponIssueRequest> requests) {
+        Set<Long> userIds = requests.stream()
+                .map(CouponIssueRequest::userId)
+                .collect(Collectors.toSet());
+
+        Set<Long> alreadyIssued = new HashSet<>(userCouponRepository.findIssuedUserIds(event.getId(), userIds));
+
+        List<UserCoupon> userCoupons = userIds.stream()
+                .filter(userId -> !alreadyIssued.contains(userId))
+                .map(userId -> new UserCoupon(
+                        null,
+                        userId,
+                        event.getId(),
+                        event.getStartDate(),
+                        event.getEndDate()
+                ))
+                .collect(Collectors.toList());
+
+        // Bulk Insert (TSID 채번 + hibernate.jdbc.batch_size로 배치 INSERT)
+        batchInsertTimer.record(() -> userCouponRepository.saveAll(userCoupons));
+        drainedCounter.increment(userCoupons.size());
+
+        couponRedisRepository.acknowledge(event.getId(), requests.stream().map(CouponIssueRequest::recordId).toList());
+    }
+
+    private void recordQueueDepth(Long eventId, long depth) {
+        queueDepths.computeIfAbsent(eventId, id -> meterRegistry.gauge(
+                "coupon.issue.queue.depth",
+                Tags.of("eventId", String.valueOf(id)),
+                new AtomicLong()
+        )).set(depth);
+    }
+
+    /**
+     * 처리량이 없으면 다음 폴링까지 대기 시간을 두 배로 (최대 maxIdleDelayMs), 있으면 즉시 재개
+     */
+    private void adjustIdleDelay(int drained) {
+        if (drained > 0) {
+            idleDelayMs = MIN_IDLE_DELAY_MS;
+            nextRunAt = 0;
+            return;
+        }
+        nextRunAt = System.currentTimeMillis() + idleDelayMs;
+        idleDelayMs = Math.min(idleDelayMs * 2, maxIdleDelayMs);
     }
-}
\ No newline at end of file
+}
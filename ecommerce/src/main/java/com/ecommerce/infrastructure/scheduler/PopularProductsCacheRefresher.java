@@ -0,0 +1,65 @@
+package com.ecommerce.infrastructure.scheduler;
+
+import com.ecommerce.application.usecase.product.GetPopularProductsUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * 인기 상품 캐시 미리 갱신 (Refresh-Ahead)
+ * - 캐시 TTL보다 짧은 주기로 백그라운드에서 다시 계산해 덮어씀
+ * - 갱신 중에도 요청은 기존 값을 그대로 받으므로 만료 순간의 동시 로딩이 생기지 않음
+ * - 기본 조회(최근 3일 판매량 Top 5)와 최근 10분 안에 어느 노드에서든 조회된 기간/방식/개수 조합을 갱신
+ * - 캐시 키별로 작업 임대를 가진 한 노드만 갱신 (L2에 쓰고, 다른 노드는 L1 만료 후 L2에서 읽음)
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class PopularProductsCacheRefresher {
+
+    private static final String POPULAR_PRODUCTS_CACHE = "product:popular";
+    private static final String LEASE_JOB = "popular-products-refresh";
+
+    private final GetPopularProductsUseCase getPopularProductsUseCase;
+    private final CacheManager cacheManager;
+    private final WorkLeaseManager workLeaseManager;
+
+    @Scheduled(
+            initialDelayString = "${ecommerce.cache.popular.refresh-ms:20000}",
+            fixedDelayString = "${ecommerce.cache.popular.refresh-ms:20000}"
+    )
+    public void refresh() {
+        Cache cache = cacheManager.getCache(POPULAR_PRODUCTS_CACHE);
+        if (cache == null) {
+            return;
+        }
+
+        Set<String> keys;
+        try {
+            keys = getPopularProductsUseCase.getRequestedCacheKeys();
+        } catch (Exception e) {
+            log.warn("인기 상품 캐시 키 조회 실패, 기본 조회만 갱신", e);
+            keys = Set.of(GetPopularProductsUseCase.DEFAULT_CACHE_KEY);
+        }
+
+        int refreshed = 0;
+        for (String key : keys) {
+            if (!workLeaseManager.owns(LEASE_JOB, key)) {
+                continue;
+            }
+            try {
+                cache.put(key, getPopularProductsUseCase.load(key));
+                refreshed++;
+            } catch (Exception e) {
+                // 실패해도 기존 캐시 값은 TTL까지 유지됨
+                log.warn("인기 상품 캐시 갱신 실패 - key: {}", key, e);
+            }
+        }
+        log.debug("인기 상품 캐시 갱신 완료 - keys: {}", refreshed);
+    }
+}
@@ -0,0 +1,49 @@
+package com.ecommerce.infrastructure.scheduler;
+
+import com.ecommerce.infrastructure.redis.ProductRankingRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class RankingRollScheduler {
+
+    private static final String LEASE_JOB = "ranking-roll";
+    private static final String LEASE_KEY = "rolling-window";
+
+    private final ProductRankingRepository productRankingRepository;
+    private final WorkLeaseManager workLeaseManager;
+
+    /**
+     * 애플리케이션 시작 시 롤링 키가 오늘 기준인지 확인 (없으면 일간 키로 재구성)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rollOnStartup() {
+        roll();
+    }
+
+    /**
+     * 3일 롤링 키에서 윈도우를 벗어난 날짜의 판매량 차감
+     * - 작업 임대를 가진 한 노드만 실행
+     * - Lua 스크립트가 하루 한 번만 반영하므로 10분마다 시도 (자정 직전에 소유 노드가 죽어도 다음 소유 노드가 반영)
+     */
+    @Scheduled(cron = "0 */10 * * * *")
+    public void roll() {
+        if (!workLeaseManager.owns(LEASE_JOB, LEASE_KEY)) {
+            return;
+        }
+        try {
+            long result = productRankingRepository.rollWindow();
+            if (result > 0) {
+                log.info("3일 랭킹 롤링 완료 - result: {}", result == 1 ? "차감" : "재구성");
+            }
+        } catch (Exception e) {
+            log.error("3일 랭킹 롤링 실패", e);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.ecommerce.infrastructure.scheduler;
+
+import com.ecommerce.application.usecase.product.service.ProductCacheInvalidationService;
+import com.ecommerce.infrastructure.repository.ProductRepository;
+import com.ecommerce.infrastructure.repository.ProductRepository.ProductStockProjection;
+import com.ecommerce.infrastructure.repository.ProductStockBucketRepository;
+import com.ecommerce.infrastructure.repository.ProductStockBucketRepository.BucketStockProjection;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class StripedStockSyncScheduler {
+
+    private static final String LEASE_JOB = "striped-stock-sync";
+
+    private final ProductRepository productRepository;
+    private final ProductStockBucketRepository productStockBucketRepository;
+    private final ProductCacheInvalidationService productCacheInvalidationService;
+    private final WorkLeaseManager workLeaseManager;
+
+    /**
+     * 5초마다 분할 재고 상품의 표시용 재고(products.stock)를 버킷 합계로 갱신
+     * - 주문 경로는 products 행을 갱신하지 않으므로 이 작업만 해당 행에 쓴다
+     * - 상품은 작업 임대 파티션으로 나누어 노드마다 자기 몫만 갱신
+     * - 버킷 합계는 잠금 없는 읽기(READ COMMITTED)로 조회해 주문의 버킷 차감과 경합하지 않음
+     * - 값이 바뀐 상품만 갱신하고 캐시 무효화
+     */
+    @Scheduled(fixedDelay = 5000)
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public void syncStripedStocks() {
+        List<Long> productIds = productRepository.findAllStripedProductIds().stream()
+                .filter(productId -> workLeaseManager.owns(LEASE_JOB, productId))
+                .toList();
+        if (productIds.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Long> bucketStocks = productStockBucketRepository.sumStockByProductIdIn(productIds).stream()
+                .collect(Collectors.toMap(BucketStockProjection::getProductId, BucketStockProjection::getStock));
+
+        List<Long> changed = new ArrayList<>();
+        for (ProductStockProjection product : productRepository.findStocksByIdIn(productIds)) {
+            int stock = bucketStocks.getOrDefault(product.getProductId(), 0L).intValue();
+            if (product.getStock() != stock
+                    && productRepository.updateDisplayStock(product.getProductId(), stock) > 0) {
+                changed.add(product.getProductId());
+            }
+        }
+
+        if (!changed.isEmpty()) {
+            // 표시용 재고가 바뀐 상품만 캐시 무효화
+            productCacheInvalidationService.invalidateStocks(changed);
+            log.debug("분할 재고 동기화 완료 - 상품 수: {}", changed.size());
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.ecommerce.infrastructure.scheduler;
+
+import com.ecommerce.infrastructure.redis.SchedulerLeaseRedisRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 클러스터 스케줄 작업 분배
+ * - 작업 대상을 partitionCount개 해시 파티션으로 나누고, 파티션마다 Redis 임대로 한 노드만 소유
+ * - 하트비트마다 임대를 연장하고, 살아있는 노드 수 기준 공평 몫(ceil(파티션 수 / 노드 수))에 맞춰
+ *   부족하면 빈 파티션을 가져오고 넘치면 반납
+ * - 노드가 죽으면 임대가 TTL 후 만료되고 다른 노드가 다음 하트비트에서 가져감
+ * 비활성화 시 모든 파티션을 소유한 것으로 취급 (단일 노드 동작)
+ *
+ * 분배(rebalance)는 이 인스턴스의 모니터로 직렬화
+ * - 스케줄러 스레드 풀에서 하트비트와 여러 작업의 첫 owns() 호출이 동시에 실행될 수 있음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WorkLeaseManager {
+
+    private static final String NODE_ID = ManagementFactory.getRuntimeMXBean().getName()
+            + "-" + UUID.randomUUID().toString().substring(0, 8);
+
+    private final SchedulerLeaseRedisRepository schedulerLeaseRedisRepository;
+
+    @Value("${ecommerce.scheduler.lease.enabled:false}")
+    private boolean enabled;
+
+    @Value("${ecommerce.scheduler.lease.partition-count:16}")
+    private int partitionCount;
+
+    @Value("${ecommerce.scheduler.lease.ttl-ms:15000}")
+    private long leaseTtlMs;
+
+    /** 작업명 → 소유 중인 파티션 */
+    private final Map<String, Set<Integer>> ownedPartitions = new ConcurrentHashMap<>();
+
+    private volatile long liveNodes = 1;
+
+    public String getNodeId() {
+        return NODE_ID;
+    }
+
+    /**
+     * 이 노드가 작업 대상을 처리해야 하는지 여부
+     * - 처음 보는 작업이면 즉시 파티션 분배에 참여
+     */
+    public boolean owns(String job, Object partitionKey) {
+        if (!enabled) {
+            return true;
+        }
+
+        Set<Integer> owned = ownedPartitions.get(job);
+        if (owned == null) {
+            owned = join(job);
+        }
+        return owned.contains(partitionOf(partitionKey));
+    }
+
+    /**
+     * 작업 분배 참여 (첫 분배가 끝난 뒤에 등록해 다른 스레드가 빈 소유 목록을 보지 않도록)
+     */
+    private synchronized Set<Integer> join(String job) {
+        Set<Integer> owned = ownedPartitions.get(job);
+        if (owned != null) {
+            return owned;
+        }
+
+        owned = ConcurrentHashMap.newKeySet();
+        liveNodes = schedulerLeaseRedisRepository.heartbeat(NODE_ID, leaseTtl());
+        rebalance(job, owned);
+        ownedPartitions.put(job, owned);
+        return owned;
+    }
+
+    /**
+     * 하트비트: 노드 생존 기록 → 임대 연장 → 공평 몫에 맞춰 재분배
+     */
+    @Scheduled(fixedDelayString = "${ecommerce.scheduler.lease.heartbeat-ms:5000}")
+    public synchronized void heartbeat() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            liveNodes = schedulerLeaseRedisRepository.heartbeat(NODE_ID, leaseTtl());
+            ownedPartitions.forEach(this::rebalance);
+        } catch (Exception e) {
+            log.error("스케줄 임대 하트비트 실패 - nodeId: {}", NODE_ID, e);
+        }
+    }
+
+    @PreDestroy
+    public synchronized void releaseAll() {
+        if (!enabled) {
+            return;
+        }
+        ownedPartitions.forEach((job, owned) ->
+                owned.forEach(partition -> schedulerLeaseRedisRepository.release(job, partition, NODE_ID)));
+        ownedPartitions.clear();
+        schedulerLeaseRedisRepository.leave(NODE_ID);
+    }
+
+    private synchronized void rebalance(String job, Set<Integer> owned) {
+        Duration ttl = leaseTtl();
+
+        // 1. 보유 임대 연장 (실패하면 다른 노드에게 넘어간 것)
+        owned.removeIf(partition -> !schedulerLeaseRedisRepository.acquireOrRenew(job, partition, NODE_ID, ttl));
+
+        int fairShare = (int) Math.ceil((double) partitionCount / liveNodes);
+
+        // 2. 몫을 넘으면 반납 (새로 합류한 노드가 가져갈 수 있도록)
+        for (Integer partition : Set.copyOf(owned)) {
+            if (owned.size() <= fairShare) {
+                break;
+            }
+            schedulerLeaseRedisRepository.release(job, partition, NODE_ID);
+            owned.remove(partition);
+        }
+
+        // 3. 몫이 모자라면 빈 파티션 획득 (노드마다 시작 위치를 달리해 충돌 감소)
+        int start = Math.floorMod(NODE_ID.hashCode(), partitionCount);
+        for (int i = 0; i < partitionCount && owned.size() < fairShare; i++) {
+            int partition = (start + i) % partitionCount;
+            if (!owned.contains(partition)
+                    && schedulerLeaseRedisRepository.acquireOrRenew(job, partition, NODE_ID, ttl)) {
+                owned.add(partition);
+            }
+        }
+
+        log.debug("스케줄 파티션 분배 - job: {}, nodes: {}, owned: {}", job, liveNodes, owned);
+    }
+
+    private int partitionOf(Object partitionKey) {
+        return Math.floorMod(partitionKey.hashCode(), partitionCount);
+    }
+
+    private Duration leaseTtl() {
+        return Duration.ofMillis(leaseTtlMs);
+    }
+}
@@ -0,0 +1,78 @@
+package com.ecommerce.presentation.actuator;
+
+import com.ecommerce.application.lock.LockMetrics;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 분산 락 현황 (GET /actuator/locks, ?top=N 으로 경합 키 수 지정)
+ * - locks: prefix × LockType별 대기/보유 시간 분포(ms)와 타임아웃/인터럽트/넘겨주기/실행 중 임대 만료 수
+ * - topContendedKeys: 최근 창에서 대기 시간 합이 큰 키 (세일 중 핫 SKU 확인용)
+ * - 같은 값은 /actuator/metrics/lock.wait 등으로도 조회 가능 (Prometheus 등 외부 수집용 히스토그램 버킷 포함)
+ */
+@Component
+@Endpoint(id = "locks")
+@RequiredArgsConstructor
+public class LockMetricsEndpoint {
+
+    private static final int DEFAULT_TOP = 20;
+
+    private final LockMetrics lockMetrics;
+
+    public record TimeSummary(long count, double meanMs, double maxMs, Map<String, Double> percentilesMs) {}
+
+    public record LockSummary(
+            String prefix,
+            String type,
+            TimeSummary wait,
+            TimeSummary hold,
+            long timeouts,
+            long interruptions,
+            long handoffs,
+            long leaseExpirations
+    ) {}
+
+    public record LocksReport(List<LockSummary> locks, List<LockMetrics.ContendedKey> topContendedKeys) {}
+
+    @ReadOperation
+    public LocksReport locks(@Nullable Integer top) {
+        List<LockSummary> locks = new ArrayList<>();
+        lockMetrics.getMeters().forEach((key, meters) -> locks.add(new LockSummary(
+                key.prefix(),
+                key.type().name(),
+                summarize(meters.waitTime()),
+                summarize(meters.holdTime()),
+                (long) meters.timeout().count(),
+                (long) meters.interrupted().count(),
+                (long) meters.handoff().count(),
+                (long) meters.leaseExpired().count()
+        )));
+        locks.sort(Comparator.comparing(LockSummary::prefix).thenComparing(LockSummary::type));
+
+        int limit = top != null && top > 0 ? top : DEFAULT_TOP;
+        return new LocksReport(locks, lockMetrics.topContendedKeys(limit));
+    }
+
+    private TimeSummary summarize(Timer timer) {
+        HistogramSnapshot snapshot = timer.takeSnapshot();
+        Map<String, Double> percentiles = new LinkedHashMap<>();
+        for (ValueAtPercentile value : snapshot.percentileValues()) {
+            percentiles.put("p" + Math.round(value.percentile() * 100), value.value(TimeUnit.MILLISECONDS));
+        }
+        return new TimeSummary(
+                snapshot.count(),
+                snapshot.mean(TimeUnit.MILLISECONDS),
+                snapshot.max(TimeUnit.MILLISECONDS),
+                percentiles
+        );
+    }
+}
@@ -0,0 +1,42 @@
+package com.ecommerce.presentation.actuator;
+
+import com.ecommerce.application.usecase.product.service.StripedStockService;
+import com.ecommerce.domain.product.Product;
+import com.ecommerce.infrastructure.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * 분할 재고 운영 (세일 전 핫 상품 전환용)
+ * - GET /actuator/stockstripes/{productId}: 분할 여부, 버킷 수, 표시 재고, 버킷 합계
+ * - POST /actuator/stockstripes/{productId} {"bucketCount": 8}: 현재 재고를 버킷으로 분할
+ * 되돌릴 수 없는 쓰기 작업이므로 기본 노출 목록에 없음
+ * - 보안 설정된 관리 포트(management.server.port)에서 management.endpoints.web.exposure.include에 추가해 사용
+ */
+@Component
+@Endpoint(id = "stockstripes")
+@RequiredArgsConstructor
+public class StockStripeEndpoint {
+
+    private final StripedStockService stripedStockService;
+    private final ProductRepository productRepository;
+
+    public record StripeStatus(Long productId, int bucketCount, int displayStock, Long bucketStock) {}
+
+    @ReadOperation
+    public StripeStatus status(@Selector Long productId) {
+        Product product = productRepository.findByIdOrThrow(productId);
+        Long bucketStock = product.isStockStriped() ? stripedStockService.sumStock(productId) : null;
+        return new StripeStatus(productId, product.getStockBucketCount(), product.getStock(), bucketStock);
+    }
+
+    @WriteOperation
+    public StripeStatus stripe(@Selector Long productId, int bucketCount) {
+        stripedStockService.stripe(productId, bucketCount);
+        return status(productId);
+    }
+}
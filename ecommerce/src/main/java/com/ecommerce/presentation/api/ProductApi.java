@@ -4,6 +4,7 @@ import com.ecommerce.presentation.dto.common.ApiResponse;
 import com.ecommerce.presentation.dto.common.ErrorResponse;
 import com.ecommerce.presentation.dto.product.PopularProductResponse;
 import com.ecommerce.presentation.dto.product.ProductListResponse;
+import com.ecommerce.presentation.dto.product.ProductRankingPageResponse;
 import com.ecommerce.presentation.dto.product.ProductResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -11,8 +12,12 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
 
 @Tag(name = "상품 API", description = "상품 조회 관련 API")
 @RequestMapping("/api/v1/products")
@@ -53,7 +58,7 @@ public interface ProductApi {
             @PathVariable Long productId
     );
 
-    @Operation(summary = "인기 상품 조회", description = "최근 3일간 판매량 기준 상위 5개 상품을 조회합니다.")
+    @Operation(summary = "인기 상품 조회", description = "기간/방식별 상위 상품을 조회합니다. 기본값은 최근 3일간 판매량 기준 상위 5개입니다.")
     @ApiResponses({
         @io.swagger.v3.oas.annotations.responses.ApiResponse(
             responseCode = "200",
@@ -62,5 +67,58 @@ public interface ProductApi {
         )
     })
     @GetMapping("/popular")
-    ResponseEntity<ApiResponse<PopularProductResponse>> getPopularProducts();
+    ResponseEntity<ApiResponse<PopularProductResponse>> getPopularProducts(
+            @Parameter(description = "집계 기간 (1h, 24h, 3d, 7d)", example = "3d")
+            @RequestParam(defaultValue = "3d") String window,
+            @Parameter(description = "산정 방식 (sales: 판매량 합계, trending: 최근 판매 가중 감쇠 점수)", example = "sales")
+            @RequestParam(defaultValue = "sales") String mode,
+            @Parameter(description = "조회 개수 (1~100)", example = "5")
+            @RequestParam(defaultValue = "5") int limit
+    );
+
+    @Operation(summary = "상품 랭킹 조회", description = "기간/방식별 상품 랭킹을 커서 기반으로 페이지 조회합니다. 최대 1000위까지 조회할 수 있습니다.")
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "조회 성공",
+            content = @Content(schema = @Schema(implementation = ProductRankingPageResponse.class))
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "400",
+            description = "잘못된 기간/방식/커서/페이지 크기",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        )
+    })
+    @GetMapping("/ranking")
+    ResponseEntity<ApiResponse<ProductRankingPageResponse>> getProductRanking(
+            @Parameter(description = "집계 기간 (1h, 24h, 3d, 7d)", example = "3d")
+            @RequestParam(defaultValue = "3d") String window,
+            @Parameter(description = "산정 방식 (sales, trending)", example = "sales")
+            @RequestParam(defaultValue = "sales") String mode,
+            @Parameter(description = "커서 (이전 페이지 응답의 nextCursor, 첫 페이지는 0)", example = "0")
+            @RequestParam(defaultValue = "0") long cursor,
+            @Parameter(description = "페이지 크기 (1~100)", example = "20")
+            @RequestParam(defaultValue = "20") int size
+    );
+
+    @Operation(summary = "상품 실시간 스트림 구독",
+            description = "Server-Sent Events로 랭킹 변경(ranking)과 관심 상품 재고 변경(stock) 이벤트를 받습니다. 폴링 대신 사용합니다.")
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "구독 성공 (text/event-stream)"
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "400",
+            description = "구독 대상 없음 또는 상품 수 초과 (최대 50개)",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        )
+    })
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    SseEmitter streamProducts(
+            @Parameter(description = "재고 변경을 받을 상품 ID 목록", example = "1,2,3")
+            @RequestParam(required = false) List<Long> productIds,
+            @Parameter(description = "랭킹 변경 이벤트 수신 여부", example = "true")
+            @RequestParam(defaultValue = "true") boolean ranking
+    );
 }
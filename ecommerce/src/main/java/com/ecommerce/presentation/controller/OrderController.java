@@ -3,6 +3,7 @@ package com.ecommerce.presentation.controller;
 import com.ecommerce.application.usecase.order.CreateOrderUseCase;
 import com.ecommerce.application.usecase.order.GetOrderUseCase;
 import com.ecommerce.application.usecase.order.GetOrdersUseCase;
+import com.ecommerce.application.usecase.order.service.OrderGroupCommitEngine;
 import com.ecommerce.presentation.api.OrderApi;
 import com.ecommerce.presentation.dto.common.ApiResponse;
 import com.ecommerce.presentation.dto.order.CreateOrderRequest;
@@ -24,10 +25,13 @@ public class OrderController implements OrderApi {
     private final CreateOrderUseCase createOrderUseCase;
     private final GetOrderUseCase getOrderUseCase;
     private final GetOrdersUseCase getOrdersUseCase;
+    private final OrderGroupCommitEngine orderGroupCommitEngine;
 
     @Override
     public ResponseEntity<ApiResponse<OrderResponse>> createOrder(CreateOrderRequest request) {
-        OrderResponse response = createOrderUseCase.execute(request.userId(), request.couponId());
+        OrderResponse response = orderGroupCommitEngine.isEnabled()
+                ? orderGroupCommitEngine.execute(request.userId(), request.couponId())
+                : createOrderUseCase.execute(request.userId(), request.couponId());
         return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.of(response));
     }
 
@@ -1,16 +1,24 @@
 package com.ecommerce.presentation.controller;
 
 import com.ecommerce.application.usecase.product.GetPopularProductsUseCase;
+import com.ecommerce.application.usecase.product.GetProductRankingUseCase;
 import com.ecommerce.application.usecase.product.GetProductUseCase;
 import com.ecommerce.application.usecase.product.GetProductsUseCase;
 import com.ecommerce.presentation.api.ProductApi;
 import com.ecommerce.presentation.dto.common.ApiResponse;
 import com.ecommerce.presentation.dto.product.PopularProductResponse;
 import com.ecommerce.presentation.dto.product.ProductListResponse;
+import com.ecommerce.presentation.dto.product.ProductRankingPageResponse;
 import com.ecommerce.presentation.dto.product.ProductResponse;
+import com.ecommerce.presentation.dto.product.RankingMode;
+import com.ecommerce.presentation.dto.product.RankingWindow;
+import com.ecommerce.presentation.sse.ProductEventHub;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
 
 /**
  * 상품 API Controller
@@ -23,6 +31,8 @@ public class ProductController implements ProductApi {
     private final GetProductsUseCase getProductsUseCase;
     private final GetProductUseCase getProductUseCase;
     private final GetPopularProductsUseCase getPopularProductsUseCase;
+    private final GetProductRankingUseCase getProductRankingUseCase;
+    private final ProductEventHub productEventHub;
 
     @Override
     public ResponseEntity<ApiResponse<ProductListResponse>> getProducts(int page, int size) {
@@ -37,8 +47,22 @@ public class ProductController implements ProductApi {
     }
 
     @Override
-    public ResponseEntity<ApiResponse<PopularProductResponse>> getPopularProducts() {
-        PopularProductResponse response = getPopularProductsUseCase.execute();
+    public ResponseEntity<ApiResponse<PopularProductResponse>> getPopularProducts(String window, String mode, int limit) {
+        PopularProductResponse response = getPopularProductsUseCase.execute(
+                RankingWindow.from(window), RankingMode.from(mode), limit);
+        return ResponseEntity.ok(ApiResponse.of(response));
+    }
+
+    @Override
+    public ResponseEntity<ApiResponse<ProductRankingPageResponse>> getProductRanking(String window, String mode,
+                                                                                   long cursor, int size) {
+        ProductRankingPageResponse response = getProductRankingUseCase.execute(
+                RankingWindow.from(window), RankingMode.from(mode), cursor, size);
         return ResponseEntity.ok(ApiResponse.of(response));
     }
+
+    @Override
+    public SseEmitter streamProducts(List<Long> productIds, boolean ranking) {
+        return productEventHub.subscribe(productIds, ranking);
+    }
 }
@@ -1,6 +1,8 @@
 package com.ecommerce.presentation.dto.cart;
 
 import com.ecommerce.domain.product.Product;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.util.List;
@@ -24,7 +26,8 @@ public record CartResponse (
     ){
         @Schema(description = "장바구니 상품 정보")
         public record CartItem (
-            @Schema(description = "장바구니 항목 ID", example = "1")
+            @Schema(type = "string", description = "장바구니 항목 ID", example = "1")
+            @JsonSerialize(using = ToStringSerializer.class)
             Long cartItemId,
 
             @Schema(description = "상품 ID", example = "1")
@@ -2,12 +2,15 @@ package com.ecommerce.presentation.dto.cart;
 
 import com.ecommerce.domain.cart.CartItem;
 import com.ecommerce.domain.product.Product;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 @Schema(description = "장바구니 상품 수량 변경 응답")
 public record UpdateCartItemResponse (
 
-    @Schema(description = "장바구니 항목 ID", example = "1")
+    @Schema(type = "string", description = "장바구니 항목 ID", example = "1")
+    @JsonSerialize(using = ToStringSerializer.class)
     Long cartItemId,
 
     @Schema(description = "상품 ID", example = "1")
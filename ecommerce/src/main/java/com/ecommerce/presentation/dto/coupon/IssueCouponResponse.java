@@ -4,6 +4,8 @@ import com.ecommerce.domain.coupon.CouponEvent;
 import com.ecommerce.domain.coupon.CouponStatus;
 import com.ecommerce.domain.coupon.DiscountType;
 import com.ecommerce.domain.coupon.UserCoupon;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.time.LocalDateTime;
@@ -11,7 +13,8 @@ import java.time.LocalDateTime;
 @Schema(description = "쿠폰 응답")
 public record IssueCouponResponse (
 
-    @Schema(description = "ID", example = "123")
+    @Schema(type = "string", description = "ID", example = "123")
+    @JsonSerialize(using = ToStringSerializer.class)
     Long id,
 
     @Schema(description = "쿠폰 이벤트 ID", example = "10")
@@ -3,6 +3,8 @@ package com.ecommerce.presentation.dto.coupon;
 import com.ecommerce.domain.coupon.CouponEvent;
 import com.ecommerce.domain.coupon.CouponStatus;
 import com.ecommerce.domain.coupon.DiscountType;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.time.LocalDateTime;
@@ -22,7 +24,8 @@ public record UserCouponListResponse (
     @Schema(description = "사용자 쿠폰")
     public record UserCoupon (
 
-        @Schema(description = "id", example = "123")
+        @Schema(type = "string", description = "id", example = "123")
+        @JsonSerialize(using = ToStringSerializer.class)
         Long id,
 
         @Schema(description = "쿠폰 이벤트 ID", example = "10")
@@ -2,6 +2,8 @@ package com.ecommerce.presentation.dto.order;
 
 import com.ecommerce.domain.order.Order;
 import com.ecommerce.presentation.dto.common.PaginationInfo;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.time.LocalDateTime;
@@ -19,7 +21,8 @@ public record OrderListResponse (
 ) {
     @Schema(description = "주문 요약 정보")
     public record OrderSummary (
-        @Schema(description = "주문 ID", example = "12345")
+        @Schema(type = "string", description = "주문 ID", example = "12345")
+        @JsonSerialize(using = ToStringSerializer.class)
         Long orderId,
 
         @Schema(description = "주문 상태", example = "COMPLETED")
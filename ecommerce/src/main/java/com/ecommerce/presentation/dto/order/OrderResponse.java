@@ -1,6 +1,8 @@
 package com.ecommerce.presentation.dto.order;
 
 import com.ecommerce.domain.order.Order;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.time.LocalDateTime;
@@ -10,7 +12,8 @@ import java.util.stream.Collectors;
 @Schema(description = "주문 상세 응답")
 public record OrderResponse (
 
-    @Schema(description = "주문 ID", example = "12345")
+    @Schema(type = "string", description = "주문 ID", example = "12345")
+    @JsonSerialize(using = ToStringSerializer.class)
     Long orderId,
 
     @Schema(description = "사용자 ID", example = "1")
@@ -45,7 +48,8 @@ public record OrderResponse (
 ) {    
     @Schema(description = "주문 상품 정보")
     public record OrderItem (
-        @Schema(description = "주문 상품 ID", example = "1")
+        @Schema(type = "string", description = "주문 상품 ID", example = "1")
+        @JsonSerialize(using = ToStringSerializer.class)
         Long orderItemId,
 
         @Schema(description = "상품 ID", example = "1")
@@ -65,7 +69,8 @@ public record OrderResponse (
     ) {}
     @Schema(description = "사용된 쿠폰 정보")
     public record CouponUsed (
-        @Schema(description = "쿠폰 ID", example = "5")
+        @Schema(type = "string", description = "쿠폰 ID", example = "5")
+        @JsonSerialize(using = ToStringSerializer.class)
         Long couponId,
 
         @Schema(description = "쿠폰명", example = "신규 가입 쿠폰")
@@ -77,7 +82,8 @@ public record OrderResponse (
     
     @Schema(description = "결제 정보")
     public record PaymentInfo (
-        @Schema(description = "결제 ID", example = "678")
+        @Schema(type = "string", description = "결제 ID", example = "678")
+        @JsonSerialize(using = ToStringSerializer.class)
         Long paymentId,
 
         @Schema(description = "결제 수단", example = "BALANCE")
@@ -2,15 +2,19 @@ package com.ecommerce.presentation.dto.point;
 
 import com.ecommerce.domain.point.PointHistory;
 import com.ecommerce.domain.point.TransactionType;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 
 import java.time.LocalDateTime;
 
 public record PointHistoryResponse (
+    @JsonSerialize(using = ToStringSerializer.class)
     Long id,
     Long userId,
     long pointAmount,
     TransactionType transactionType,
     long balanceAfter,
+    @JsonSerialize(using = ToStringSerializer.class)
     Long orderId,
     String description,
     LocalDateTime createdAt
@@ -25,7 +25,7 @@ public record PopularProductResponse (
         @Schema(description = "가격", example = "1500000")
         Long price,
 
-        @Schema(description = "재고", example = "50")
+        @Schema(description = "재고 (응답 시점의 실시간 재고, 캐시에는 저장하지 않음)", example = "50")
         Integer stock,
 
         @Schema(description = "판매 수량", example = "150")
@@ -42,6 +42,9 @@ public record PopularProductResponse (
         @Schema(description = "종료일", example = "2025-10-29T00:00:00")
         LocalDateTime endDate
     ) {}
+    /**
+     * 재고 없이 랭킹만 담은 응답 (캐시 저장용 - 재고가 바뀌어도 무효화할 필요 없음)
+     */
     public static PopularProductResponse from(List<Product> products, Map<Long, Integer> salesCountMap, LocalDateTime threeDaysAgo) {
         LocalDateTime now = LocalDateTime.now();
         SalesPeriod period = new SalesPeriod(threeDaysAgo, now);
@@ -51,7 +54,7 @@ public record PopularProductResponse (
                 product.getId(),
                 product.getName(),
                 product.getPrice(),
-                product.getStock(),
+                null,
                 salesCountMap.getOrDefault(product.getId(), 0),
                 period
             ))
@@ -59,4 +62,27 @@ public record PopularProductResponse (
 
         return new PopularProductResponse(popularProducts);
     }
+
+    public List<Long> productIds() {
+        return products.stream().map(PopularProduct::id).toList();
+    }
+
+    /**
+     * 실시간 재고를 붙인 응답 (재고를 찾지 못한 상품은 삭제된 것으로 보고 제외)
+     */
+    public PopularProductResponse withStocks(Map<Long, Integer> stocks) {
+        List<PopularProduct> popularProducts = products.stream()
+            .filter(product -> stocks.containsKey(product.id()))
+            .map(product -> new PopularProduct(
+                product.id(),
+                product.name(),
+                product.price(),
+                stocks.get(product.id()),
+                product.salesCount(),
+                product.salesPeriod()
+            ))
+            .collect(Collectors.toList());
+
+        return new PopularProductResponse(popularProducts);
+    }
 }
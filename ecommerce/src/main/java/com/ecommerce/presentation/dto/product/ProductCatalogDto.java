@@ -0,0 +1,28 @@
+package com.ecommerce.presentation.dto.product;
+
+import com.ecommerce.domain.product.Product;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상품 카탈로그 정보 (재고 제외, 자주 바뀌지 않는 필드만 - product:catalog 캐시 값)
+ */
+public record ProductCatalogDto(
+        Long id,
+        String name,
+        String description,
+        Long price,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+    public static ProductCatalogDto from(Product product) {
+        return new ProductCatalogDto(
+                product.getId(),
+                product.getName(),
+                product.getDescription(),
+                product.getPrice(),
+                product.getCreatedAt(),
+                product.getUpdatedAt()
+        );
+    }
+}
@@ -0,0 +1,68 @@
+package com.ecommerce.presentation.dto.product;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Schema(description = "상품 랭킹 페이지 응답")
+public record ProductRankingPageResponse (
+
+    @Schema(description = "집계 기간", example = "3d")
+    String window,
+
+    @Schema(description = "산정 방식", example = "sales")
+    String mode,
+
+    @Schema(description = "집계 기간")
+    PopularProductResponse.SalesPeriod salesPeriod,
+
+    @Schema(description = "랭킹 상품 목록 (순위 순)")
+    List<RankedProduct> products,
+
+    @Schema(description = "다음 페이지 커서 (이 페이지 마지막 순위, 다음 페이지가 없으면 null)", example = "20")
+    Long nextCursor
+) {
+    @Schema(description = "랭킹 상품 정보")
+    public record RankedProduct (
+        @Schema(description = "순위 (1부터 시작)", example = "1")
+        Long rank,
+
+        @Schema(description = "상품 ID", example = "1")
+        Long id,
+
+        @Schema(description = "상품명", example = "노트북")
+        String name,
+
+        @Schema(description = "가격", example = "1500000")
+        Long price,
+
+        @Schema(description = "재고", example = "50")
+        Integer stock,
+
+        @Schema(description = "판매 수량 (trending 모드는 감쇠 점수)", example = "150")
+        Integer salesCount
+    ) {
+        public static RankedProduct of(ProductRankingDto ranking, ProductResponse product) {
+            return new RankedProduct(
+                ranking.rank(),
+                product.id(),
+                product.name(),
+                product.price(),
+                product.stock(),
+                ranking.totalQuantity()
+            );
+        }
+    }
+
+    public static ProductRankingPageResponse of(RankingWindow window, RankingMode mode, LocalDateTime periodStart,
+                                                List<RankedProduct> products, Long nextCursor) {
+        return new ProductRankingPageResponse(
+            window.getCode(),
+            mode.getCode(),
+            new PopularProductResponse.SalesPeriod(periodStart, LocalDateTime.now()),
+            products,
+            nextCursor
+        );
+    }
+}
@@ -40,4 +40,19 @@ public record ProductResponse (
             product.getUpdatedAt()
         );
     }
+
+    /**
+     * 캐시된 카탈로그 정보와 실시간 재고를 조합
+     */
+    public static ProductResponse of(ProductCatalogDto catalog, Integer stock) {
+        return new ProductResponse(
+            catalog.id(),
+            catalog.name(),
+            catalog.description(),
+            catalog.price(),
+            stock,
+            catalog.createdAt(),
+            catalog.updatedAt()
+        );
+    }
 }
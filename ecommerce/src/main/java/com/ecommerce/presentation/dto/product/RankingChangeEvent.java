@@ -0,0 +1,18 @@
+package com.ecommerce.presentation.dto.product;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "랭킹 변경 이벤트 (SSE: ranking)")
+public record RankingChangeEvent (
+
+    @Schema(description = "집계 기간", example = "3d")
+    String window,
+
+    @Schema(description = "산정 방식", example = "sales")
+    String mode,
+
+    @Schema(description = "순위 목록 (productId, totalQuantity, rank)")
+    List<ProductRankingDto> rankings
+) {}
@@ -0,0 +1,28 @@
+package com.ecommerce.presentation.dto.product;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+
+/**
+ * 랭킹 산정 방식
+ * - SALES: 기간 내 판매량 합계
+ * - TRENDING: 시간에 따라 지수 감쇠되는 판매량 (최근 판매일수록 가중치가 큼, 기간 무관)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum RankingMode {
+
+    SALES("sales"),
+    TRENDING("trending");
+
+    private final String code;
+
+    public static RankingMode from(String code) {
+        return Arrays.stream(values())
+                .filter(mode -> mode.code.equalsIgnoreCase(code))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("지원하지 않는 랭킹 방식입니다: " + code));
+    }
+}
@@ -0,0 +1,30 @@
+package com.ecommerce.presentation.dto.product;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * 랭킹 집계 기간
+ */
+@Getter
+@RequiredArgsConstructor
+public enum RankingWindow {
+
+    HOUR_1("1h", Duration.ofHours(1)),
+    DAY_1("24h", Duration.ofDays(1)),
+    DAY_3("3d", Duration.ofDays(3)),
+    DAY_7("7d", Duration.ofDays(7));
+
+    private final String code;
+    private final Duration duration;
+
+    public static RankingWindow from(String code) {
+        return Arrays.stream(values())
+                .filter(window -> window.code.equalsIgnoreCase(code))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("지원하지 않는 랭킹 기간입니다: " + code));
+    }
+}
@@ -0,0 +1,16 @@
+package com.ecommerce.presentation.dto.product;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "재고 변경 이벤트 (SSE: stock)")
+public record StockChangeEvent (
+
+    @Schema(description = "상품 ID", example = "1")
+    Long productId,
+
+    @Schema(description = "현재 재고", example = "48")
+    Integer stock,
+
+    @Schema(description = "직전 푸시 대비 변화량 (첫 푸시는 0)", example = "-2")
+    Integer delta
+) {}
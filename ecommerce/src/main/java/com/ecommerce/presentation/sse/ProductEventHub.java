@@ -0,0 +1,327 @@
+package com.ecommerce.presentation.sse;
+
+import com.ecommerce.application.usecase.product.service.ProductCacheInvalidationService;
+import com.ecommerce.application.usecase.product.service.ProductStockCacheService;
+import com.ecommerce.application.usecase.product.service.RankingQueryService;
+import com.ecommerce.infrastructure.cache.CacheInvalidationBus;
+import com.ecommerce.presentation.dto.product.ProductRankingDto;
+import com.ecommerce.presentation.dto.product.RankingChangeEvent;
+import com.ecommerce.presentation.dto.product.RankingMode;
+import com.ecommerce.presentation.dto.product.RankingWindow;
+import com.ecommerce.presentation.dto.product.StockChangeEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 상품 실시간 푸시 허브 (노드당 하나, Server-Sent Events)
+ * - 구독자는 랭킹 변경과 관심 상품 재고 변경을 하나의 스트림으로 받음
+ * - 재고: 재고 캐시 무효화(커밋 이후, 전 노드 전파)를 변경 신호로 받아 구독 중인 상품만 모아 두고,
+ *   pushIntervalMs마다 재고를 DB에서 한 번 조회해 구독자 전체에 전송
+ *   (알림은 캐시 삭제 직전에 오므로 캐시를 읽으면 이전 값을 보고 변경을 놓칠 수 있음)
+ * - 랭킹: 랭킹 구독자가 있을 때만 pushIntervalMs마다 한 번 조회해 바뀐 경우에만 전송
+ * - 조회 횟수는 노드 수 × 주기에 비례하고 구독자 수와 무관, 이벤트 JSON도 이벤트당 한 번만 직렬화
+ * - 전송은 전용 스레드 풀에서 구독자별 큐 순서대로 (느린 클라이언트가 공용 스케줄러 스레드를 잡지 않도록)
+ *   큐가 maxPendingEvents를 넘는 구독자는 끊음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductEventHub {
+
+    public static final int MAX_PRODUCTS_PER_SUBSCRIPTION = 50;
+
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final ProductStockCacheService productStockCacheService;
+    private final RankingQueryService rankingQueryService;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${ecommerce.sse.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    @Value("${ecommerce.sse.ranking-size:10}")
+    private int rankingSize;
+
+    @Value("${ecommerce.sse.send-threads:4}")
+    private int sendThreads;
+
+    @Value("${ecommerce.sse.max-pending-events:100}")
+    private int maxPendingEvents;
+
+    private ExecutorService sendExecutor;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final Map<Long, Set<Subscriber>> productSubscribers = new ConcurrentHashMap<>();
+    private final Set<Long> dirtyProducts = ConcurrentHashMap.newKeySet();
+    private final Map<Long, Integer> lastStocks = new ConcurrentHashMap<>();
+    private volatile List<ProductRankingDto> lastRankings;
+
+    /**
+     * 직렬화된 이벤트 (SseEventBuilder는 한 번만 build 가능하므로 전송마다 새로 만듦, name이 없으면 heartbeat 주석)
+     */
+    private record PreparedEvent(String name, String json) {
+        private SseEmitter.SseEventBuilder toBuilder() {
+            if (name == null) {
+                return SseEmitter.event().comment("ping");
+            }
+            return SseEmitter.event().name(name).data(json, MediaType.APPLICATION_JSON);
+        }
+    }
+
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final Set<Long> productIds;
+        private final boolean ranking;
+        private final BlockingQueue<PreparedEvent> pending;
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Subscriber(SseEmitter emitter, Set<Long> productIds, boolean ranking, int maxPendingEvents) {
+            this.emitter = emitter;
+            this.productIds = productIds;
+            this.ranking = ranking;
+            this.pending = new LinkedBlockingQueue<>(maxPendingEvents);
+        }
+    }
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger sequence = new AtomicInteger();
+        sendExecutor = Executors.newFixedThreadPool(sendThreads, runnable -> {
+            Thread thread = new Thread(runnable, "sse-send-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        cacheInvalidationBus.addListener((cacheName, key) -> {
+            if (!ProductCacheInvalidationService.PRODUCT_STOCK_CACHE.equals(cacheName)) {
+                return;
+            }
+            if (key == null) {
+                dirtyProducts.addAll(productSubscribers.keySet());
+            } else if (productSubscribers.containsKey(key)) {
+                dirtyProducts.add(key);
+            }
+        });
+
+        Gauge.builder("product.stream.subscribers", subscribers, Set::size)
+                .description("상품 실시간 스트림 구독자 수")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        sendExecutor.shutdownNow();
+    }
+
+    /**
+     * 구독 등록 후 현재 상태(랭킹, 관심 상품 재고)를 먼저 전송
+     */
+    public SseEmitter subscribe(Collection<Long> productIds, boolean ranking) {
+        Set<Long> ids = productIds == null ? Set.of() : Set.copyOf(productIds);
+        if (ids.size() > MAX_PRODUCTS_PER_SUBSCRIPTION) {
+            throw new IllegalArgumentException("한 번에 구독할 수 있는 상품은 " + MAX_PRODUCTS_PER_SUBSCRIPTION + "개 이하입니다.");
+        }
+        if (ids.isEmpty() && !ranking) {
+            throw new IllegalArgumentException("구독할 상품 또는 랭킹을 지정해야 합니다.");
+        }
+
+        Subscriber subscriber = new Subscriber(new SseEmitter(timeoutMs), ids, ranking, maxPendingEvents);
+        subscriber.emitter.onCompletion(() -> unsubscribe(subscriber));
+        subscriber.emitter.onTimeout(() -> unsubscribe(subscriber));
+        subscriber.emitter.onError(e -> unsubscribe(subscriber));
+
+        subscribers.add(subscriber);
+        ids.forEach(productId ->
+                productSubscribers.computeIfAbsent(productId, id -> ConcurrentHashMap.newKeySet()).add(subscriber));
+
+        sendInitialState(subscriber);
+        return subscriber.emitter;
+    }
+
+    /**
+     * 변경된 재고/랭킹 전송
+     */
+    @Scheduled(fixedDelayString = "${ecommerce.sse.push-interval-ms:1000}")
+    public void push() {
+        if (subscribers.isEmpty()) {
+            dirtyProducts.clear();
+            return;
+        }
+        pushStocks();
+        pushRanking();
+    }
+
+    /**
+     * 끊긴 연결 정리 (프록시 유휴 타임아웃 방지용 주석 이벤트)
+     */
+    @Scheduled(fixedDelayString = "${ecommerce.sse.heartbeat-ms:15000}")
+    public void heartbeat() {
+        PreparedEvent ping = new PreparedEvent(null, null);
+        subscribers.forEach(subscriber -> send(subscriber, ping));
+    }
+
+    private void pushStocks() {
+        if (dirtyProducts.isEmpty()) {
+            return;
+        }
+        List<Long> changed = new ArrayList<>(dirtyProducts);
+        dirtyProducts.removeAll(changed);
+
+        Map<Long, Integer> stocks = productStockCacheService.loadStocks(changed);
+        for (Map.Entry<Long, Integer> entry : stocks.entrySet()) {
+            Long productId = entry.getKey();
+            Integer stock = entry.getValue();
+            Set<Subscriber> watchers = productSubscribers.get(productId);
+            if (watchers == null || watchers.isEmpty()) {
+                continue;
+            }
+
+            Integer previous = lastStocks.put(productId, stock);
+            if (Objects.equals(previous, stock)) {
+                continue;
+            }
+            int delta = previous == null ? 0 : stock - previous;
+
+            PreparedEvent event = event("stock", new StockChangeEvent(productId, stock, delta));
+            if (event != null) {
+                watchers.forEach(subscriber -> send(subscriber, event));
+            }
+        }
+    }
+
+    private void pushRanking() {
+        if (subscribers.stream().noneMatch(subscriber -> subscriber.ranking)) {
+            lastRankings = null;
+            return;
+        }
+
+        List<ProductRankingDto> rankings = rankingQueryService.getTopRankings(RankingWindow.DAY_3, RankingMode.SALES, rankingSize);
+        if (rankings.equals(lastRankings)) {
+            return;
+        }
+        lastRankings = rankings;
+
+        PreparedEvent event = rankingEvent(rankings);
+        if (event != null) {
+            subscribers.stream()
+                    .filter(subscriber -> subscriber.ranking)
+                    .forEach(subscriber -> send(subscriber, event));
+        }
+    }
+
+    private void sendInitialState(Subscriber subscriber) {
+        if (subscriber.ranking) {
+            List<ProductRankingDto> rankings = lastRankings != null
+                    ? lastRankings
+                    : rankingQueryService.getTopRankings(RankingWindow.DAY_3, RankingMode.SALES, rankingSize);
+            PreparedEvent event = rankingEvent(rankings);
+            if (event != null) {
+                send(subscriber, event);
+            }
+        }
+
+        if (!subscriber.productIds.isEmpty()) {
+            productStockCacheService.getStocks(subscriber.productIds).forEach((productId, stock) -> {
+                lastStocks.putIfAbsent(productId, stock);
+                PreparedEvent event = event("stock", new StockChangeEvent(productId, stock, 0));
+                if (event != null) {
+                    send(subscriber, event);
+                }
+            });
+        }
+    }
+
+    private PreparedEvent rankingEvent(List<ProductRankingDto> rankings) {
+        return event("ranking", new RankingChangeEvent(
+                RankingWindow.DAY_3.getCode(), RankingMode.SALES.getCode(), rankings));
+    }
+
+    /**
+     * 이벤트 데이터는 여기서 한 번만 JSON으로 직렬화해 모든 구독자에게 같은 문자열로 전송
+     */
+    private PreparedEvent event(String name, Object data) {
+        try {
+            return new PreparedEvent(name, objectMapper.writeValueAsString(data));
+        } catch (IOException e) {
+            log.error("SSE 이벤트 직렬화 실패 - event: {}", name, e);
+            return null;
+        }
+    }
+
+    /**
+     * 구독자 큐에 넣고, 전송 중인 작업이 없으면 전송 스레드에 드레인 요청 (구독자당 동시에 하나만 실행되어 순서 유지)
+     */
+    private void send(Subscriber subscriber, PreparedEvent event) {
+        if (!subscriber.pending.offer(event)) {
+            log.debug("SSE 전송 대기 초과, 구독 해제 - pending: {}", subscriber.pending.size());
+            unsubscribe(subscriber);
+            subscriber.emitter.complete();
+            return;
+        }
+        scheduleDrain(subscriber);
+    }
+
+    private void scheduleDrain(Subscriber subscriber) {
+        if (!subscriber.draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            sendExecutor.execute(() -> drain(subscriber));
+        } catch (RejectedExecutionException e) {
+            subscriber.draining.set(false);
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            PreparedEvent event;
+            while ((event = subscriber.pending.poll()) != null) {
+                subscriber.emitter.send(event.toBuilder());
+            }
+        } catch (Exception e) {
+            log.debug("SSE 전송 실패, 구독 해제 - {}", e.getMessage());
+            subscriber.pending.clear();
+            unsubscribe(subscriber);
+            return;
+        }
+
+        subscriber.draining.set(false);
+        // 마지막 poll 이후 draining 해제 전에 들어온 이벤트
+        if (!subscriber.pending.isEmpty()) {
+            scheduleDrain(subscriber);
+        }
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        if (!subscribers.remove(subscriber)) {
+            return;
+        }
+        for (Long productId : subscriber.productIds) {
+            productSubscribers.computeIfPresent(productId, (id, watchers) -> {
+                watchers.remove(subscriber);
+                if (watchers.isEmpty()) {
+                    lastStocks.remove(id);
+                    return null;
+                }
+                return watchers;
+            });
+        }
+    }
+}
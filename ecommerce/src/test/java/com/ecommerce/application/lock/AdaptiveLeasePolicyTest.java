@@ -0,0 +1,92 @@
+package com.ecommerce.application.lock;
+
+import com.ecommerce.application.lock.constant.LockConstants;
+import com.ecommerce.application.lock.constant.LockType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.withinPercentage;
+
+@DisplayName("보유 시간 기반 임대 시간 정책 테스트")
+class AdaptiveLeasePolicyTest {
+
+    private static final String ORDER_KEY = LockConstants.LOCK_PREFIX + "order:1";
+    private static final String STOCK_KEY = LockConstants.LOCK_PREFIX + "product:stock:2";
+    private static final LockType TYPE = LockType.PUB_SUB;
+    private static final long FALLBACK_MS = 5_000;
+
+    private LockMetrics lockMetrics;
+    private AdaptiveLeasePolicy policy;
+
+    @BeforeEach
+    void setUp() {
+        lockMetrics = new LockMetrics(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(lockMetrics, "topKeysCapacity", 100);
+        lockMetrics.init();
+
+        policy = new AdaptiveLeasePolicy(lockMetrics);
+        ReflectionTestUtils.setField(policy, "multiplier", 3.0);
+        ReflectionTestUtils.setField(policy, "minMs", 1_000L);
+        ReflectionTestUtils.setField(policy, "maxMs", 30_000L);
+        ReflectionTestUtils.setField(policy, "minSamples", 100L);
+    }
+
+    @Test
+    @DisplayName("표본이 min-samples보다 적으면 어노테이션의 leaseTime 사용")
+    void leaseFor_fallsBackWithFewSamples() {
+        recordHolds(ORDER_KEY, 99, 2_000);
+
+        policy.refresh();
+
+        assertThat(policy.leaseFor(List.of(ORDER_KEY), TYPE, FALLBACK_MS)).isEqualTo(FALLBACK_MS);
+    }
+
+    @Test
+    @DisplayName("p99 × multiplier")
+    void leaseFor_multipliesP99() {
+        recordHolds(ORDER_KEY, 200, 2_000);
+
+        policy.refresh();
+
+        assertThat(policy.leaseFor(List.of(ORDER_KEY), TYPE, FALLBACK_MS))
+                .isCloseTo(6_000L, withinPercentage(10));
+    }
+
+    @Test
+    @DisplayName("p99 × multiplier가 범위를 벗어나면 min-ms / max-ms로 제한")
+    void leaseFor_clampsToRange() {
+        recordHolds(ORDER_KEY, 200, 10);
+        recordHolds(STOCK_KEY, 200, 20_000);
+
+        policy.refresh();
+
+        assertThat(policy.leaseFor(List.of(ORDER_KEY), TYPE, FALLBACK_MS)).isEqualTo(1_000L);
+        assertThat(policy.leaseFor(List.of(STOCK_KEY), TYPE, FALLBACK_MS)).isEqualTo(30_000L);
+    }
+
+    @Test
+    @DisplayName("여러 키는 가장 긴 값, 관측값이 없는 키가 섞이면 leaseTime 사용")
+    void leaseFor_multipleKeys() {
+        recordHolds(ORDER_KEY, 200, 10);
+        recordHolds(STOCK_KEY, 200, 20_000);
+
+        policy.refresh();
+
+        assertThat(policy.leaseFor(List.of(ORDER_KEY, STOCK_KEY), TYPE, FALLBACK_MS)).isEqualTo(30_000L);
+        assertThat(policy.leaseFor(List.of(ORDER_KEY, LockConstants.LOCK_PREFIX + "point:use:1"), TYPE, FALLBACK_MS))
+                .isEqualTo(FALLBACK_MS);
+    }
+
+    private void recordHolds(String key, int count, long holdMillis) {
+        for (int i = 0; i < count; i++) {
+            lockMetrics.recordHold(List.of(key), TYPE, TimeUnit.MILLISECONDS.toNanos(holdMillis));
+        }
+    }
+}
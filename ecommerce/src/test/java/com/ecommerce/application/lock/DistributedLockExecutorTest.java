@@ -0,0 +1,271 @@
+package com.ecommerce.application.lock;
+
+import com.ecommerce.application.lock.constant.LeaseMode;
+import com.ecommerce.application.lock.constant.LockConstants;
+import com.ecommerce.application.lock.constant.LockType;
+import com.ecommerce.application.lock.exception.LockAcquisitionException;
+import com.ecommerce.application.lock.strategy.LockHandle;
+import com.ecommerce.application.lock.strategy.LockStrategy;
+import com.ecommerce.application.lock.strategy.LockStrategyRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("분산 락 실행기 로컬 병합/넘겨주기 테스트")
+class DistributedLockExecutorTest {
+
+    private static final String KEY = LockConstants.LOCK_PREFIX + "test:1";
+    private static final LockType TYPE = LockType.PUB_SUB;
+    private static final long WAIT_TIME_MS = 5_000;
+    private static final long LEASE_TIME_MS = 10_000;
+
+    private FakeLockStrategy strategy;
+    private LockMetrics lockMetrics;
+    private LockWatchdog lockWatchdog;
+    private DistributedLockExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        strategy = new FakeLockStrategy();
+        lockMetrics = new LockMetrics(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(lockMetrics, "topKeysCapacity", 100);
+        lockMetrics.init();
+        lockWatchdog = new LockWatchdog(lockMetrics);
+
+        executor = new DistributedLockExecutor(
+                new LockStrategyRegistry(List.of(strategy)),
+                lockMetrics,
+                new AdaptiveLeasePolicy(lockMetrics),
+                lockWatchdog
+        );
+        ReflectionTestUtils.setField(executor, "handoffBudget", 16);
+    }
+
+    @AfterEach
+    void tearDown() {
+        lockWatchdog.shutdown();
+    }
+
+    @Test
+    @DisplayName("로컬 대기자가 있으면 Redis 락을 해제하지 않고 넘겨줌")
+    void handoff_toLocalWaiter() throws Exception {
+        CountDownLatch holding = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        Caller owner = new Caller(WAIT_TIME_MS, LEASE_TIME_MS, () -> {
+            holding.countDown();
+            finish.await();
+            return "owner";
+        });
+        owner.start();
+        holding.await();
+
+        Caller waiter = new Caller(WAIT_TIME_MS, LEASE_TIME_MS, () -> "waiter");
+        waiter.start();
+        waiter.awaitLocalWait();
+        finish.countDown();
+
+        assertThat(owner.result()).isEqualTo("owner");
+        assertThat(waiter.result()).isEqualTo("waiter");
+        assertThat(strategy.tryLocks).hasValue(1);
+        assertThat(strategy.releases).hasValue(1);
+        assertThat(strategy.isLocked(KEY)).isFalse();
+        assertThat(meters().handoff().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("넘겨받은 락이 이미 만료되어 다른 노드가 잡았으면 대기자는 타임아웃, 이후 호출은 새로 획득")
+    void handoff_expiredLockTimesOutWaiter() throws Exception {
+        long leaseTime = 100;
+        CountDownLatch holding = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        Caller owner = new Caller(WAIT_TIME_MS, leaseTime, () -> {
+            holding.countDown();
+            finish.await();
+            return "owner";
+        });
+        owner.start();
+        holding.await();
+
+        Caller waiter = new Caller(WAIT_TIME_MS, leaseTime, () -> "waiter");
+        waiter.start();
+        waiter.awaitLocalWait();
+
+        // 임대 시간의 절반 이상 보유하는 동안 락이 만료되어 다른 노드가 획득
+        Thread.sleep(leaseTime / 2 + 10);
+        strategy.takeOverByOtherNode(KEY);
+        finish.countDown();
+
+        assertThat(owner.result()).isEqualTo("owner");
+        assertThatThrownBy(waiter::result)
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(LockAcquisitionException.class);
+        assertThat(meters().leaseExpired().count()).isEqualTo(1.0);
+        assertThat(meters().timeout().count()).isEqualTo(1.0);
+        assertThat(meters().handoff().count()).isZero();
+
+        // 만료된 락을 들고 있지 않으므로 다른 노드가 해제하면 새로 획득
+        strategy.releaseByOtherNode(KEY);
+        assertThat(lock(leaseTime, () -> "next")).isEqualTo("next");
+        assertThat(strategy.tryLocks).hasValue(3);
+        assertThat(strategy.isLocked(KEY)).isFalse();
+    }
+
+    @Test
+    @DisplayName("같은 스레드가 같은 키로 재진입하면 Redis 락을 다시 잡지 않음")
+    void reentry_sameThread() throws Throwable {
+        Object result = lock(LEASE_TIME_MS, () -> lock(LEASE_TIME_MS, () -> "inner"));
+
+        assertThat(result).isEqualTo("inner");
+        assertThat(strategy.tryLocks).hasValue(1);
+        assertThat(strategy.releases).hasValue(1);
+        assertThat(strategy.isLocked(KEY)).isFalse();
+        assertThat(meters().handoff().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("넘겨받을 대기자가 빠져 마지막 사용자가 없어지면 남은 Redis 락 해제")
+    void unregister_releasesWhenLastUserLeaves() throws Exception {
+        CountDownLatch holding = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        Caller owner = new Caller(WAIT_TIME_MS, LEASE_TIME_MS, () -> {
+            holding.countDown();
+            finish.await();
+            return "owner";
+        });
+        owner.start();
+        holding.await();
+
+        // 로컬 락을 기다리는 대기자 등록 (보유자가 해제할 때 아직 대기 중)
+        Object slot = ReflectionTestUtils.invokeMethod(executor, "register", KEY);
+        finish.countDown();
+        assertThat(owner.result()).isEqualTo("owner");
+        assertThat(strategy.isLocked(KEY)).isTrue();
+        assertThat(strategy.releases).hasValue(0);
+
+        // 대기자가 로컬 락을 잡기 전에 타임아웃으로 빠짐
+        ReflectionTestUtils.invokeMethod(executor, "unregister", slot);
+
+        assertThat(strategy.isLocked(KEY)).isFalse();
+        assertThat(strategy.releases).hasValue(1);
+    }
+
+    private Object lock(long leaseTime, DistributedLockExecutor.LockedCall call) throws Throwable {
+        return executor.execute(List.of(KEY), TYPE, WAIT_TIME_MS, leaseTime, LeaseMode.FIXED, call);
+    }
+
+    private LockMetrics.Meters meters() {
+        return lockMetrics.getMeters().get(lockMetrics.meterKey(KEY, TYPE));
+    }
+
+    /**
+     * 별도 스레드에서 KEY 락을 잡고 실행
+     */
+    private final class Caller extends Thread {
+        private final long waitTime;
+        private final long leaseTime;
+        private final DistributedLockExecutor.LockedCall call;
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+
+        private Caller(long waitTime, long leaseTime, DistributedLockExecutor.LockedCall call) {
+            this.waitTime = waitTime;
+            this.leaseTime = leaseTime;
+            this.call = call;
+        }
+
+        @Override
+        public void run() {
+            try {
+                result.complete(executor.execute(List.of(KEY), TYPE, waitTime, leaseTime, LeaseMode.FIXED, call));
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        }
+
+        Object result() throws Exception {
+            return result.get(5, TimeUnit.SECONDS);
+        }
+
+        /**
+         * 로컬 락 대기(tryLock 타임아웃 대기)에 들어갈 때까지 대기
+         */
+        void awaitLocalWait() throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (getState() != State.TIMED_WAITING) {
+                assertThat(System.nanoTime()).isLessThan(deadline);
+                Thread.sleep(1);
+            }
+        }
+    }
+
+    /**
+     * 키별 소유자만 기록하는 Redis 락 대용 (대기 없이 1회 시도)
+     */
+    private static final class FakeLockStrategy implements LockStrategy {
+        private final Map<String, Object> owners = new ConcurrentHashMap<>();
+        private final AtomicInteger tryLocks = new AtomicInteger();
+        private final AtomicInteger releases = new AtomicInteger();
+
+        @Override
+        public LockType type() {
+            return TYPE;
+        }
+
+        @Override
+        public LockHandle tryLock(String key, long waitTime, long leaseTime) {
+            tryLocks.incrementAndGet();
+            Object owner = new Object();
+            return owners.putIfAbsent(key, owner) == null ? new FakeLockHandle(key, owner) : null;
+        }
+
+        boolean isLocked(String key) {
+            return owners.containsKey(key);
+        }
+
+        /**
+         * 임대 시간이 지나 풀린 락을 다른 노드가 획득
+         */
+        void takeOverByOtherNode(String key) {
+            owners.put(key, new Object());
+        }
+
+        void releaseByOtherNode(String key) {
+            owners.remove(key);
+        }
+
+        private final class FakeLockHandle implements LockHandle {
+            private final String key;
+            private final Object owner;
+
+            private FakeLockHandle(String key, Object owner) {
+                this.key = key;
+                this.owner = owner;
+            }
+
+            @Override
+            public boolean release() {
+                releases.incrementAndGet();
+                return owners.remove(key, owner);
+            }
+
+            @Override
+            public boolean extend(long leaseTime) {
+                return owners.get(key) == owner;
+            }
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.ecommerce.application.lock;
+
+import com.ecommerce.application.lock.constant.LockConstants;
+import com.ecommerce.application.lock.constant.LockType;
+import com.ecommerce.application.lock.strategy.LockHandle;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("락 임대 연장(Watchdog) 테스트")
+class LockWatchdogTest {
+
+    private static final String KEY = LockConstants.LOCK_PREFIX + "test:1";
+    private static final LockType TYPE = LockType.PUB_SUB;
+    private static final long LEASE_TIME_MS = 30;  // 10ms마다 연장
+
+    private LockMetrics lockMetrics;
+    private LockWatchdog lockWatchdog;
+
+    @BeforeEach
+    void setUp() {
+        lockMetrics = new LockMetrics(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(lockMetrics, "topKeysCapacity", 100);
+        lockMetrics.init();
+        lockWatchdog = new LockWatchdog(lockMetrics);
+    }
+
+    @AfterEach
+    void tearDown() {
+        lockWatchdog.shutdown();
+    }
+
+    @Test
+    @DisplayName("실행 중에는 임대 시간의 1/3마다 연장")
+    void renew_extendsWhileRunning() throws InterruptedException {
+        FakeLockHandle handle = new FakeLockHandle(true);
+
+        LockWatchdog.Renewal renewal = lockWatchdog.start(Map.of(KEY, handle), TYPE, LEASE_TIME_MS);
+        awaitUntil(() -> handle.extendCount.get() >= 3);
+        Set<String> expiredKeys = renewal.stop();
+
+        assertThat(expiredKeys).isEmpty();
+        assertThat(handle.lastLeaseTime).isEqualTo(LEASE_TIME_MS);
+    }
+
+    @Test
+    @DisplayName("stop 이후에는 연장하지 않음")
+    void stop_haltsRenewal() throws InterruptedException {
+        FakeLockHandle handle = new FakeLockHandle(true);
+
+        LockWatchdog.Renewal renewal = lockWatchdog.start(Map.of(KEY, handle), TYPE, LEASE_TIME_MS);
+        awaitUntil(() -> handle.extendCount.get() >= 1);
+        renewal.stop();
+        int extendCountAtStop = handle.extendCount.get();
+        Thread.sleep(LEASE_TIME_MS * 3);
+
+        assertThat(handle.extendCount).hasValue(extendCountAtStop);
+    }
+
+    @Test
+    @DisplayName("실행 중 임대가 만료되면 lock.lease.expired를 한 번만 집계하고 더 이상 연장하지 않음")
+    void renew_countsExpiryOnce() throws InterruptedException {
+        FakeLockHandle handle = new FakeLockHandle(false);
+
+        LockWatchdog.Renewal renewal = lockWatchdog.start(Map.of(KEY, handle), TYPE, LEASE_TIME_MS);
+        awaitUntil(() -> handle.extendCount.get() >= 1);
+        Thread.sleep(LEASE_TIME_MS * 3);
+        Set<String> expiredKeys = renewal.stop();
+
+        assertThat(expiredKeys).containsExactly(KEY);
+        assertThat(handle.extendCount).hasValue(1);
+        assertThat(lockMetrics.getMeters().get(lockMetrics.meterKey(KEY, TYPE)).leaseExpired().count())
+                .isEqualTo(1.0);
+    }
+
+    private void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(1);
+        }
+    }
+
+    private static final class FakeLockHandle implements LockHandle {
+        private final boolean held;
+        private final AtomicInteger extendCount = new AtomicInteger();
+        private volatile long lastLeaseTime;
+
+        private FakeLockHandle(boolean held) {
+            this.held = held;
+        }
+
+        @Override
+        public boolean release() {
+            return held;
+        }
+
+        @Override
+        public boolean extend(long leaseTime) {
+            extendCount.incrementAndGet();
+            lastLeaseTime = leaseTime;
+            return held;
+        }
+    }
+}
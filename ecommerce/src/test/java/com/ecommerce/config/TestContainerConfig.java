@@ -18,7 +18,8 @@ public abstract class TestContainerConfig {
         MYSQL_CONTAINER = new MySQLContainer<>("mysql:8.0")
                 .withDatabaseName("testdb")
                 .withUsername("test")
-                .withPassword("test");
+                .withPassword("test")
+                .withUrlParam("rewriteBatchedStatements", "true");
         MYSQL_CONTAINER.start();
 
         REDIS_CONTAINER = new RedisContainer(DockerImageName.parse("redis:7.0-alpine"));
@@ -38,5 +39,7 @@ public abstract class TestContainerConfig {
         registry.add("spring.data.redis.port", () -> REDIS_CONTAINER.getMappedPort(6379).toString());
 
         registry.add("spring.kafka.bootstrap-servers", KAFKA_CONTAINER::getBootstrapServers);
+
+        registry.add("ecommerce.id.node-id", () -> "0");
     }
 }
@@ -0,0 +1,97 @@
+package com.ecommerce.domain.common.id;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TSID 생성기 테스트")
+class TsidGeneratorTest {
+
+    // 공용 생성기는 JVM 전역이므로 같은 JVM의 다른 테스트(통합 테스트 컨텍스트 등)를 위해 복원
+    private Object sharedInstance;
+
+    @BeforeEach
+    void setUp() {
+        sharedInstance = ReflectionTestUtils.getField(TsidGenerator.class, "instance");
+        ReflectionTestUtils.setField(TsidGenerator.class, "instance", null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.setField(TsidGenerator.class, "instance", sharedInstance);
+    }
+
+    @Test
+    @DisplayName("연속 생성한 ID는 중복 없이 증가한다")
+    void nextId_monotonic() {
+        TsidGenerator generator = new TsidGenerator(1);
+
+        Set<Long> ids = new HashSet<>();
+        long previous = 0;
+        for (int i = 0; i < 10_000; i++) {
+            long id = generator.nextId();
+            assertThat(id).isGreaterThan(previous);
+            ids.add(id);
+            previous = id;
+        }
+
+        assertThat(ids).hasSize(10_000);
+    }
+
+    @Test
+    @DisplayName("시계가 되돌아가도 ID는 감소하지 않는다")
+    void nextId_clockBackwards() {
+        long[] now = {TsidGenerator.EPOCH + 10_000};
+        TsidGenerator generator = new TsidGenerator(1, () -> now[0]);
+
+        long first = generator.nextId();
+        now[0] -= 5_000;
+        long second = generator.nextId();
+
+        assertThat(second).isGreaterThan(first);
+    }
+
+    @Test
+    @DisplayName("ID에서 생성 시각과 노드를 복원할 수 있다")
+    void extractTimestamp() {
+        long before = System.currentTimeMillis();
+        long id = new TsidGenerator(7).nextId();
+        long after = System.currentTimeMillis();
+
+        assertThat(TsidGenerator.extractTimestamp(id)).isBetween(before, after);
+        assertThat((id >>> TsidGenerator.SEQUENCE_BITS) & TsidGenerator.MAX_NODE).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("노드 ID 범위를 벗어나면 예외가 발생한다")
+    void invalidNodeId() {
+        assertThatThrownBy(() -> new TsidGenerator(1024))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("공용 생성기는 초기화 후 노드 ID를 바꿀 수 없다")
+    void initialize_rejectsNodeIdChange() {
+        TsidGenerator.initialize(3);
+
+        TsidGenerator.initialize(3);
+        assertThatThrownBy(() -> TsidGenerator.initialize(4))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(TsidGenerator.getInstance().getNodeId()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("초기화 전에는 공용 생성기를 사용할 수 없다")
+    void getInstance_requiresInitialize() {
+        assertThatThrownBy(TsidGenerator::getInstance)
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
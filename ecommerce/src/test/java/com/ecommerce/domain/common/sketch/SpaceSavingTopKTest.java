@@ -0,0 +1,98 @@
+package com.ecommerce.domain.common.sketch;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Space-Saving 근사 Top-K 테스트")
+class SpaceSavingTopKTest {
+
+    @Test
+    @DisplayName("카운터가 남아 있으면 정확한 값을 유지한다")
+    void add_exactWithinCapacity() {
+        SpaceSavingTopK<Long> topK = new SpaceSavingTopK<>(10);
+
+        topK.add(1L, 5);
+        topK.add(2L, 3);
+        topK.add(1L, 2);
+        topK.add(3L, 10);
+
+        assertThat(topK.top(3)).extracting(SpaceSavingTopK.Entry::item).containsExactly(3L, 1L, 2L);
+        assertThat(topK.estimate(1L)).isEqualTo(7);
+        assertThat(topK.getTotal()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("가득 차면 최솟값 카운터를 넘겨받고 추정값은 실제값 이상이다")
+    void add_evictMinimum() {
+        SpaceSavingTopK<Long> topK = new SpaceSavingTopK<>(2);
+
+        topK.add(1L, 10);
+        topK.add(2L, 3);
+        topK.add(3L, 1);  // 2번(3)을 넘겨받음 → 4, error 3
+
+        assertThat(topK.estimate(2L)).isZero();
+        assertThat(topK.estimate(3L)).isEqualTo(4);
+        assertThat(topK.top(2).get(1).error()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("카운터 수는 1 이상이어야 한다")
+    void constructor_invalidCapacity() {
+        assertThatThrownBy(() -> new SpaceSavingTopK<Long>(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Zipf 분포 판매 스트림에서 실제 Top 5/20을 모두 찾는다")
+    void accuracy_zipf() {
+        int products = 5_000;
+        int orders = 100_000;
+        double[] cdf = zipfCdf(products, 1.1);
+        Random random = new Random(42);
+
+        SpaceSavingTopK<Long> topK = new SpaceSavingTopK<>(500);
+        Map<Long, Long> exact = new HashMap<>();
+
+        for (int i = 0; i < orders; i++) {
+            long productId = sample(cdf, random);
+            int quantity = 1 + random.nextInt(3);
+            topK.add(productId, quantity);
+            exact.merge(productId, (long) quantity, Long::sum);
+        }
+
+        for (int k : new int[]{5, 20}) {
+            Set<Long> exactTop = exact.entrySet().stream()
+                    .sorted(Map.Entry.<Long, Long>comparingByValue().reversed())
+                    .limit(k)
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toSet());
+
+            assertThat(topK.top(k)).extracting(SpaceSavingTopK.Entry::item)
+                    .containsExactlyInAnyOrderElementsOf(exactTop);
+        }
+    }
+
+    private double[] zipfCdf(int n, double s) {
+        double[] cdf = new double[n];
+        double sum = 0;
+        for (int i = 0; i < n; i++) {
+            sum += 1.0 / Math.pow(i + 1, s);
+            cdf[i] = sum;
+        }
+        for (int i = 0; i < n; i++) {
+            cdf[i] /= sum;
+        }
+        return cdf;
+    }
+
+    private long sample(double[] cdf, Random random) {
+        int index = Arrays.binarySearch(cdf, random.nextDouble());
+        return (index >= 0 ? index : -index - 1) + 1L;
+    }
+}
@@ -192,4 +192,42 @@ class CouponEventTest {
         // then
         assertThat(couponEvent.getRemainingQuantity()).isEqualTo(97);
     }
+
+    @Test
+    @DisplayName("정액 쿠폰 할인 금액 계산")
+    void calculateAmountDiscount() {
+        // given
+        CouponEvent couponEvent = new CouponEvent(
+            1L,
+            "신규 가입 쿠폰",
+            DiscountType.AMOUNT,
+            5000L,
+            100,
+            LocalDateTime.now().minusDays(1),
+            LocalDateTime.now().plusDays(7)
+        );
+
+        // when & then
+        assertThat(couponEvent.calculateDiscount(30000L)).isEqualTo(5000L);
+    }
+
+    @Test
+    @DisplayName("정률 쿠폰 할인 금액은 최대 할인액을 넘지 않음")
+    void calculateRateDiscountWithMaxAmount() {
+        // given
+        CouponEvent couponEvent = new CouponEvent(
+            1L,
+            "첫 구매 10% 할인",
+            DiscountType.RATE,
+            10,
+            50000,
+            100,
+            LocalDateTime.now().minusDays(1),
+            LocalDateTime.now().plusDays(7)
+        );
+
+        // when & then
+        assertThat(couponEvent.calculateDiscount(100000L)).isEqualTo(10000L);
+        assertThat(couponEvent.calculateDiscount(1000000L)).isEqualTo(50000L);
+    }
 }
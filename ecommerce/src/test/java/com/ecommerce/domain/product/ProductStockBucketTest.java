@@ -0,0 +1,44 @@
+package com.ecommerce.domain.product;
+
+import com.ecommerce.domain.product.exception.InsufficientStockException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ProductStockBucket 도메인 엔티티 테스트")
+class ProductStockBucketTest {
+
+    @Test
+    @DisplayName("버킷 생성 시 재고가 음수이면 예외 발생")
+    void createBucketWithNegativeStock() {
+        // when & then
+        assertThatThrownBy(() -> new ProductStockBucket(1L, 1L, 0, -1))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("재고는 0 이상이어야 합니다.");
+    }
+
+    @Test
+    @DisplayName("버킷 재고 차감 성공")
+    void decreaseStockSuccess() {
+        // given
+        ProductStockBucket bucket = new ProductStockBucket(1L, 1L, 0, 25);
+
+        // when
+        bucket.decreaseStock(10);
+
+        // then
+        assertThat(bucket.getStock()).isEqualTo(15);
+    }
+
+    @Test
+    @DisplayName("버킷 재고 부족 시 차감 실패")
+    void decreaseStockFail() {
+        // given
+        ProductStockBucket bucket = new ProductStockBucket(1L, 1L, 0, 5);
+
+        // when & then
+        assertThatThrownBy(() -> bucket.decreaseStock(6))
+            .isInstanceOf(InsufficientStockException.class);
+    }
+}
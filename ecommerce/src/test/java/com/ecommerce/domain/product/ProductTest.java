@@ -97,4 +97,42 @@ class ProductTest {
             .isInstanceOf(IllegalArgumentException.class)
             .hasMessage("복구 수량은 0보다 커야 합니다.");
     }
+
+    @Test
+    @DisplayName("분할 재고 전환 성공")
+    void enableStockStripingSuccess() {
+        // given
+        Product product = new Product(1L, "상품", "설명", 1000, 100);
+
+        // when
+        product.enableStockStriping(4);
+
+        // then
+        assertThat(product.isStockStriped()).isTrue();
+        assertThat(product.getStockBucketCount()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("분할 재고 버킷 수가 2 미만이면 예외 발생")
+    void enableStockStripingWithInvalidBucketCount() {
+        // given
+        Product product = new Product(1L, "상품", "설명", 1000, 100);
+
+        // when & then
+        assertThatThrownBy(() -> product.enableStockStriping(1))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("버킷 수는 2 이상이어야 합니다.");
+    }
+
+    @Test
+    @DisplayName("이미 분할 재고인 상품을 다시 분할하면 예외 발생")
+    void enableStockStripingTwice() {
+        // given
+        Product product = new Product(1L, "상품", "설명", 1000, 100);
+        product.enableStockStriping(4);
+
+        // when & then
+        assertThatThrownBy(() -> product.enableStockStriping(8))
+            .isInstanceOf(IllegalStateException.class);
+    }
 }
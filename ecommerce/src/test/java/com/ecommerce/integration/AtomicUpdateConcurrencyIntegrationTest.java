@@ -0,0 +1,169 @@
+package com.ecommerce.integration;
+
+import com.ecommerce.application.usecase.order.CreateOrderUseCase;
+import com.ecommerce.application.usecase.point.ChargePointUseCase;
+import com.ecommerce.config.TestContainerConfig;
+import com.ecommerce.domain.cart.CartItem;
+import com.ecommerce.domain.coupon.UserCoupon;
+import com.ecommerce.domain.product.Product;
+import com.ecommerce.domain.user.User;
+import com.ecommerce.infrastructure.repository.CartRepository;
+import com.ecommerce.infrastructure.repository.OrderRepository;
+import com.ecommerce.infrastructure.repository.ProductRepository;
+import com.ecommerce.infrastructure.repository.UserCouponRepository;
+import com.ecommerce.infrastructure.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "ecommerce.atomic-update.enabled=true")
+@DisplayName("조건부 UPDATE(락 없는 경로) 동시성 통합 테스트")
+class AtomicUpdateConcurrencyIntegrationTest extends TestContainerConfig {
+
+    private static final int THREAD_COUNT = 100;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserCouponRepository userCouponRepository;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ChargePointUseCase chargePointUseCase;
+
+    @Autowired
+    private CreateOrderUseCase createOrderUseCase;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        cartRepository.deleteAll();
+        orderRepository.deleteAll();
+        userCouponRepository.deleteAll();
+        productRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("decreaseStockAtomically - 100명이 재고 30개 동시 차감 시 30명만 성공, 재고 0")
+    void decreaseStockAtomically_concurrent() throws InterruptedException {
+        Product product = productRepository.save(new Product(null, "한정판", "재고 30개", 1000L, 30));
+
+        int success = runConcurrently(() -> transactionTemplate.executeWithoutResult(status ->
+                productRepository.decreaseStockAtomically(product.getId(), 1)));
+
+        assertThat(success).isEqualTo(30);
+        assertThat(productRepository.findByIdOrThrow(product.getId()).getStock()).isZero();
+    }
+
+    @Test
+    @DisplayName("usePointAtomically - 잔액 50,000원에 1,000원씩 100번 동시 차감 시 50번만 성공, 잔액 0")
+    void usePointAtomically_concurrent() throws InterruptedException {
+        User user = userRepository.save(new User(null, "유저", 50000L));
+
+        int success = runConcurrently(() -> transactionTemplate.executeWithoutResult(status ->
+                userRepository.usePointAtomically(user.getId(), 1000L)));
+
+        assertThat(success).isEqualTo(50);
+        assertThat(userRepository.findByIdOrThrow(user.getId()).getPointBalance()).isZero();
+    }
+
+    @Test
+    @DisplayName("chargePointAtomically - 1,000원씩 100번 동시 충전 시 유실 없이 100,000원 증가")
+    void chargePointAtomically_concurrent() throws InterruptedException {
+        User user = userRepository.save(new User(null, "유저", 0L));
+
+        int success = runConcurrently(() -> transactionTemplate.executeWithoutResult(status ->
+                userRepository.chargePointAtomically(user.getId(), 1000L)));
+
+        assertThat(success).isEqualTo(THREAD_COUNT);
+        assertThat(userRepository.findByIdOrThrow(user.getId()).getPointBalance()).isEqualTo(100000L);
+    }
+
+    @Test
+    @DisplayName("useAtomically - 같은 쿠폰 100번 동시 사용 시 1번만 성공")
+    void useAtomically_concurrent() throws InterruptedException {
+        UserCoupon userCoupon = userCouponRepository.save(new UserCoupon(
+                null, 1L, 1L, LocalDateTime.now().minusDays(1), LocalDateTime.now().plusDays(1)));
+
+        int success = runConcurrently(() -> transactionTemplate.executeWithoutResult(status ->
+                userCouponRepository.useAtomically(userCoupon.getId())));
+
+        assertThat(success).isEqualTo(1);
+        assertThat(userCouponRepository.findByIdOrThrow(userCoupon.getId()).isUsed()).isTrue();
+    }
+
+    @Test
+    @DisplayName("ChargePointUseCase - 원자적 모드에서 락 condition이 false로 평가되어 락 없이 충전, 유실 없음")
+    void chargePointUseCase_withoutLock() throws InterruptedException {
+        User user = userRepository.save(new User(null, "유저", 10000L));
+
+        assertThat(chargePointUseCase.isLockRequired()).isFalse();
+
+        int success = runConcurrently(() -> chargePointUseCase.execute(user.getId(), 1000L));
+
+        assertThat(success).isEqualTo(THREAD_COUNT);
+        assertThat(userRepository.findByIdOrThrow(user.getId()).getPointBalance()).isEqualTo(110000L);
+    }
+
+    @Test
+    @DisplayName("CreateOrderUseCase - 원자적 모드에서 같은 사용자 100번 동시 주문 시 장바구니는 한 번만 주문, 포인트는 조건부 UPDATE로 차감")
+    void createOrderUseCase_sameUserWithoutLock() throws InterruptedException {
+        User user = userRepository.save(new User(null, "유저", 100000L));
+        Product product = productRepository.save(new Product(null, "상품", "재고 100개", 15000L, 100));
+        cartRepository.save(new CartItem(null, user.getId(), product.getId(), 2));
+
+        int success = runConcurrently(() -> createOrderUseCase.execute(user.getId(), null));
+
+        assertThat(success).isEqualTo(1);
+        assertThat(orderRepository.count()).isEqualTo(1);
+        assertThat(userRepository.findByIdOrThrow(user.getId()).getPointBalance()).isEqualTo(70000L);
+        assertThat(productRepository.findByIdOrThrow(product.getId()).getStock()).isEqualTo(98);
+        assertThat(cartRepository.findByUserId(user.getId())).isEmpty();
+    }
+
+    private int runConcurrently(Runnable task) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(32);
+        CountDownLatch latch = new CountDownLatch(THREAD_COUNT);
+        AtomicInteger successCount = new AtomicInteger(0);
+
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            executorService.submit(() -> {
+                try {
+                    task.run();
+                    successCount.incrementAndGet();
+                } catch (Exception e) {
+                    // 재고/잔액 부족, 이미 사용된 쿠폰
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executorService.shutdown();
+        return successCount.get();
+    }
+}
@@ -0,0 +1,193 @@
+package com.ecommerce.integration;
+
+import com.ecommerce.config.TestContainerConfig;
+import com.ecommerce.domain.common.id.TsidGenerator;
+import com.ecommerce.domain.coupon.UserCoupon;
+import com.ecommerce.domain.order.OrderItem;
+import com.ecommerce.infrastructure.repository.OrderItemRepository;
+import com.ecommerce.infrastructure.repository.UserCouponRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ID 채번 방식별 INSERT 처리량 비교
+ * - 변경 전(IDENTITY): 같은 스키마에 AUTO_INCREMENT PK를 둔 비교 테이블에
+ *   Hibernate IDENTITY와 같은 방식(행마다 INSERT 1회 + 생성 키 조회)으로 저장
+ * - 변경 후(TSID): saveAll → hibernate.jdbc.batch_size 단위 배치 INSERT
+ */
+@SpringBootTest
+@DisplayName("배치 INSERT 처리량 벤치마크")
+@Tag("benchmark")
+class BatchInsertBenchmarkIntegrationTest extends TestContainerConfig {
+
+    private static final int WARMUP = 5;
+    private static final int ITERATIONS = 20;
+    private static final int COUPON_BATCH_SIZE = 100;
+    private static final int ORDER_LINE_COUNT = 20;
+    private static final String IDENTITY_PREFIX = "bench_identity_";
+
+    @Autowired
+    private UserCouponRepository userCouponRepository;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private long couponEventSequence;
+
+    @BeforeEach
+    void setUp() {
+        userCouponRepository.deleteAll();
+        orderItemRepository.deleteAll();
+        createIdentityTable("user_coupons");
+        createIdentityTable("order_items");
+    }
+
+    @Test
+    @DisplayName("쿠폰 100건 발급 - IDENTITY vs TSID 배치 INSERT")
+    void couponBatch() {
+        double before = measure(COUPON_BATCH_SIZE, () -> transactionTemplate.executeWithoutResult(status -> {
+            long eventId = ++couponEventSequence;
+            for (int i = 0; i < COUPON_BATCH_SIZE; i++) {
+                insertUserCouponRow(i, eventId);
+            }
+        }));
+
+        double after = measure(COUPON_BATCH_SIZE, () -> transactionTemplate.executeWithoutResult(status -> {
+            long eventId = ++couponEventSequence;
+            List<UserCoupon> coupons = new ArrayList<>(COUPON_BATCH_SIZE);
+            for (int i = 0; i < COUPON_BATCH_SIZE; i++) {
+                coupons.add(new UserCoupon(null, (long) i, eventId,
+                        LocalDateTime.now(), LocalDateTime.now().plusDays(7)));
+            }
+            userCouponRepository.saveAll(coupons);
+        }));
+
+        printResult("쿠폰 100건 발급", before, after);
+        assertThat(countRows(IDENTITY_PREFIX + "user_coupons")).isEqualTo((long) (WARMUP + ITERATIONS) * COUPON_BATCH_SIZE);
+        assertThat(userCouponRepository.count()).isEqualTo((long) (WARMUP + ITERATIONS) * COUPON_BATCH_SIZE);
+    }
+
+    @Test
+    @DisplayName("20개 상품 주문 아이템 - IDENTITY vs TSID 배치 INSERT")
+    void orderItems() {
+        double before = measure(ORDER_LINE_COUNT, () -> transactionTemplate.executeWithoutResult(status -> {
+            long orderId = TsidGenerator.getInstance().nextId();
+            for (int i = 0; i < ORDER_LINE_COUNT; i++) {
+                insertOrderItemRow(orderId, i);
+            }
+        }));
+
+        double after = measure(ORDER_LINE_COUNT, () -> transactionTemplate.executeWithoutResult(status -> {
+            long orderId = TsidGenerator.getInstance().nextId();
+            List<OrderItem> items = new ArrayList<>(ORDER_LINE_COUNT);
+            for (int i = 0; i < ORDER_LINE_COUNT; i++) {
+                items.add(new OrderItem(null, orderId, (long) i, "상품" + i, 1, 10000L));
+            }
+            orderItemRepository.saveAll(items);
+        }));
+
+        printResult("20개 상품 주문", before, after);
+        assertThat(countRows(IDENTITY_PREFIX + "order_items")).isEqualTo((long) (WARMUP + ITERATIONS) * ORDER_LINE_COUNT);
+        assertThat(orderItemRepository.count()).isEqualTo((long) (WARMUP + ITERATIONS) * ORDER_LINE_COUNT);
+    }
+
+    /**
+     * 같은 컬럼/인덱스에 PK만 AUTO_INCREMENT인 비교 테이블
+     */
+    private void createIdentityTable(String table) {
+        String identityTable = IDENTITY_PREFIX + table;
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + identityTable);
+        jdbcTemplate.execute("CREATE TABLE " + identityTable + " LIKE " + table);
+        jdbcTemplate.execute("ALTER TABLE " + identityTable + " MODIFY id BIGINT NOT NULL AUTO_INCREMENT");
+    }
+
+    private long countRows(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+    }
+
+    /**
+     * IDENTITY 저장: 행마다 INSERT 후 생성된 PK를 받아옴 (Hibernate가 persist마다 하는 것과 같음)
+     */
+    private void insertUserCouponRow(long userId, long eventId) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Timestamp endDate = Timestamp.valueOf(LocalDateTime.now().plusDays(7));
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                    "INSERT INTO " + IDENTITY_PREFIX + "user_coupons "
+                            + "(user_id, coupon_event_id, is_used, start_date, end_date, issued_at) "
+                            + "VALUES (?, ?, false, ?, ?, ?)",
+                    Statement.RETURN_GENERATED_KEYS);
+            ps.setLong(1, userId);
+            ps.setLong(2, eventId);
+            ps.setTimestamp(3, now);
+            ps.setTimestamp(4, endDate);
+            ps.setTimestamp(5, now);
+            return ps;
+        }, keyHolder);
+        assertThat(keyHolder.getKey()).isNotNull();
+    }
+
+    private void insertOrderItemRow(long orderId, long productId) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                    "INSERT INTO " + IDENTITY_PREFIX + "order_items "
+                            + "(order_id, product_id, product_name, quantity, price) "
+                            + "VALUES (?, ?, ?, 1, 10000)",
+                    Statement.RETURN_GENERATED_KEYS);
+            ps.setLong(1, orderId);
+            ps.setLong(2, productId);
+            ps.setString(3, "상품" + productId);
+            return ps;
+        }, keyHolder);
+        assertThat(keyHolder.getKey()).isNotNull();
+    }
+
+    /**
+     * @return 초당 INSERT 행 수
+     */
+    private double measure(int rowsPerRun, Runnable run) {
+        for (int i = 0; i < WARMUP; i++) {
+            run.run();
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            run.run();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        return (double) rowsPerRun * ITERATIONS / (elapsed / 1_000_000_000.0);
+    }
+
+    private void printResult(String scenario, double before, double after) {
+        System.out.println("\n=== " + scenario + " INSERT 처리량 ===");
+        System.out.printf("IDENTITY (행마다 INSERT + 생성 키 조회): %.0f rows/sec%n", before);
+        System.out.printf("배치 INSERT (TSID 방식): %.0f rows/sec%n", after);
+        System.out.printf("개선 배율: %.2fx%n", after / before);
+    }
+}
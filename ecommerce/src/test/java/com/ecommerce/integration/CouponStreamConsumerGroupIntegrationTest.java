@@ -0,0 +1,107 @@
+package com.ecommerce.integration;
+
+import com.ecommerce.config.TestContainerConfig;
+import com.ecommerce.infrastructure.redis.CouponIssueRequest;
+import com.ecommerce.infrastructure.redis.CouponRedisRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@DisplayName("쿠폰 발급 스트림 컨슈머 그룹 통합 테스트")
+class CouponStreamConsumerGroupIntegrationTest extends TestContainerConfig {
+
+    // DB에 없는 이벤트 ID를 사용해 드레인 스케줄러가 건드리지 않도록 함
+    private static final Long EVENT_ID = 990_001L;
+    private static final String STREAM_KEY = "ecommerce:async:coupon:stream:" + EVENT_ID;
+    private static final String LEGACY_QUEUE_KEY = "ecommerce:async:coupon:queue:" + EVENT_ID;
+    private static final String CONSUMER = "test-consumer";
+
+    @Autowired
+    private CouponRedisRepository couponRedisRepository;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.delete(List.of(
+                STREAM_KEY,
+                STREAM_KEY + ":dead",
+                LEGACY_QUEUE_KEY,
+                "ecommerce:async:coupon:issued:" + EVENT_ID,
+                "ecommerce:async:coupon:stock:" + EVENT_ID));
+        couponRedisRepository.initializeCouponStock(EVENT_ID, 10);
+    }
+
+    @Test
+    @DisplayName("정상 요청은 ACK 전까지 Pending에 남고, ACK하면 스트림에서 삭제")
+    void read_thenAcknowledge() {
+        couponRedisRepository.tryIssueCoupon(EVENT_ID, 1L);
+        couponRedisRepository.tryIssueCoupon(EVENT_ID, 2L);
+        couponRedisRepository.ensureConsumerGroup(EVENT_ID);
+
+        List<CouponIssueRequest> requests = couponRedisRepository.readIssueRequests(EVENT_ID, CONSUMER, 10);
+
+        assertThat(requests).extracting(CouponIssueRequest::userId).containsExactly(1L, 2L);
+        assertThat(pendingCount()).isEqualTo(2);
+
+        couponRedisRepository.acknowledge(EVENT_ID, requests.stream().map(CouponIssueRequest::recordId).toList());
+
+        assertThat(pendingCount()).isZero();
+        assertThat(couponRedisRepository.getQueueSize(EVENT_ID)).isZero();
+    }
+
+    @Test
+    @DisplayName("파싱 불가 요청은 데드레터로 옮기고 ACK - Pending에 남아 반복 회수되지 않음")
+    void read_deadLettersUnparseableRequests() {
+        couponRedisRepository.tryIssueCoupon(EVENT_ID, 1L);
+        redisTemplate.opsForStream().add(StreamRecords.newRecord().in(STREAM_KEY).ofMap(Map.of("userId", "abc")));
+        redisTemplate.opsForStream().add(StreamRecords.newRecord().in(STREAM_KEY).ofMap(Map.of("unknown", "1")));
+        couponRedisRepository.ensureConsumerGroup(EVENT_ID);
+
+        List<CouponIssueRequest> requests = couponRedisRepository.readIssueRequests(EVENT_ID, CONSUMER, 10);
+
+        assertThat(requests).extracting(CouponIssueRequest::userId).containsExactly(1L);
+        assertThat(pendingCount()).isEqualTo(1);
+        assertThat(couponRedisRepository.getQueueSize(EVENT_ID)).isEqualTo(1);
+        assertThat(couponRedisRepository.getDeadLetterSize(EVENT_ID)).isEqualTo(2);
+
+        // 회수 대상에도 정상 요청만 남음
+        List<CouponIssueRequest> claimed = couponRedisRepository.claimStaleRequests(
+                EVENT_ID, "other-consumer", Duration.ZERO, 10);
+        assertThat(claimed).extracting(CouponIssueRequest::userId).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("스트림 전환 전 대기열(List)의 요청은 순서대로 스트림으로 옮기고 대기열은 삭제")
+    void migrateLegacyQueue_movesToStream() {
+        couponRedisRepository.tryIssueCoupon(EVENT_ID, 1L);
+        for (long userId = 2; userId <= 6; userId++) {
+            redisTemplate.opsForList().rightPush(LEGACY_QUEUE_KEY, String.valueOf(userId));
+        }
+
+        long moved = couponRedisRepository.migrateLegacyQueue(EVENT_ID, 2);
+        couponRedisRepository.ensureConsumerGroup(EVENT_ID);
+        List<CouponIssueRequest> requests = couponRedisRepository.readIssueRequests(EVENT_ID, CONSUMER, 10);
+
+        assertThat(moved).isEqualTo(5);
+        assertThat(redisTemplate.hasKey(LEGACY_QUEUE_KEY)).isFalse();
+        assertThat(requests).extracting(CouponIssueRequest::userId).containsExactly(1L, 2L, 3L, 4L, 5L, 6L);
+        assertThat(couponRedisRepository.migrateLegacyQueue(EVENT_ID, 2)).isZero();
+    }
+
+    private long pendingCount() {
+        return redisTemplate.opsForStream().pending(STREAM_KEY, "coupon-issuer").getTotalPendingMessages();
+    }
+}
@@ -0,0 +1,142 @@
+package com.ecommerce.integration;
+
+import com.ecommerce.application.lock.AdaptiveLeasePolicy;
+import com.ecommerce.application.lock.DistributedLockExecutor;
+import com.ecommerce.application.lock.LockMetrics;
+import com.ecommerce.application.lock.LockWatchdog;
+import com.ecommerce.application.lock.constant.LeaseMode;
+import com.ecommerce.application.lock.constant.LockConstants;
+import com.ecommerce.application.lock.constant.LockType;
+import com.ecommerce.application.lock.exception.LockAcquisitionException;
+import com.ecommerce.application.lock.strategy.LockStrategyRegistry;
+import com.ecommerce.config.TestContainerConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 락 방식별 처리량 / 꼬리 지연 비교 (같은 키에 동시 호출자 10~500)
+ * - 호출자마다 획득 → 짧은 임계 구역 → 해제를 반복, 획득 대기 시간(요청~획득)을 기록
+ * - 임계 구역 안의 동시 실행 수를 세어 상호 배제가 지켜졌는지 함께 검증
+ * - 호출자마다 실행기(키별 로컬 슬롯)를 따로 두고 넘겨주기를 끔
+ *   → 같은 JVM 안에서 로컬 락으로 병합되지 않고 호출자 수만큼 Redis 락을 경쟁 (노드 여러 개와 같은 조건)
+ */
+@SpringBootTest(properties = "ecommerce.lock.local.handoff-budget=0")
+@DisplayName("락 방식별 경합 벤치마크")
+@Tag("benchmark")
+class LockStrategyBenchmarkIntegrationTest extends TestContainerConfig {
+
+    private static final int[] CONCURRENCY = {10, 50, 200, 500};
+    private static final int OPERATIONS = 1_000;
+    private static final long WAIT_TIME_MS = 30_000;
+    private static final long LEASE_TIME_MS = 5_000;
+
+    @Autowired
+    private LockStrategyRegistry lockStrategyRegistry;
+
+    @Autowired
+    private LockMetrics lockMetrics;
+
+    @Autowired
+    private AdaptiveLeasePolicy adaptiveLeasePolicy;
+
+    @Autowired
+    private LockWatchdog lockWatchdog;
+
+    @ParameterizedTest
+    @EnumSource(LockType.class)
+    @DisplayName("동시 호출자 수별 처리량과 획득 지연")
+    void contention(LockType type) throws Exception {
+        for (int callers : CONCURRENCY) {
+            String key = LockConstants.LOCK_PREFIX + "benchmark:" + type + ":" + callers;
+
+            List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+            AtomicInteger remaining = new AtomicInteger(OPERATIONS);
+            AtomicInteger failures = new AtomicInteger();
+            AtomicInteger active = new AtomicInteger();
+            AtomicInteger overlaps = new AtomicInteger();
+            CountDownLatch done = new CountDownLatch(callers);
+            ExecutorService executor = Executors.newFixedThreadPool(callers);
+
+            long start = System.nanoTime();
+            for (int i = 0; i < callers; i++) {
+                DistributedLockExecutor distributedLockExecutor = newNodeExecutor();
+                executor.submit(() -> {
+                    try {
+                        while (remaining.getAndDecrement() > 0) {
+                            long requested = System.nanoTime();
+                            try {
+                                distributedLockExecutor.execute(List.of(key), type, WAIT_TIME_MS, LEASE_TIME_MS, LeaseMode.FIXED, () -> {
+                                    latencies.add(System.nanoTime() - requested);
+                                    if (active.incrementAndGet() > 1) {
+                                        overlaps.incrementAndGet();
+                                    }
+                                    active.decrementAndGet();
+                                    return null;
+                                });
+                            } catch (LockAcquisitionException e) {
+                                failures.incrementAndGet();
+                            }
+                        }
+                    } catch (Throwable ignored) {
+                        failures.incrementAndGet();
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+            done.await();
+            double seconds = (System.nanoTime() - start) / 1e9;
+            executor.shutdown();
+
+            List<Long> sorted = new ArrayList<>(latencies);
+            Collections.sort(sorted);
+            System.out.printf(
+                    "[%s] 호출자 %3d: 성공 %4d, 실패 %4d, 처리량 %,8.0f ops/s, 획득 지연 p50 %6.1fms, p99 %7.1fms, max %7.1fms%n",
+                    type, callers, sorted.size(), failures.get(), sorted.size() / seconds,
+                    percentile(sorted, 0.50), percentile(sorted, 0.99), percentile(sorted, 1.0));
+
+            assertThat(overlaps.get()).isZero();
+            assertThat(sorted.size() + failures.get()).isEqualTo(OPERATIONS);
+            if (type != LockType.SIMPLE) {
+                assertThat(failures.get()).isZero();
+            }
+        }
+
+        // 로컬 병합 없이 매번 Redis 락을 새로 잡았는지 확인
+        LockMetrics.Meters meters = lockMetrics.getMeters().get(new LockMetrics.MeterKey("benchmark:" + type, type));
+        assertThat(meters.handoff().count()).isZero();
+    }
+
+    /**
+     * 노드 하나에 해당하는 실행기 (키별 로컬 슬롯을 다른 호출자와 공유하지 않음)
+     */
+    private DistributedLockExecutor newNodeExecutor() {
+        DistributedLockExecutor nodeExecutor =
+                new DistributedLockExecutor(lockStrategyRegistry, lockMetrics, adaptiveLeasePolicy, lockWatchdog);
+        ReflectionTestUtils.setField(nodeExecutor, "handoffBudget", 0);
+        return nodeExecutor;
+    }
+
+    private double percentile(List<Long> sorted, double p) {
+        if (sorted.isEmpty()) {
+            return 0;
+        }
+        int index = (int) Math.ceil(p * sorted.size()) - 1;
+        return sorted.get(Math.max(0, index)) / 1e6;
+    }
+}
@@ -227,7 +227,7 @@ class OrderApiIntegrationTest extends TestContainerConfig {
         mockMvc.perform(get("/api/v1/orders/{orderId}", orderId))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true))
-                .andExpect(jsonPath("$.data.orderId").value(orderId))
+                .andExpect(jsonPath("$.data.orderId").value(String.valueOf(orderId)))
                 .andExpect(jsonPath("$.data.originalAmount").value(20000))
                 .andExpect(jsonPath("$.data.finalAmount").value(20000))
                 .andExpect(jsonPath("$.data.items", hasSize(1)))
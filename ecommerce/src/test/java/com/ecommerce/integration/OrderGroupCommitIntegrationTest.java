@@ -0,0 +1,264 @@
+package com.ecommerce.integration;
+
+import com.ecommerce.application.usecase.order.CreateOrderUseCase;
+import com.ecommerce.application.usecase.order.service.OrderBatchProcessor;
+import com.ecommerce.application.usecase.order.service.OrderBatchProcessor.OrderCommand;
+import com.ecommerce.application.usecase.order.service.OrderBatchProcessor.OrderResult;
+import com.ecommerce.application.usecase.order.service.OrderGroupCommitEngine;
+import com.ecommerce.application.usecase.product.service.StripedStockService;
+import com.ecommerce.config.TestContainerConfig;
+import com.ecommerce.domain.cart.CartItem;
+import com.ecommerce.domain.cart.exception.EmptyCartException;
+import com.ecommerce.domain.point.exception.InsufficientPointException;
+import com.ecommerce.domain.product.Product;
+import com.ecommerce.domain.product.exception.InsufficientStockException;
+import com.ecommerce.domain.user.User;
+import com.ecommerce.infrastructure.repository.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "ecommerce.order.group-commit.enabled=true")
+@DisplayName("묶음 주문(Group Commit) 통합 테스트")
+class OrderGroupCommitIntegrationTest extends TestContainerConfig {
+
+    private static final long PRICE = 1000L;
+    private static final long BALANCE = 100000L;
+
+    @Autowired
+    private OrderGroupCommitEngine orderGroupCommitEngine;
+
+    @Autowired
+    private OrderBatchProcessor orderBatchProcessor;
+
+    @Autowired
+    private CreateOrderUseCase createOrderUseCase;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private StripedStockService stripedStockService;
+
+    @Autowired
+    private ProductStockBucketRepository productStockBucketRepository;
+
+    @BeforeEach
+    void setUp() {
+        cartRepository.deleteAll();
+        orderRepository.deleteAll();
+        productStockBucketRepository.deleteAll();
+        productRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("배치 성공 - 20명 동시 주문이 모두 성공하고 재고/포인트/장바구니 반영")
+    void groupCommit_allSucceed() throws InterruptedException {
+        Product product = productRepository.save(new Product(null, "상품", "재고 100개", PRICE, 100));
+        List<User> users = createUsersWithCart(product, 20, BALANCE);
+
+        int success = runConcurrently(users.size(), i ->
+                orderGroupCommitEngine.execute(users.get(i).getId(), null));
+
+        assertThat(success).isEqualTo(20);
+        assertThat(productRepository.findByIdOrThrow(product.getId()).getStock()).isEqualTo(80);
+        assertThat(orderRepository.count()).isEqualTo(20);
+        assertThat(cartRepository.count()).isZero();
+        for (User user : users) {
+            assertThat(userRepository.findByIdOrThrow(user.getId()).getPointBalance()).isEqualTo(BALANCE - PRICE);
+        }
+    }
+
+    @Test
+    @DisplayName("부분 실패 - 실패한 주문만 거절되고 같은 배치의 다른 주문은 커밋")
+    void groupCommit_partialFailure() {
+        Product product = productRepository.save(new Product(null, "상품", "재고 2개", PRICE, 2));
+        List<User> users = createUsersWithCart(product, 3, BALANCE);
+        User poorUser = createUsersWithCart(product, 1, 0L).get(0);
+        User emptyCartUser = userRepository.save(new User(null, "빈 장바구니", BALANCE));
+
+        List<OrderResult> results = orderBatchProcessor.process(List.of(
+                new OrderCommand(poorUser.getId(), null),
+                new OrderCommand(users.get(0).getId(), null),
+                new OrderCommand(emptyCartUser.getId(), null),
+                new OrderCommand(users.get(1).getId(), null),
+                new OrderCommand(users.get(2).getId(), null)
+        ));
+
+        assertThat(results.get(0).error()).isInstanceOf(InsufficientPointException.class);
+        assertThat(results.get(1).isSuccess()).isTrue();
+        assertThat(results.get(2).error()).isInstanceOf(EmptyCartException.class);
+        assertThat(results.get(3).isSuccess()).isTrue();
+        assertThat(results.get(4).error()).isInstanceOf(InsufficientStockException.class);
+
+        assertThat(productRepository.findByIdOrThrow(product.getId()).getStock()).isZero();
+        assertThat(orderRepository.count()).isEqualTo(2);
+        // 실패한 주문은 장바구니/포인트를 건드리지 않음
+        assertThat(cartRepository.findByUserId(users.get(2).getId())).hasSize(1);
+        assertThat(cartRepository.findByUserId(poorUser.getId())).hasSize(1);
+        assertThat(userRepository.findByIdOrThrow(users.get(2).getId()).getPointBalance()).isEqualTo(BALANCE);
+    }
+
+    @Test
+    @DisplayName("묶음 경로와 분산 락 경로 혼합 - 60명이 재고 30개 상품 주문 시 정확히 30명 성공")
+    void groupCommit_mixedWithLockPath() throws InterruptedException {
+        Product product = productRepository.save(new Product(null, "한정판", "재고 30개", PRICE, 30));
+        List<User> users = createUsersWithCart(product, 60, BALANCE);
+
+        // 짝수는 묶음 경로, 홀수는 개별(분산 락) 경로
+        int success = runConcurrently(users.size(), i -> {
+            Long userId = users.get(i).getId();
+            if (i % 2 == 0) {
+                orderGroupCommitEngine.execute(userId, null);
+            } else {
+                createOrderUseCase.execute(userId, null);
+            }
+        });
+
+        assertThat(success).isEqualTo(30);
+        assertThat(productRepository.findByIdOrThrow(product.getId()).getStock()).isZero();
+        assertThat(orderRepository.count()).isEqualTo(30);
+    }
+
+    @Test
+    @DisplayName("분할 재고 상품 - 개별 경로의 버킷 차감과 섞여도 배치는 잠근 버킷 기준으로 검증해 정확히 재고만큼 성공")
+    void groupCommit_stripedMixedWithLockPath() throws InterruptedException {
+        Product product = productRepository.save(new Product(null, "인기상품", "재고 30개", PRICE, 30));
+        stripedStockService.stripe(product.getId(), 4);
+        List<User> users = createUsersWithCart(product, 60, BALANCE);
+
+        int success = runConcurrently(users.size(), i -> {
+            Long userId = users.get(i).getId();
+            if (i % 2 == 0) {
+                orderGroupCommitEngine.execute(userId, null);
+            } else {
+                createOrderUseCase.execute(userId, null);
+            }
+        });
+
+        assertThat(success).isEqualTo(30);
+        assertThat(orderRepository.count()).isEqualTo(30);
+        assertThat(stripedStockService.sumStock(product.getId())).isZero();
+    }
+
+    @Test
+    @DisplayName("분할 재고 상품 부분 실패 - 부족한 주문만 거절되고 나머지는 커밋")
+    void groupCommit_stripedPartialFailure() {
+        Product product = productRepository.save(new Product(null, "인기상품", "재고 2개", PRICE, 2));
+        stripedStockService.stripe(product.getId(), 2);
+        List<User> users = createUsersWithCart(product, 3, BALANCE);
+
+        List<OrderResult> results = orderBatchProcessor.process(users.stream()
+                .map(user -> new OrderCommand(user.getId(), null))
+                .toList());
+
+        assertThat(results.get(0).isSuccess()).isTrue();
+        assertThat(results.get(1).isSuccess()).isTrue();
+        assertThat(results.get(2).error()).isInstanceOf(InsufficientStockException.class);
+        assertThat(stripedStockService.sumStock(product.getId())).isZero();
+        assertThat(orderRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("같은 사용자가 두 경로로 동시에 주문 - 장바구니는 한 번만 주문되고 포인트도 한 번만 차감")
+    void groupCommit_sameUserOnBothPaths() throws InterruptedException {
+        Product product = productRepository.save(new Product(null, "상품", "재고 100개", PRICE, 100));
+        List<User> users = createUsersWithCart(product, 20, BALANCE);
+
+        int success = runConcurrently(users.size() * 2, i -> {
+            Long userId = users.get(i / 2).getId();
+            if (i % 2 == 0) {
+                orderGroupCommitEngine.execute(userId, null);
+            } else {
+                createOrderUseCase.execute(userId, null);
+            }
+        });
+
+        assertThat(success).isEqualTo(20);
+        assertThat(orderRepository.count()).isEqualTo(20);
+        assertThat(productRepository.findByIdOrThrow(product.getId()).getStock()).isEqualTo(80);
+        for (User user : users) {
+            assertThat(userRepository.findByIdOrThrow(user.getId()).getPointBalance()).isEqualTo(BALANCE - PRICE);
+        }
+    }
+
+    @Test
+    @DisplayName("같은 사용자가 10번 동시 주문 - 두 번 주문할 잔액이 있어도 장바구니는 한 번만 주문")
+    void createOrder_sameUserConcurrently() throws InterruptedException {
+        User user = userRepository.save(new User(null, "중복주문유저", BALANCE));
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Product product = productRepository.save(new Product(null, "상품" + i, "재고 100개", 15000L, 100));
+            cartRepository.save(new CartItem(null, user.getId(), product.getId(), 1));
+            products.add(product);
+        }
+
+        int success = runConcurrently(10, i -> createOrderUseCase.execute(user.getId(), null));
+
+        assertThat(success).isEqualTo(1);
+        assertThat(orderRepository.count()).isEqualTo(1);
+        assertThat(userRepository.findByIdOrThrow(user.getId()).getPointBalance()).isEqualTo(BALANCE - 45000L);
+        for (Product product : products) {
+            assertThat(productRepository.findByIdOrThrow(product.getId()).getStock()).isEqualTo(99);
+        }
+    }
+
+    private List<User> createUsersWithCart(Product product, int count, long balance) {
+        List<User> users = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            User user = userRepository.save(new User(null, "유저" + i, balance));
+            cartRepository.save(new CartItem(null, user.getId(), product.getId(), 1));
+            users.add(user);
+        }
+        return users;
+    }
+
+    private interface IndexedTask {
+        void run(int index) throws Exception;
+    }
+
+    private int runConcurrently(int count, IndexedTask task) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(Math.min(count, 40));
+        CountDownLatch latch = new CountDownLatch(count);
+        AtomicInteger successCount = new AtomicInteger(0);
+
+        for (int i = 0; i < count; i++) {
+            final int index = i;
+            executorService.submit(() -> {
+                try {
+                    task.run(index);
+                    successCount.incrementAndGet();
+                } catch (Exception e) {
+                    // 재고 부족, 빈 장바구니
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executorService.shutdown();
+        return successCount.get();
+    }
+}
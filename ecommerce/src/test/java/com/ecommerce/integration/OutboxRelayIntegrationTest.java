@@ -0,0 +1,130 @@
+package com.ecommerce.integration;
+
+import com.ecommerce.config.TestContainerConfig;
+import com.ecommerce.domain.order.event.OrderCreatedEvent;
+import com.ecommerce.domain.outbox.OutboxEvent;
+import com.ecommerce.domain.outbox.OutboxEventStatus;
+import com.ecommerce.infrastructure.kafka.outbox.OutboxBatchRelay;
+import com.ecommerce.infrastructure.kafka.outbox.OutboxEventAppender;
+import com.ecommerce.infrastructure.repository.OutboxEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.kafka.KafkaException;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.support.SendResult;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@DisplayName("아웃박스 릴레이 통합 테스트")
+class OutboxRelayIntegrationTest extends TestContainerConfig {
+
+    private static final String TOPIC = "ecommerce.outbox.relay.test.v1";
+    private static final String BROKER_FAILURE_KEY = "broker-failure";
+
+    @Autowired
+    private OutboxBatchRelay outboxBatchRelay;
+
+    @Autowired
+    private OutboxEventAppender outboxEventAppender;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @BeforeEach
+    void setUp() {
+        outboxEventRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("정상 이벤트는 발행 후 삭제")
+    void relay_publishesAndDeletes() throws Exception {
+        outboxEventAppender.append(TOPIC, "1", new OrderCreatedEvent(1L, 1L, 1000L, List.of(1L)));
+        outboxEventAppender.append(TOPIC, "2", new OrderCreatedEvent(2L, 2L, 1000L, List.of(2L)));
+
+        int relayed = outboxBatchRelay.relay(10);
+
+        assertThat(relayed).isEqualTo(2);
+        assertThat(outboxEventRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("역직렬화 불가 행은 FAILED로 남기고 같은 배치의 정상 이벤트는 발행")
+    void relay_isolatesUndeserializableRows() throws Exception {
+        outboxEventAppender.append(TOPIC, "1", new OrderCreatedEvent(1L, 1L, 1000L, List.of(1L)));
+        outboxEventRepository.save(new OutboxEvent(null, TOPIC, "2", "com.ecommerce.removed.LegacyEvent", "{}"));
+        outboxEventRepository.save(new OutboxEvent(null, TOPIC, "3", OrderCreatedEvent.class.getName(), "{not-json"));
+        outboxEventAppender.append(TOPIC, "4", new OrderCreatedEvent(4L, 4L, 1000L, List.of(4L)));
+
+        int relayed = outboxBatchRelay.relay(10);
+
+        assertThat(relayed).isEqualTo(4);
+        assertThat(outboxEventRepository.findByStatus(OutboxEventStatus.PENDING)).isEmpty();
+        List<OutboxEvent> failed = outboxEventRepository.findByStatus(OutboxEventStatus.FAILED);
+        assertThat(failed).extracting(OutboxEvent::getEventKey).containsExactlyInAnyOrder("2", "3");
+        assertThat(failed).allSatisfy(event -> assertThat(event.getFailureReason()).isNotBlank());
+    }
+
+    @Test
+    @DisplayName("FAILED 행은 다시 선점하지 않아 이후 이벤트 발행이 막히지 않음")
+    void relay_skipsFailedRows() throws Exception {
+        outboxEventRepository.save(new OutboxEvent(null, TOPIC, "1", "com.ecommerce.removed.LegacyEvent", "{}"));
+        outboxBatchRelay.relay(1);
+
+        outboxEventAppender.append(TOPIC, "2", new OrderCreatedEvent(2L, 2L, 1000L, List.of(2L)));
+        int relayed = outboxBatchRelay.relay(1);
+
+        assertThat(relayed).isEqualTo(1);
+        assertThat(outboxEventRepository.findByStatus(OutboxEventStatus.PENDING)).isEmpty();
+        assertThat(outboxEventRepository.findByStatus(OutboxEventStatus.FAILED)).hasSize(1);
+        assertThat(outboxBatchRelay.relay(1)).isZero();
+    }
+
+    @Test
+    @DisplayName("배치 중간에 브로커 전송이 실패하면 FAILED 표시까지 롤백되어 모든 행이 PENDING으로 남음")
+    void relay_rollsBackOnBrokerFailure() {
+        outboxEventAppender.append(TOPIC, "1", new OrderCreatedEvent(1L, 1L, 1000L, List.of(1L)));
+        outboxEventAppender.append(TOPIC, BROKER_FAILURE_KEY, new OrderCreatedEvent(2L, 2L, 1000L, List.of(2L)));
+        outboxEventRepository.save(new OutboxEvent(null, TOPIC, "3", "com.ecommerce.removed.LegacyEvent", "{}"));
+        outboxEventAppender.append(TOPIC, "4", new OrderCreatedEvent(4L, 4L, 1000L, List.of(4L)));
+
+        assertThatThrownBy(() -> outboxBatchRelay.relay(10))
+                .isInstanceOf(ExecutionException.class);
+
+        assertThat(outboxEventRepository.count()).isEqualTo(4);
+        assertThat(outboxEventRepository.findByStatus(OutboxEventStatus.PENDING)).hasSize(4);
+        assertThat(outboxEventRepository.findByStatus(OutboxEventStatus.FAILED)).isEmpty();
+    }
+
+    /**
+     * BROKER_FAILURE_KEY 이벤트만 브로커 전송 실패로 응답하는 KafkaTemplate
+     */
+    @TestConfiguration
+    static class BrokerFailureConfig {
+
+        @Bean
+        @SuppressWarnings("unchecked")
+        KafkaTemplate<String, Object> kafkaTemplate(ProducerFactory<?, ?> producerFactory) {
+            return new KafkaTemplate<>((ProducerFactory<String, Object>) producerFactory) {
+                @Override
+                public CompletableFuture<SendResult<String, Object>> send(String topic, String key, Object data) {
+                    if (BROKER_FAILURE_KEY.equals(key)) {
+                        return CompletableFuture.failedFuture(new KafkaException("브로커 전송 실패"));
+                    }
+                    return super.send(topic, key, data);
+                }
+            };
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.ecommerce.integration;
 
+import com.ecommerce.application.usecase.product.GetPopularProductsUseCase;
+import com.ecommerce.application.usecase.product.service.ProductCacheInvalidationService;
 import com.ecommerce.config.TestContainerConfig;
 import com.ecommerce.domain.cart.CartItem;
 import com.ecommerce.domain.order.Order;
@@ -8,6 +10,7 @@ import com.ecommerce.domain.product.Product;
 import com.ecommerce.domain.user.User;
 import com.ecommerce.infrastructure.repository.*;
 import com.ecommerce.presentation.dto.order.CreateOrderRequest;
+import com.ecommerce.presentation.dto.product.PopularProductResponse;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -24,6 +27,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -296,6 +300,37 @@ class PopularProductApiIntegrationTest extends TestContainerConfig {
         assertThat(avgTime).isLessThan(300.0);  // 평균 300ms 이하
     }
 
+    @Test
+    @DisplayName("인기 상품 캐시는 재고 없이 저장하고 응답 시점의 재고를 붙임 - 재고 변경 시 랭킹 캐시 유지")
+    void getPopularProducts_attachesStockAtResponseTime() throws Exception {
+        // given: 랭킹만 캐시에 적재
+        Cache popularCache = cacheManager.getCache(ProductCacheInvalidationService.POPULAR_PRODUCTS_CACHE);
+        popularCache.put(GetPopularProductsUseCase.DEFAULT_CACHE_KEY, PopularProductResponse.from(
+                List.of(products.get(0), products.get(1)),
+                Map.of(products.get(0).getId(), 50, products.get(1).getId(), 40),
+                LocalDateTime.now().minusDays(3)));
+
+        mockMvc.perform(get("/api/v1/products/popular"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.products", hasSize(2)))
+                .andExpect(jsonPath("$.data.products[0].stock").value(1000))
+                .andExpect(jsonPath("$.data.products[0].salesCount").value(50));
+
+        // when: 재고 변경 (재고 키만 무효화)
+        productRepository.decreaseStockAtomically(products.get(0).getId(), 100);
+        cacheManager.getCache(ProductCacheInvalidationService.PRODUCT_STOCK_CACHE).evict(products.get(0).getId());
+
+        // then: 랭킹 캐시는 그대로, 재고는 최신 값
+        mockMvc.perform(get("/api/v1/products/popular"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.products[0].stock").value(900))
+                .andExpect(jsonPath("$.data.products[1].stock").value(1000));
+
+        PopularProductResponse cached = popularCache.get(GetPopularProductsUseCase.DEFAULT_CACHE_KEY, PopularProductResponse.class);
+        assertThat(cached).isNotNull();
+        assertThat(cached.products()).allSatisfy(product -> assertThat(product.stock()).isNull());
+    }
+
     /**
      * quantity개씩 count번 주문 생성
      */
@@ -0,0 +1,112 @@
+package com.ecommerce.integration;
+
+import com.ecommerce.config.TestContainerConfig;
+import com.ecommerce.domain.product.Product;
+import com.ecommerce.infrastructure.redis.ProductRankingRepository;
+import com.ecommerce.infrastructure.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+@DisplayName("상품 랭킹 페이지 API 통합 테스트")
+class ProductRankingApiIntegrationTest extends TestContainerConfig {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductRankingRepository productRankingRepository;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    private List<Product> products;
+
+    @BeforeEach
+    void setUp() {
+        Set<String> keys = redisTemplate.keys("ecommerce:cache:ranking:*");
+        if (keys != null && !keys.isEmpty()) {
+            redisTemplate.delete(keys);
+        }
+
+        // 상품 25개, i번째 상품 판매량 i개 → 마지막 상품이 1위
+        products = new ArrayList<>();
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        for (int i = 1; i <= 25; i++) {
+            Product product = productRepository.save(new Product(null, "상품" + i, "설명" + i, 1000L * i, 100));
+            products.add(product);
+            quantities.put(product.getId(), i);
+        }
+        productRankingRepository.incrementTodayRanking(quantities);
+    }
+
+    @Test
+    @DisplayName("커서로 끝까지 페이지 조회")
+    void getProductRanking_pagesToEndWithCursor() throws Exception {
+        mockMvc.perform(get("/api/v1/products/ranking").param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.products", hasSize(10)))
+                .andExpect(jsonPath("$.data.products[0].rank").value(1))
+                .andExpect(jsonPath("$.data.products[0].id").value(products.get(24).getId()))
+                .andExpect(jsonPath("$.data.products[0].salesCount").value(25))
+                .andExpect(jsonPath("$.data.nextCursor").value(10));
+
+        mockMvc.perform(get("/api/v1/products/ranking").param("size", "10").param("cursor", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.products", hasSize(10)))
+                .andExpect(jsonPath("$.data.products[0].rank").value(11))
+                .andExpect(jsonPath("$.data.products[0].id").value(products.get(14).getId()))
+                .andExpect(jsonPath("$.data.nextCursor").value(20));
+
+        mockMvc.perform(get("/api/v1/products/ranking").param("size", "10").param("cursor", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.products", hasSize(5)))
+                .andExpect(jsonPath("$.data.products[4].rank").value(25))
+                .andExpect(jsonPath("$.data.products[4].id").value(products.get(0).getId()))
+                .andExpect(jsonPath("$.data.nextCursor").value(nullValue()));
+    }
+
+    @Test
+    @DisplayName("슬라이딩 윈도우(24시간) 랭킹 페이지 조회")
+    void getProductRanking_slidingWindow() throws Exception {
+        mockMvc.perform(get("/api/v1/products/ranking").param("window", "24h").param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.window").value("24h"))
+                .andExpect(jsonPath("$.data.products", hasSize(5)))
+                .andExpect(jsonPath("$.data.products[0].id").value(products.get(24).getId()))
+                .andExpect(jsonPath("$.data.nextCursor").value(5));
+    }
+
+    @Test
+    @DisplayName("잘못된 페이지 크기/기간은 400")
+    void getProductRanking_rejectsInvalidRequest() throws Exception {
+        mockMvc.perform(get("/api/v1/products/ranking").param("size", "101"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/api/v1/products/ranking").param("window", "30d"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,134 @@
+package com.ecommerce.integration;
+
+import com.ecommerce.application.usecase.order.CreateOrderUseCase;
+import com.ecommerce.application.usecase.product.service.ProductCacheInvalidationService;
+import com.ecommerce.application.usecase.product.service.ProductStockCacheService;
+import com.ecommerce.config.TestContainerConfig;
+import com.ecommerce.domain.cart.CartItem;
+import com.ecommerce.domain.product.Product;
+import com.ecommerce.domain.user.User;
+import com.ecommerce.infrastructure.repository.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+@SpringBootTest(properties = "ecommerce.sse.push-interval-ms=100")
+@AutoConfigureMockMvc
+@DisplayName("상품 실시간 스트림(SSE) 통합 테스트")
+class ProductStreamIntegrationTest extends TestContainerConfig {
+
+    private static final long WAIT_MS = 5000;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CreateOrderUseCase createOrderUseCase;
+
+    @Autowired
+    private ProductStockCacheService productStockCacheService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @BeforeEach
+    void setUp() {
+        cartRepository.deleteAll();
+        orderRepository.deleteAll();
+        productRepository.deleteAll();
+        userRepository.deleteAll();
+        cacheManager.getCache(ProductCacheInvalidationService.PRODUCT_STOCK_CACHE).clear();
+    }
+
+    @Test
+    @DisplayName("구독 시 현재 재고를 받고, 주문 커밋 후 바뀐 재고를 변화량과 함께 받음")
+    void stream_pushesStockAfterOrder() throws Exception {
+        Product product = productRepository.save(new Product(null, "상품", "재고 10개", 1000L, 10));
+
+        MvcResult result = subscribe(product.getId());
+        awaitContent(result, "\"stock\":10");
+
+        order(product, 2);
+
+        String content = awaitContent(result, "\"stock\":8");
+        assertThat(content).contains("\"delta\":-2");
+    }
+
+    @Test
+    @DisplayName("연속 변경은 순서대로 전송")
+    void stream_sendsChangesInOrder() throws Exception {
+        Product product = productRepository.save(new Product(null, "상품", "재고 10개", 1000L, 10));
+
+        MvcResult result = subscribe(product.getId());
+        awaitContent(result, "\"stock\":10");
+
+        order(product, 1);
+        awaitContent(result, "\"stock\":9");
+        order(product, 3);
+        String content = awaitContent(result, "\"stock\":6");
+
+        assertThat(content.indexOf("\"stock\":9")).isLessThan(content.indexOf("\"stock\":6"));
+    }
+
+    @Test
+    @DisplayName("재고 푸시용 조회는 캐시에 남은 이전 값이 아니라 DB 값을 사용")
+    void loadStocks_bypassesCache() {
+        Product product = productRepository.save(new Product(null, "상품", "재고 10개", 1000L, 7));
+        Cache stockCache = cacheManager.getCache(ProductCacheInvalidationService.PRODUCT_STOCK_CACHE);
+        stockCache.put(product.getId(), 10);
+
+        assertThat(productStockCacheService.getStocks(List.of(product.getId()))).containsEntry(product.getId(), 10);
+        assertThat(productStockCacheService.loadStocks(List.of(product.getId()))).containsEntry(product.getId(), 7);
+    }
+
+    private MvcResult subscribe(Long productId) throws Exception {
+        return mockMvc.perform(get("/api/v1/products/stream")
+                        .param("productIds", String.valueOf(productId))
+                        .param("ranking", "false"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+
+    private void order(Product product, int quantity) {
+        User user = userRepository.save(new User(null, "유저", 100000L));
+        cartRepository.save(new CartItem(null, user.getId(), product.getId(), quantity));
+        createOrderUseCase.execute(user.getId(), null);
+    }
+
+    private String awaitContent(MvcResult result, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + WAIT_MS;
+        String content = result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        while (!content.contains(expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+            content = result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        }
+        assertThat(content).contains(expected);
+        return content;
+    }
+}
@@ -0,0 +1,224 @@
+package com.ecommerce.integration;
+
+import com.ecommerce.application.usecase.order.CreateOrderUseCase;
+import com.ecommerce.application.usecase.order.service.StockReservationService;
+import com.ecommerce.application.usecase.product.service.StripedStockService;
+import com.ecommerce.config.TestContainerConfig;
+import com.ecommerce.domain.cart.CartItem;
+import com.ecommerce.domain.product.Product;
+import com.ecommerce.domain.user.User;
+import com.ecommerce.infrastructure.redis.ProductStockRedisRepository;
+import com.ecommerce.infrastructure.repository.CartRepository;
+import com.ecommerce.infrastructure.repository.OrderRepository;
+import com.ecommerce.infrastructure.repository.ProductRepository;
+import com.ecommerce.infrastructure.repository.ProductStockBucketRepository;
+import com.ecommerce.infrastructure.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "ecommerce.order.stock-reservation.enabled=true",
+        "ecommerce.order.stock-reservation.ttl-ms=2000"
+})
+@DisplayName("Redis 재고 예약 게이트 통합 테스트")
+class StockReservationIntegrationTest extends TestContainerConfig {
+
+    private static final String STOCK_KEY_PREFIX = "ecommerce:product:stock-reservation:";
+
+    @Autowired
+    private CreateOrderUseCase createOrderUseCase;
+
+    @Autowired
+    private StockReservationService stockReservationService;
+
+    @Autowired
+    private StripedStockService stripedStockService;
+
+    @Autowired
+    private ProductStockRedisRepository productStockRedisRepository;
+
+    @Autowired
+    private ProductStockBucketRepository productStockBucketRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @BeforeEach
+    void setUp() {
+        cartRepository.deleteAll();
+        orderRepository.deleteAll();
+        productStockBucketRepository.deleteAll();
+        productRepository.deleteAll();
+        userRepository.deleteAll();
+
+        Set<String> keys = redisTemplate.keys(STOCK_KEY_PREFIX + "*");
+        if (keys != null && !keys.isEmpty()) {
+            redisTemplate.delete(keys);
+        }
+    }
+
+    @Test
+    @DisplayName("예약 키는 TTL과 함께 DB 재고로 초기화")
+    void reserve_initializesWithTtl() {
+        Product product = productRepository.save(new Product(null, "상품", "재고 10개", 1000L, 10));
+
+        order(product, 1);
+
+        assertThat(redisStock(product)).isEqualTo(9);
+        assertThat(redisTemplate.getExpire(STOCK_KEY_PREFIX + product.getId(), TimeUnit.MILLISECONDS))
+                .isPositive()
+                .isLessThanOrEqualTo(2000);
+    }
+
+    @Test
+    @DisplayName("주문 외 경로로 DB 재고가 바뀌면 resync 후 다음 예약부터 반영")
+    void resync_appliesDbStock() {
+        Product product = productRepository.save(new Product(null, "상품", "재고 10개", 1000L, 10));
+        order(product, 1);
+
+        // 입고 (주문 외 경로)
+        Product restocked = productRepository.findByIdOrThrow(product.getId());
+        restocked.increaseStock(20);
+        productRepository.save(restocked);
+        stockReservationService.resync(List.of(product.getId()));
+
+        order(product, 1);
+
+        assertThat(redisStock(product)).isEqualTo(28);
+        assertThat(productRepository.findByIdOrThrow(product.getId()).getStock()).isEqualTo(28);
+    }
+
+    @Test
+    @DisplayName("resync 없이 DB 재고가 바뀌어도 TTL 만료 후 DB 재고로 다시 초기화")
+    void reserve_reinitializesAfterTtl() throws InterruptedException {
+        Product product = productRepository.save(new Product(null, "상품", "재고 1개", 1000L, 1));
+        order(product, 1);
+        assertThat(redisStock(product)).isZero();
+
+        Product restocked = productRepository.findByIdOrThrow(product.getId());
+        restocked.increaseStock(5);
+        productRepository.save(restocked);
+
+        Thread.sleep(2500);
+        order(product, 1);
+
+        assertThat(redisStock(product)).isEqualTo(4);
+        assertThat(productRepository.findByIdOrThrow(product.getId()).getStock()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("30명이 재고 10개 상품 동시 주문 - 10명 성공, 예약 재고와 DB 재고 모두 0")
+    void reserve_concurrentOrders() throws InterruptedException {
+        Product product = productRepository.save(new Product(null, "한정판", "재고 10개", 1000L, 10));
+
+        List<User> users = new ArrayList<>();
+        for (int i = 1; i <= 30; i++) {
+            User user = userRepository.save(new User(null, "유저" + i, 100000L));
+            cartRepository.save(new CartItem(null, user.getId(), product.getId(), 1));
+            users.add(user);
+        }
+
+        ExecutorService executorService = Executors.newFixedThreadPool(30);
+        CountDownLatch latch = new CountDownLatch(users.size());
+        AtomicInteger successCount = new AtomicInteger(0);
+
+        for (User user : users) {
+            executorService.submit(() -> {
+                try {
+                    createOrderUseCase.execute(user.getId(), null);
+                    successCount.incrementAndGet();
+                } catch (Exception e) {
+                    // 재고 부족 실패
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executorService.shutdown();
+
+        assertThat(successCount.get()).isEqualTo(10);
+        assertThat(orderRepository.count()).isEqualTo(10);
+        assertThat(productRepository.findByIdOrThrow(product.getId()).getStock()).isZero();
+        assertThat(redisStock(product)).isZero();
+    }
+
+    @Test
+    @DisplayName("예약 이후 키가 다시 초기화되면 이전 예약의 롤백 수량은 새 재고에 더하지 않음")
+    void release_skipsReinitializedKey() {
+        Product product = productRepository.save(new Product(null, "상품", "재고 10개", 1000L, 10));
+        CartItem cartItem = new CartItem(null, 1L, product.getId(), 3);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            stockReservationService.reserve(List.of(cartItem));
+            assertThat(redisStock(product)).isEqualTo(7);
+
+            // 예약이 끝나기 전에 다른 요청이 키를 DB 재고로 다시 초기화
+            productStockRedisRepository.evict(List.of(product.getId()));
+            productStockRedisRepository.initializeStockIfAbsent(product.getId(), 10, Duration.ofSeconds(2));
+            status.setRollbackOnly();
+        });
+
+        assertThat(redisStock(product)).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("분할 재고 상품은 products.stock이 아닌 버킷 합계로 초기화")
+    void reserve_initializesStripedProductFromBucketSum() {
+        Product product = productRepository.save(new Product(null, "핫딜", "재고 10개", 1000L, 10));
+        stripedStockService.stripe(product.getId(), 2);
+
+        // 버킷에서만 차감되어 products.stock(표시용)은 아직 10
+        transactionTemplate.executeWithoutResult(status ->
+                productStockBucketRepository.decreaseStockIfAvailable(product.getId(), 0, 4));
+
+        stockReservationService.reserve(List.of(new CartItem(null, 1L, product.getId(), 1)));
+
+        assertThat(productRepository.findByIdOrThrow(product.getId()).getStock()).isEqualTo(10);
+        assertThat(redisStock(product)).isEqualTo(5);
+    }
+
+    private void order(Product product, int quantity) {
+        User user = userRepository.save(new User(null, "유저", 100000L));
+        cartRepository.save(new CartItem(null, user.getId(), product.getId(), quantity));
+        createOrderUseCase.execute(user.getId(), null);
+    }
+
+    private long redisStock(Product product) {
+        return productStockRedisRepository.getStock(product.getId());
+    }
+}
@@ -0,0 +1,188 @@
+package com.ecommerce.integration;
+
+import com.ecommerce.application.usecase.order.CreateOrderUseCase;
+import com.ecommerce.application.usecase.product.service.StripedStockService;
+import com.ecommerce.config.TestContainerConfig;
+import com.ecommerce.domain.cart.CartItem;
+import com.ecommerce.domain.product.Product;
+import com.ecommerce.domain.product.ProductStockBucket;
+import com.ecommerce.domain.product.exception.InsufficientStockException;
+import com.ecommerce.domain.user.User;
+import com.ecommerce.infrastructure.repository.*;
+import com.ecommerce.infrastructure.scheduler.StripedStockSyncScheduler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "management.endpoints.web.exposure.include=health,metrics,locks,stockstripes")
+@AutoConfigureMockMvc
+@DisplayName("분할 재고 통합 테스트")
+class StripedStockIntegrationTest extends TestContainerConfig {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CreateOrderUseCase createOrderUseCase;
+
+    @Autowired
+    private StripedStockService stripedStockService;
+
+    @Autowired
+    private StripedStockSyncScheduler stripedStockSyncScheduler;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductStockBucketRepository productStockBucketRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        cartRepository.deleteAll();
+        orderRepository.deleteAll();
+        productStockBucketRepository.deleteAll();
+        productRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("분할 전환 시 재고를 버킷에 균등 분배 (나머지는 앞 버킷부터)")
+    void stripe_distributesEvenly() {
+        Product product = productRepository.save(new Product(null, "핫딜", "재고 10개", 1000L, 10));
+
+        stripedStockService.stripe(product.getId(), 3);
+
+        List<Integer> stocks = productStockBucketRepository.findAll().stream()
+                .sorted((a, b) -> Integer.compare(a.getBucketNo(), b.getBucketNo()))
+                .map(ProductStockBucket::getStock)
+                .toList();
+        assertThat(stocks).containsExactly(4, 3, 3);
+        assertThat(productRepository.findByIdOrThrow(product.getId()).getStockBucketCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("운영 엔드포인트로 분할 전환")
+    void stripe_viaActuator() throws Exception {
+        Product product = productRepository.save(new Product(null, "핫딜", "재고 100개", 1000L, 100));
+
+        mockMvc.perform(post("/actuator/stockstripes/" + product.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"bucketCount\": 4}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.bucketCount").value(4))
+                .andExpect(jsonPath("$.bucketStock").value(100));
+    }
+
+    @Test
+    @DisplayName("한 버킷으로 부족하면 여러 버킷에 나누어 차감")
+    void decreaseStock_acrossBuckets() {
+        Product product = productRepository.save(new Product(null, "핫딜", "재고 6개", 1000L, 6));
+        stripedStockService.stripe(product.getId(), 3);
+
+        order(product, 5);
+
+        assertThat(stripedStockService.sumStock(product.getId())).isEqualTo(1);
+        assertThatThrownBy(() -> order(product, 2)).isInstanceOf(InsufficientStockException.class);
+        assertThat(stripedStockService.sumStock(product.getId())).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("READ COMMITTED 트랜잭션이 아니면 차감 거부")
+    void decreaseStock_requiresReadCommitted() {
+        Product product = productRepository.save(new Product(null, "핫딜", "재고 6개", 1000L, 6));
+        stripedStockService.stripe(product.getId(), 3);
+        Product striped = productRepository.findByIdOrThrow(product.getId());
+
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status ->
+                stripedStockService.decreaseStock(striped, 1)))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(stripedStockService.sumStock(product.getId())).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("100명이 1~3개씩 동시 주문 - 데드락 없이 버킷 합계가 성공 수량만큼 정확히 감소")
+    void decreaseStock_concurrentOrders() throws InterruptedException {
+        Product product = productRepository.save(new Product(null, "핫딜", "재고 120개", 1000L, 120));
+        stripedStockService.stripe(product.getId(), 8);
+
+        List<User> users = new ArrayList<>();
+        for (int i = 1; i <= 100; i++) {
+            User user = userRepository.save(new User(null, "유저" + i, 100000L));
+            cartRepository.save(new CartItem(null, user.getId(), product.getId(), i % 3 + 1));
+            users.add(user);
+        }
+
+        ExecutorService executorService = Executors.newFixedThreadPool(50);
+        CountDownLatch latch = new CountDownLatch(users.size());
+        AtomicInteger orderedQuantity = new AtomicInteger(0);
+        AtomicInteger insufficientCount = new AtomicInteger(0);
+        AtomicInteger unexpectedCount = new AtomicInteger(0);
+
+        for (int i = 0; i < users.size(); i++) {
+            final int index = i;
+            executorService.submit(() -> {
+                try {
+                    createOrderUseCase.execute(users.get(index).getId(), null);
+                    orderedQuantity.addAndGet((index + 1) % 3 + 1);
+                } catch (InsufficientStockException e) {
+                    insufficientCount.incrementAndGet();
+                } catch (Exception e) {
+                    // 데드락, 락 타임아웃 등
+                    unexpectedCount.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executorService.shutdown();
+
+        assertThat(unexpectedCount.get()).isZero();
+        assertThat(stripedStockService.sumStock(product.getId())).isEqualTo(120 - orderedQuantity.get());
+        assertThat(stripedStockService.sumStock(product.getId())).isGreaterThanOrEqualTo(0);
+
+        // 표시용 재고는 동기화 작업이 버킷 합계로 맞춘다
+        stripedStockSyncScheduler.syncStripedStocks();
+        assertThat(productRepository.findByIdOrThrow(product.getId()).getStock())
+                .isEqualTo(120 - orderedQuantity.get());
+    }
+
+    private void order(Product product, int quantity) {
+        User user = userRepository.save(new User(null, "유저", 100000L));
+        cartRepository.save(new CartItem(null, user.getId(), product.getId(), quantity));
+        createOrderUseCase.execute(user.getId(), null);
+    }
+}